@@ -0,0 +1,32 @@
+// 가상 스레드 적용 전/후 처리량 비교용 k6 시나리오
+// 실행 : k6 run -e BASE_URL=http://localhost:8080 load-test/calendar-read.js
+// 비교 : 같은 데이터로 spring.threads.virtual.enabled=false / true 두 번 실행 후 http_reqs, http_req_duration 비교
+//        --summary-export load-test/results/calendar-read-vt-{off,on}.json 으로 저장해 README 표에 옮김
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        monthly_events: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },  // 기본 Tomcat 스레드(200)를 넘는 동시 요청
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const year = 2025;
+    const month = (__ITER % 12) + 1;
+    const res = http.get(`${BASE_URL}/api/v1/calendar/events/${year}/${month}`);
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,125 @@
+#!/usr/bin/env bash
+# 기동 명령을 실행하고 /actuator/health 가 200 을 줄 때까지 걸린 시간(ms)을 출력한 뒤 종료
+# 실행 : load-test/time-to-health.sh java -jar build/libs/LeaveBridge-0.0.1-SNAPSHOT.jar
+# 비교 : load-test/time-to-health.sh --compare
+#        README "빠른 기동 패키징 (AOT + CDS)" 의 네 가지 방식(기본, AOT, CDS, CDS + AOT)을 차례로 빌드해 각각 RUNS 회 실행,
+#        회차별 값과 중앙값 표를 출력하고 load-test/results/time-to-health-{시각}.md 로 저장
+#        저장소 루트에서 실행, 같은 서버·DB 를 쓰도록 APP_ARGS/AOT_ARGS 를 운영과 맞춤
+#        예) APP_ARGS="--spring.profiles.active=prod" AOT_ARGS="--spring.profiles.active=prod" load-test/time-to-health.sh --compare
+set -u
+
+HEALTH_URL=${HEALTH_URL:-http://localhost:8080/actuator/health}
+TIMEOUT_SEC=${TIMEOUT_SEC:-180}
+RUNS=${RUNS:-5}
+APP_ARGS=${APP_ARGS:-}
+AOT_ARGS=${AOT_ARGS:-}
+JAR_NAME=${JAR_NAME:-LeaveBridge-0.0.1-SNAPSHOT.jar}
+LOG_FILE=/tmp/time-to-health.log
+
+pid=
+stop_app() {
+  if [[ -n "$pid" ]]; then
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+    pid=
+  fi
+}
+trap stop_app EXIT
+
+# 명령 한 번 실행 -> health 200 까지 걸린 ms 를 출력하고 앱 종료, 실패하면 1
+measure() {
+  if curl -fs -o /dev/null "$HEALTH_URL"; then
+    echo "이미 $HEALTH_URL 이 응답 중 - 다른 인스턴스를 먼저 종료" >&2
+    return 1
+  fi
+  local start
+  start=$(date +%s%N)
+  "$@" > "$LOG_FILE" 2>&1 &
+  pid=$!
+
+  while true; do
+    if curl -fs -o /dev/null "$HEALTH_URL"; then
+      echo $(( ($(date +%s%N) - start) / 1000000 ))
+      stop_app
+      return 0
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "기동 실패 (로그: $LOG_FILE)" >&2
+      pid=
+      return 1
+    fi
+    if (( ($(date +%s%N) - start) / 1000000000 > TIMEOUT_SEC )); then
+      echo "${TIMEOUT_SEC}초 안에 health 응답 없음 (로그: $LOG_FILE)" >&2
+      stop_app
+      return 1
+    fi
+    sleep 0.1
+  done
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# 방식 하나를 빌드하고 RUNS 회 측정 -> "| 이름 | 회차별 | 중앙값 |" 한 줄
+compare_variant() {
+  local name=$1 build=$2 run=$3
+  echo "== $name : 빌드 ($build)" >&2
+  if ! bash -c "$build" >&2; then
+    echo "| $name | 빌드 실패 | - |"
+    return
+  fi
+  local values=() value
+  for (( i = 1; i <= RUNS; i++ )); do
+    if ! value=$(measure bash -c "$run"); then
+      echo "| $name | ${i}회차 기동 실패 | - |"
+      return
+    fi
+    echo "   ${i}/${RUNS}: ${value}ms" >&2
+    values+=("$value")
+  done
+  echo "| $name | ${values[*]} | $(printf '%s\n' "${values[@]}" | median) |"
+}
+
+compare() {
+  local aot=(-PfastStart)
+  [[ -n "$AOT_ARGS" ]] && aot+=("-PaotArgs=\"$AOT_ARGS\"")
+  local rows=()
+  rows+=("$(compare_variant "기본" "./gradlew -q bootJar" \
+    "exec java -jar build/libs/$JAR_NAME $APP_ARGS")")
+  rows+=("$(compare_variant "AOT" "./gradlew -q bootJar ${aot[*]}" \
+    "exec java -Dspring.aot.enabled=true -jar build/libs/$JAR_NAME $APP_ARGS")")
+  rows+=("$(compare_variant "CDS" "./gradlew -q cdsArchive" \
+    "cd build/cds && exec java -XX:SharedArchiveFile=application.jsa -jar $JAR_NAME $APP_ARGS")")
+  rows+=("$(compare_variant "CDS + AOT" "./gradlew -q cdsArchive ${aot[*]}" \
+    "cd build/cds && exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar $JAR_NAME $APP_ARGS")")
+
+  local dir result
+  dir=$(dirname "$0")/results
+  mkdir -p "$dir"
+  result="$dir/time-to-health-$(date +%Y%m%d-%H%M%S).md"
+  {
+    echo "# time-to-health ($(date '+%Y-%m-%d %H:%M'))"
+    echo
+    echo "- 호스트: $(uname -srm), CPU $(nproc 2>/dev/null || echo '?')개"
+    echo "- JDK: $(java -version 2>&1 | head -1)"
+    echo "- 실행 인자: ${APP_ARGS:-(없음)}, AOT 빌드 인자: ${AOT_ARGS:-(없음)}, 방식별 ${RUNS}회"
+    echo
+    echo "| 방식 | 회차별 (ms) | 중앙값 (ms) |"
+    echo "|---|---|---|"
+    printf '%s\n' "${rows[@]}"
+  } | tee "$result"
+  echo "저장: $result" >&2
+}
+
+if [[ "${1:-}" == "--compare" ]]; then
+  compare
+  exit 0
+fi
+
+if (( $# == 0 )); then
+  sed -n '2,8p' "$0" | sed 's/^# \{0,1\}//' >&2
+  exit 1
+fi
+value=$(measure "$@") || exit 1
+echo "time-to-health: ${value}ms"
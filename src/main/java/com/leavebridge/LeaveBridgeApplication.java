@@ -4,21 +4,29 @@ import java.util.TimeZone;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.leavebridge.global.aot.LeaveBridgeRuntimeHints;
+
 @SpringBootApplication
 @EnableScheduling
 @EnableRetry
 @EnableJpaAuditing
 @EnableFeignClients(basePackages = "com.leavebridge.calendar.api")
+@ImportRuntimeHints(LeaveBridgeRuntimeHints.class)
 public class LeaveBridgeApplication {
 
 	public static void main(String[] args) {
 		TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
-		SpringApplication.run(LeaveBridgeApplication.class, args);
+		SpringApplication application = new SpringApplication(LeaveBridgeApplication.class);
+		// 기동 단계별 소요 시간 기록 (StartupTimingLogger, /actuator/startup)
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,227 @@
+package com.leavebridge.calendar.api;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp;
+import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v5.Apache5HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.store.FileDataStoreFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.CalendarScopes;
+import com.leavebridge.calendar.exception.GoogleCalendarUnavailableException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구글 캘린더 클라이언트를 기동 후 백그라운드에서 준비
+ * - 예전에는 빈 생성 중에 OAuth 인증(로컬 8888 포트에서 브라우저 응답 대기)을 해서 토큰이 없거나 만료되면 기동이 멈췄음
+ * - 기동이 끝난 뒤(ApplicationReadyEvent) 가상 스레드에서 저장된 토큰을 읽고, 없으면 인증을 기다림
+ * - 준비 전 호출은 GoogleCalendarUnavailableException -> 일정 변경은 DB 에만 반영되고 구글 반영은 미뤄짐
+ * - 만료가 가까운 액세스 토큰은 주기적으로 미리 갱신, 실패했으면 다시 준비 시도
+ * - health 의 googleCalendar 항목(/actuator/health/google)으로 준비 상태 노출
+ */
+@Component("googleCalendar")
+@Slf4j
+public class GoogleCalendarClientProvider implements HealthIndicator {
+
+	private static final String APPLICATION_NAME = "LeaveBridge";
+	private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+	private static final String TOKENS_DIR = "tokens";
+	private static final List<String> SCOPES = Collections.singletonList(CalendarScopes.CALENDAR);
+	private static final String CREDENTIALS_PATH = "/credentials.json";
+	private static final String USER_ID = "user";
+
+	@RequiredArgsConstructor
+	@Getter
+	public enum State {
+		INITIALIZING("준비 중"),
+
+		AWAITING_AUTHORIZATION("브라우저 인증 대기"),
+
+		READY("사용 가능"),
+
+		FAILED("준비 실패"),
+
+		DISABLED("사용 안 함");
+
+		private final String description;
+	}
+
+	private final CloseableHttpClient httpClient;
+	private final boolean enabled;
+	private final boolean interactiveAuthorization;
+	private final Duration refreshBefore;
+	private final Duration connectTimeout;
+	private final Duration readTimeout;
+
+	private volatile State state = State.INITIALIZING;
+	private volatile Calendar client;
+	private volatile Credential credential;
+	private volatile String failure;
+
+	public GoogleCalendarClientProvider(CloseableHttpClient httpClient,
+		@Value("${google.calendar.auth.enabled:true}") boolean enabled,
+		@Value("${google.calendar.auth.interactive:true}") boolean interactiveAuthorization,
+		@Value("${google.calendar.auth.refresh-before:5m}") Duration refreshBefore,
+		@Value("${http.client.connect-timeout:3s}") Duration connectTimeout,
+		@Value("${http.client.read-timeout:20s}") Duration readTimeout) {
+		this.httpClient = httpClient;
+		this.enabled = enabled;
+		this.interactiveAuthorization = interactiveAuthorization;
+		this.refreshBefore = refreshBefore;
+		this.connectTimeout = connectTimeout;
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * 준비된 클라이언트, 아직이면 바로 실패 (기다리지 않음)
+	 */
+	public Calendar get() {
+		Calendar current = client;
+		if (current == null) {
+			throw new GoogleCalendarUnavailableException("구글 캘린더 인증이 아직 준비되지 않았습니다. (" + state.getDescription() + ")");
+		}
+		return current;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initializeInBackground() {
+		if (!enabled) {
+			state = State.DISABLED;
+			log.info("GoogleCalendarClientProvider :: google.calendar.auth.enabled=false, 구글 캘린더 클라이언트를 만들지 않음");
+			return;
+		}
+		Thread.ofVirtual().name("google-calendar-init").start(this::initialize);
+	}
+
+	/**
+	 * 만료가 가까우면 미리 갱신 (요청 처리 중에 갱신하느라 늦어지지 않도록), 준비에 실패했으면 다시 시도
+	 */
+	@Scheduled(fixedDelayString = "${google.calendar.auth.refresh-check-interval-ms:60000}",
+		initialDelayString = "${google.calendar.auth.refresh-check-interval-ms:60000}")
+	public void refreshIfExpiring() {
+		if (!enabled) {
+			return;
+		}
+		if (state == State.FAILED) {
+			initialize();
+			return;
+		}
+		Credential current = credential;
+		if (state != State.READY || current == null) {
+			return;
+		}
+		Long expiresIn = current.getExpiresInSeconds();
+		if (expiresIn != null && expiresIn > refreshBefore.toSeconds()) {
+			return;
+		}
+		try {
+			if (current.refreshToken()) {
+				log.info("GoogleCalendarClientProvider :: 액세스 토큰 미리 갱신, 만료까지 {}초", current.getExpiresInSeconds());
+			} else {
+				log.warn("GoogleCalendarClientProvider :: 액세스 토큰 갱신 실패 (리프레시 토큰 확인 필요)");
+			}
+		} catch (Exception e) {
+			log.warn("GoogleCalendarClientProvider :: 액세스 토큰 갱신 중 오류 :: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 준비 전에도 DB 반영은 되므로 전체 health 는 내리지 않도록 UP 이 아닌 상태는 별도 Status 로 보고
+	 * - 전체 health 집계에서는 UP 보다 뒤로 밀려 영향 없음, /actuator/health/google 그룹에서만 503 으로 매핑 (application.yml)
+	 */
+	@Override
+	public Health health() {
+		Health.Builder builder = state == State.READY ? Health.up() : Health.status(state.name());
+		if (failure != null && state == State.FAILED) {
+			builder.withDetail("error", failure);
+		}
+		return builder.build();
+	}
+
+	private synchronized void initialize() {
+		if (state == State.READY || state == State.AWAITING_AUTHORIZATION) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		state = State.INITIALIZING;
+		try {
+			HttpTransport httpTransport = new Apache5HttpTransport(httpClient);
+			GoogleAuthorizationCodeFlow flow = buildFlow(httpTransport);
+
+			// 저장된 토큰이 있으면 바로 사용, 없으면 브라우저 인증을 기다림 (기동과 무관)
+			Credential loaded = flow.loadCredential(USER_ID);
+			if (loaded == null || loaded.getRefreshToken() == null) {
+				if (!interactiveAuthorization) {
+					throw new IllegalStateException("저장된 구글 토큰이 없습니다. (" + TOKENS_DIR + ")");
+				}
+				state = State.AWAITING_AUTHORIZATION;
+				log.warn("GoogleCalendarClientProvider :: 저장된 구글 토큰이 없어 브라우저 인증을 기다립니다. (포트 8888)");
+				LocalServerReceiver receiver = new LocalServerReceiver.Builder().setPort(8888).build();
+				loaded = new AuthorizationCodeInstalledApp(flow, receiver).authorize(USER_ID);
+			}
+
+			credential = loaded;
+			client = buildClient(httpTransport, loaded);
+			failure = null;
+			state = State.READY;
+			log.info("GoogleCalendarClientProvider :: 구글 캘린더 클라이언트 준비 완료 {}ms",
+				Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+		} catch (Exception e) {
+			failure = e.getMessage();
+			state = State.FAILED;
+			log.error("GoogleCalendarClientProvider :: 구글 캘린더 클라이언트 준비 실패, 주기적으로 다시 시도", e);
+		}
+	}
+
+	private GoogleAuthorizationCodeFlow buildFlow(HttpTransport httpTransport) throws Exception {
+		InputStream in = getClass().getResourceAsStream(CREDENTIALS_PATH);
+		if (in == null) {
+			throw new IllegalStateException("클래스패스에 " + CREDENTIALS_PATH + " 가 없습니다.");
+		}
+		GoogleClientSecrets clientSecrets = GoogleClientSecrets.load(JSON_FACTORY, new InputStreamReader(in));
+		return new GoogleAuthorizationCodeFlow.Builder(httpTransport, JSON_FACTORY, clientSecrets, SCOPES)
+			.setDataStoreFactory(new FileDataStoreFactory(new File(TOKENS_DIR)))
+			.setAccessType("offline")
+			.build();
+	}
+
+	/**
+	 * 사용자가 소유하거나 구독중인 캘린더, 요청마다 기본 20초 대신 설정한 타임아웃 적용 (인증 헤더는 credential 이 붙임)
+	 */
+	private Calendar buildClient(HttpTransport httpTransport, Credential authorized) {
+		return new Calendar.Builder(httpTransport, JSON_FACTORY, request -> {
+			authorized.initialize(request);
+			request.setConnectTimeout((int)connectTimeout.toMillis());
+			request.setReadTimeout((int)readTimeout.toMillis());
+		})
+			.setApplicationName(APPLICATION_NAME)
+			.build();
+	}
+}
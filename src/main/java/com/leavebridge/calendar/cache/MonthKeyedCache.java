@@ -0,0 +1,168 @@
+package com.leavebridge.calendar.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.leavebridge.global.cache.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월(YearMonth) 단위 조회 결과 캐시
+ * - 일정 변경(CalendarChangeEvent)이 커밋되면 영향 기간에 걸친 월만 제거 (MonthKeyedCacheRegistry)
+ * - 조회 중에 무효화가 끼어들면 그 결과는 저장하지 않음 (세대 번호 비교)
+ * - 다른 노드에서 일어난 변경은 알 수 없으므로 TTL 로 최대 지연을 제한
+ * - 무효화 직후 다시 채우는 값이 TTL 동안 공유되므로 loader 는 Primary 에서 읽음 (MonthKeyedCacheRegistry)
+ * - 같은 월을 동시에 읽으면 loader 는 한 번만 실행 (SingleFlight, 키에 세대 번호를 넣어 무효화 이후 요청은 새로 읽음)
+ * - refreshAhead 가 있으면 만료가 그만큼 남았을 때 조회한 요청은 현재 값을 바로 받고, 새 값은 백그라운드에서 읽어 둠
+ */
+@Slf4j
+public final class MonthKeyedCache<V> {
+
+	private record Entry<V>(V value, long expiresAtNanos) {
+	}
+
+	private record LoadKey(YearMonth month, long generation) {
+	}
+
+	private final String name;
+	private final long ttlNanos;
+	private final ConcurrentHashMap<YearMonth, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter refreshes;
+	private final SingleFlight<LoadKey, V> loads;
+	private final long refreshAheadNanos;
+	private final Executor refreshExecutor;
+	private final TransactionOperations loadTransaction;
+
+	MonthKeyedCache(String name, Duration ttl, Duration refreshAhead, MeterRegistry meterRegistry,
+		Executor refreshExecutor, TransactionOperations loadTransaction) {
+		this.name = name;
+		this.ttlNanos = ttl.toNanos();
+		this.hits = counter(meterRegistry, name, "hit");
+		this.misses = counter(meterRegistry, name, "miss");
+		this.refreshes = counter(meterRegistry, name, "refresh-ahead");
+		this.loads = new SingleFlight<>("month-cache." + name, meterRegistry);
+		// 너무 길면 저장 직후부터 매 조회가 갱신을 부르므로 TTL 의 절반까지만, 0 이면 사용 안 함
+		this.refreshAheadNanos = Math.min(Math.max(0, refreshAhead.toNanos()), ttlNanos / 2);
+		this.refreshExecutor = refreshExecutor;
+		this.loadTransaction = loadTransaction;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 캐시된 값, 없거나 만료됐으면 loader 로 읽어 저장
+	 * - 같은 월을 읽는 중인 요청이 있으면 그 결과를 기다림
+	 * - loader 는 loadTransaction 안에서 실행 - 호출한 쪽이 트랜잭션 없이 불러야 새 트랜잭션(Primary)으로 읽음
+	 */
+	public V get(YearMonth month, Function<YearMonth, V> loader) {
+		Entry<V> entry = entries.get(month);
+		long now = System.nanoTime();
+		if (entry != null && entry.expiresAtNanos() - now > 0) {
+			hits.increment();
+			if (entry.expiresAtNanos() - now < refreshAheadNanos) {
+				refreshAhead(month, loader);
+			}
+			return entry.value();
+		}
+		misses.increment();
+
+		long loadGeneration = generation.get();
+		return loads.execute(new LoadKey(month, loadGeneration), () -> {
+			V loaded = loadTransaction.execute(status -> loader.apply(month));
+			put(month, loaded, loadGeneration);
+			return loaded;
+		});
+	}
+
+	/**
+	 * 캐시에 있으면 값, 없으면 null (적재하지 않음)
+	 */
+	public V getIfPresent(YearMonth month) {
+		Entry<V> entry = entries.get(month);
+		if (entry != null && entry.expiresAtNanos() - System.nanoTime() > 0) {
+			hits.increment();
+			return entry.value();
+		}
+		return null;
+	}
+
+	/**
+	 * 만료되지 않은 값이 있는지 (조회 지표에 넣지 않음 - 미리 읽기 판단용)
+	 */
+	public boolean contains(YearMonth month) {
+		Entry<V> entry = entries.get(month);
+		return entry != null && entry.expiresAtNanos() - System.nanoTime() > 0;
+	}
+
+	/**
+	 * 만료 전에 백그라운드에서 다시 읽어 둠 - 같은 월을 이미 읽는 중이면 건너뜀
+	 * - 요청 트랜잭션이 끝난 뒤 실행되므로 loadTransaction 을 따로 열어 loader 실행 (지연 로딩 연관 접근 대비)
+	 */
+	private void refreshAhead(YearMonth month, Function<YearMonth, V> loader) {
+		long loadGeneration = generation.get();
+		try {
+			boolean started = loads.executeAsync(new LoadKey(month, loadGeneration), () -> {
+				try {
+					V loaded = loadTransaction.execute(status -> loader.apply(month));
+					put(month, loaded, loadGeneration);
+					return loaded;
+				} catch (RuntimeException e) {
+					log.warn("MonthKeyedCache :: {} {} 미리 갱신 실패 :: {}", name, month, e.getMessage());
+					throw e;
+				}
+			}, refreshExecutor);
+			if (started) {
+				refreshes.increment();
+			}
+		} catch (RuntimeException e) {
+			// 미리 갱신은 실패해도 현재 값으로 응답, 만료되면 요청에서 다시 읽음
+			log.warn("MonthKeyedCache :: {} {} 미리 갱신 시작 실패 :: {}", name, month, e.getMessage());
+		}
+	}
+
+	/**
+	 * loadGeneration 이후 무효화가 없었을 때만 저장
+	 */
+	void put(YearMonth month, V value, long loadGeneration) {
+		entries.compute(month, (key, previous) -> generation.get() == loadGeneration
+			? new Entry<>(value, System.nanoTime() + ttlNanos) : previous);
+	}
+
+	/**
+	 * [from, to] 와 겹치는 월 제거
+	 */
+	public void invalidate(LocalDate from, LocalDate to) {
+		generation.incrementAndGet();
+		YearMonth first = YearMonth.from(from);
+		YearMonth last = YearMonth.from(to);
+		entries.keySet().removeIf(month -> !month.isBefore(first) && !month.isAfter(last));
+	}
+
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+		return Counter.builder("leavebridge.calendar.month-cache")
+			.description("월 단위 캐시 조회 결과")
+			.tag("cache", name)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,103 @@
+package com.leavebridge.calendar.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.global.datasource.PrimaryReads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 단위 캐시 생성 + 일정 변경 시 일괄 무효화
+ * - 달력 화면, 부재 현황 등 월 단위로 계산하는 조회는 여기서 캐시를 받아 같은 무효화 규칙을 공유
+ * - 적재(미스, 미리 갱신 모두)는 Primary 에 고정한 읽기 전용 트랜잭션에서 실행 - 무효화는 커밋 직후라
+ *   Replica 에서 읽으면 복제 지연으로 커밋 전 상태를 TTL 동안 모든 사용자에게 보여줄 수 있음
+ * - 미리 갱신(refresh-ahead)은 가상 스레드에서 실행
+ * - changeGeneration 은 일정 변경이 커밋될 때마다 증가 - 월 캐시가 아닌 조회도 변경 이후 요청을 구분할 때 사용
+ */
+@Component
+@Slf4j
+public class MonthKeyedCacheRegistry {
+
+	private final List<MonthKeyedCache<?>> caches = new CopyOnWriteArrayList<>();
+	private final AtomicLong changeGeneration = new AtomicLong();
+	private final ExecutorService refreshExecutor = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("month-cache-refresh-", 0).factory());
+	private final MeterRegistry meterRegistry;
+	private final TransactionOperations loadTransaction;
+	private final Duration ttl;
+	private final Duration refreshAhead;
+
+	public MonthKeyedCacheRegistry(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+		@Value("${calendar.month-cache.ttl:10m}") Duration ttl,
+		@Value("${calendar.month-cache.refresh-ahead:0s}") Duration refreshAhead) {
+		this.meterRegistry = meterRegistry;
+		TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		this.loadTransaction = new TransactionOperations() {
+			@Override
+			public <T> T execute(TransactionCallback<T> action) {
+				return PrimaryReads.call(() -> readOnlyTransaction.execute(action));
+			}
+		};
+		this.ttl = ttl;
+		this.refreshAhead = refreshAhead;
+	}
+
+	public <V> MonthKeyedCache<V> create(String name) {
+		MonthKeyedCache<V> cache = new MonthKeyedCache<>(name, ttl, refreshAhead, meterRegistry, refreshExecutor,
+			loadTransaction);
+		caches.add(cache);
+		return cache;
+	}
+
+	/**
+	 * 캐시 적재와 같은 Primary 고정 읽기 전용 트랜잭션 - 캐시를 거치지 않고 커밋 직후 다시 읽는 쪽(스냅샷 등)용
+	 */
+	public TransactionOperations loadTransaction() {
+		return loadTransaction;
+	}
+
+	/**
+	 * 마지막으로 커밋된 일정 변경의 순번
+	 */
+	public long changeGeneration() {
+		return changeGeneration.get();
+	}
+
+	/**
+	 * 커밋 이후 무효화 - 다른 리스너(SSE 알림 등)보다 먼저 실행해 알림 받은 화면이 바로 새 값을 읽게 함
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCalendarChanged(CalendarChangeEvent event) {
+		changeGeneration.incrementAndGet();
+		for (MonthKeyedCache<?> cache : caches) {
+			cache.invalidate(event.startDate(), event.endDate());
+		}
+		log.debug("MonthKeyedCacheRegistry :: {} ~ {} 월 캐시 무효화", event.startDate(), event.endDate());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+}
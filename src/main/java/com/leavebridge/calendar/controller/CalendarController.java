@@ -1,7 +1,16 @@
 package com.leavebridge.calendar.controller;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,16 +20,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.leavebridge.calendar.dto.CreateLeaveRequestDto;
+import com.leavebridge.calendar.dto.DailyAbsence;
+import com.leavebridge.calendar.dto.DailyCoverage;
+import com.leavebridge.calendar.dto.EventSearchResult;
 import com.leavebridge.calendar.dto.MonthlyEvent;
 import com.leavebridge.calendar.dto.MonthlyEventDetailResponse;
 import com.leavebridge.calendar.dto.PatchLeaveRequestDto;
 import com.leavebridge.calendar.service.CalendarService;
+import com.leavebridge.calendar.service.CalendarStreamService;
+import com.leavebridge.calendar.service.CoverageService;
+import com.leavebridge.calendar.service.EventSearchService;
+import com.leavebridge.calendar.service.LeaveDayService;
+import com.leavebridge.calendar.snapshot.MonthlyEventSnapshot;
+import com.leavebridge.calendar.snapshot.MonthlyEventSnapshotStore;
 import com.leavebridge.member.entitiy.CustomMemberDetails;
 import com.leavebridge.member.entitiy.Member;
 
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,19 +56,71 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CalendarController {
 
+	// Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 와 같은 값)
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
 	private final CalendarService calendarService;
+	private final CalendarStreamService calendarStreamService;
+	private final EventSearchService eventSearchService;
+	private final CoverageService coverageService;
+	private final LeaveDayService leaveDayService;
+	private final MonthlyEventSnapshotStore monthlyEventSnapshotStore;
 
 	/**
 	 * 이번달 구글 캘린더 등록 이벤트 조회
+	 * - 마감된 지난 달은 디스크 스냅샷 파일로 응답 (MonthlyEventSnapshotStore), 변경 직후 다시 만드는 중이면 평소처럼 조회
 	 */
 	@GetMapping("/events/{year}/{month}")
-	public ResponseEntity<List<MonthlyEvent>> getUpcomingEvents(@PathVariable("year") Integer year,
-		@PathVariable("month") Integer month) {
+	@ApiResponse(responseCode = "200",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = MonthlyEvent.class))))
+	public ResponseEntity<?> getUpcomingEvents(@PathVariable("year") Integer year,
+		@PathVariable("month") Integer month, HttpServletRequest request, WebRequest webRequest) {
 		log.info("getUpcomingEvents :: year={}, month={}", year, month);
+		YearMonth yearMonth = YearMonth.of(year, month);
+		if (monthlyEventSnapshotStore.isClosed(yearMonth) && !monthlyEventSnapshotStore.isRebuilding(yearMonth)) {
+			return respondWithSnapshot(monthlyEventSnapshotStore.get(yearMonth), request, webRequest);
+		}
 		List<MonthlyEvent> events = calendarService.listMonthlyEvents(year, month);
 		return ResponseEntity.ok(events);
 	}
 
+	/**
+	 * 스냅샷 파일을 그대로 응답 - Tomcat 이 sendfile 을 지원하면 파일을 읽지 않고 커널이 바로 소켓으로 보냄
+	 * - gzip 을 받는 요청이면 미리 압축해 둔 파일로 (Content-Encoding 이 있으면 서버 압축은 건너뜀)
+	 * - 내용 해시 ETag 가 같으면 304
+	 */
+	private ResponseEntity<Resource> respondWithSnapshot(MonthlyEventSnapshot snapshot, HttpServletRequest request,
+		WebRequest webRequest) {
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		boolean gzip = snapshot.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+		String etag = "\"" + snapshot.version() + (gzip ? "-gzip" : "") + "\"";
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+
+		Path file = gzip ? snapshot.gzip() : snapshot.json();
+		long size = gzip ? snapshot.gzipSize() : snapshot.jsonSize();
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.contentLength(size)
+			.cacheControl(CacheControl.noCache())
+			.eTag(etag)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, 0L);
+			request.setAttribute(SENDFILE_END, size);
+			return builder.build();
+		}
+		return builder.body(new FileSystemResource(file));
+	}
+
 	/**
 	 * 특정 이벤트 상세 조회
 	 */
@@ -60,10 +138,12 @@ public class CalendarController {
 	 **/
 	@PostMapping("/events")
 	public ResponseEntity<Void> createHolidays(@RequestBody CreateLeaveRequestDto createLeaveRequestDto,
+		@RequestParam(name = "merge", defaultValue = "false")
+		@Schema(description = "겹치는 같은 종류 본인 일정과 합칠지 (false 면 409)", example = "false") boolean merge,
 		@AuthenticationPrincipal(expression = "member") Member member) {
-		log.info("createHolidays :: createLeaveRequestDto = {}, login Member = {}", createLeaveRequestDto,
-			member.getLoginId());
-		calendarService.createTimedEvent(createLeaveRequestDto, member);
+		log.info("createHolidays :: createLeaveRequestDto = {}, merge = {}, login Member = {}", createLeaveRequestDto,
+			merge, member.getLoginId());
+		calendarService.createTimedEvent(createLeaveRequestDto, member, merge);
 		return ResponseEntity.ok().build();
 	}
 
@@ -90,4 +170,48 @@ public class CalendarController {
 		calendarService.deleteEvent(eventId, member);
 		return ResponseEntity.ok().build();
 	}
+
+	/**
+	 * 근무일별 부재 인원 (종일/부분, 파견/일반)
+	 */
+	@GetMapping("/coverage")
+	public ResponseEntity<List<DailyCoverage>> getCoverage(
+		@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "조회 시작일", example = "2025-07-01") LocalDate from,
+		@RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "조회 종료일", example = "2025-07-31") LocalDate to) {
+		return ResponseEntity.ok(coverageService.getCoverage(from, to));
+	}
+
+	/**
+	 * 그 날 자리를 비운 회원 목록 (부재 일정 전체, 근무일 기준)
+	 */
+	@GetMapping("/absences")
+	public ResponseEntity<List<DailyAbsence>> getDailyAbsences(
+		@RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "조회일", example = "2025-07-14") LocalDate date) {
+		return ResponseEntity.ok(leaveDayService.listAbsences(date));
+	}
+
+	/**
+	 * 일정 제목/설명 검색
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<EventSearchResult>> searchEvents(
+		@RequestParam(name = "q") @Schema(description = "검색어", example = "3월 외출") String query,
+		@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "이 날짜 이후 끝나는 일정만", example = "2025-03-01") LocalDate from,
+		@RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "이 날짜 이전 시작한 일정만", example = "2025-03-31") LocalDate to,
+		@RequestParam(name = "limit", defaultValue = "20") @Schema(description = "최대 건수", example = "20") int limit) {
+		return ResponseEntity.ok(eventSearchService.search(query, from, to, limit));
+	}
+
+	/**
+	 * 일정 변경 알림 구독 (SSE)
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamCalendarChanges() {
+		return calendarStreamService.subscribe();
+	}
 }
\ No newline at end of file
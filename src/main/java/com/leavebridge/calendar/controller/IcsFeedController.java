@@ -0,0 +1,60 @@
+package com.leavebridge.calendar.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.leavebridge.calendar.service.GoogleCalendarAPIService;
+import com.leavebridge.calendar.service.IcsFeedService;
+import com.leavebridge.calendar.service.IcsFeedService.IcsFeed;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 캘린더 앱(구글/아웃룩/애플) 구독용 iCalendar 피드
+ * - 구독 클라이언트는 주기적으로 폴링하므로 ETag / Last-Modified 조건부 요청이면 304 로 응답
+ */
+@RestController
+@RequestMapping("/ics")
+@RequiredArgsConstructor
+public class IcsFeedController {
+
+	private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+	private static final Duration MAX_AGE = Duration.ofMinutes(5);
+	private static final ZoneId ZONE = ZoneId.of(GoogleCalendarAPIService.DEFAULT_TIME_ZONE);
+
+	private final IcsFeedService icsFeedService;
+
+	@GetMapping("/team.ics")
+	public ResponseEntity<byte[]> teamFeed(WebRequest webRequest) {
+		return respond(icsFeedService.teamFeed(), CacheControl.maxAge(MAX_AGE).cachePublic(), webRequest);
+	}
+
+	@GetMapping("/member/{token}.ics")
+	public ResponseEntity<byte[]> memberFeed(@PathVariable("token") String token, WebRequest webRequest) {
+		return respond(icsFeedService.memberFeed(token), CacheControl.maxAge(MAX_AGE).cachePrivate(), webRequest);
+	}
+
+	private ResponseEntity<byte[]> respond(IcsFeed feed, CacheControl cacheControl, WebRequest webRequest) {
+		long lastModified = feed.lastModified().atZone(ZONE).toInstant().toEpochMilli();
+		// 조건부 요청이 일치하면 304 헤더가 이미 설정됨
+		if (webRequest.checkNotModified(feed.etag(), lastModified)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+			.contentType(TEXT_CALENDAR)
+			.cacheControl(cacheControl)
+			.eTag(feed.etag())
+			.lastModified(lastModified)
+			.body(feed.body());
+	}
+}
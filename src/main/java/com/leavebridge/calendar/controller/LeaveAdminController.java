@@ -0,0 +1,119 @@
+package com.leavebridge.calendar.controller;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.leavebridge.calendar.dto.LeaveImportResponseDto;
+import com.leavebridge.calendar.enums.ExportFormat;
+import com.leavebridge.calendar.service.LeaveCapacityService;
+import com.leavebridge.calendar.service.LeaveDayService;
+import com.leavebridge.calendar.service.LeaveExportService;
+import com.leavebridge.calendar.service.LeaveImportService;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/admin/leaves")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class LeaveAdminController {
+
+	private final LeaveImportService leaveImportService;
+	private final LeaveExportService leaveExportService;
+	private final LeaveCapacityService leaveCapacityService;
+	private final LeaveDayService leaveDayService;
+
+	/**
+	 * 과거 연차 이력 CSV/TSV 일괄 등록
+	 */
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<LeaveImportResponseDto> importLeaves(
+		@RequestParam("file") MultipartFile file,
+		@RequestParam(name = "format", required = false)
+		@Schema(description = "csv 또는 tsv, 없으면 파일 확장자로 판단", example = "csv") String format) throws IOException {
+		String resolvedFormat = format != null ? format
+			: file.getOriginalFilename() != null && file.getOriginalFilename().toLowerCase().endsWith(".tsv") ? "tsv"
+			: "csv";
+		char delimiter = switch (resolvedFormat.toLowerCase()) {
+			case "csv" -> ',';
+			case "tsv" -> '\t';
+			default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+		};
+		log.info("LeaveAdminController :: importLeaves file = {}, size = {}, format = {}", file.getOriginalFilename(),
+			file.getSize(), resolvedFormat);
+
+		// MultipartFile 은 임시 파일로 저장되어 있어 스트림으로 읽으면 파일 크기와 무관하게 메모리 일정
+		return ResponseEntity.ok(leaveImportService.importLeaves(file.getInputStream(), delimiter));
+	}
+
+	/**
+	 * 연도별 전체 회원 연차 내보내기 (급여 정산용)
+	 */
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportLeaves(
+		@RequestParam(name = "year") @Schema(description = "내보낼 년도", example = "2025") Integer year,
+		@RequestParam(name = "format", defaultValue = "csv")
+		@Schema(description = "csv 또는 ndjson", example = "csv") String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		log.info("LeaveAdminController :: exportLeaves year = {}, format = {}", year, exportFormat);
+
+		StreamingResponseBody body = outputStream -> leaveExportService.export(year, exportFormat, outputStream);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("leaves-" + year + "." + exportFormat.getExtension())
+				.build()
+				.toString())
+			.body(body);
+	}
+
+	/**
+	 * 하루 부재 인원 카운터 재집계 (한도 도입 시 과거분 채우기, 직접 DB 수정 후 맞추기)
+	 */
+	@PostMapping("/capacity/rebuild")
+	public ResponseEntity<Void> rebuildCapacity(
+		@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "시작일", example = "2025-01-01") LocalDate from,
+		@RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "종료일", example = "2025-12-31") LocalDate to) {
+		if (to.isBefore(from)) {
+			throw new IllegalArgumentException("종료일이 시작일보다 앞설 수 없습니다.");
+		}
+		log.info("LeaveAdminController :: rebuildCapacity {} ~ {}", from, to);
+		leaveCapacityService.rebuild(from, to);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * 부재 일정의 근무일 단위 행(LEAVE_DAY) 재생성 (테이블 도입 시 기존 일정 채우기)
+	 */
+	@PostMapping("/days/rebuild")
+	public ResponseEntity<Integer> rebuildLeaveDays(
+		@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "시작일", example = "2025-01-01") LocalDate from,
+		@RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@Schema(description = "종료일", example = "2025-12-31") LocalDate to) {
+		if (to.isBefore(from)) {
+			throw new IllegalArgumentException("종료일이 시작일보다 앞설 수 없습니다.");
+		}
+		log.info("LeaveAdminController :: rebuildLeaveDays {} ~ {}", from, to);
+		return ResponseEntity.ok(leaveDayService.rebuild(from, to));
+	}
+}
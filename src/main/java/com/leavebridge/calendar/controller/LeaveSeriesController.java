@@ -0,0 +1,95 @@
+package com.leavebridge.calendar.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.leavebridge.calendar.dto.CreateLeaveSeriesRequestDto;
+import com.leavebridge.calendar.dto.LeaveSeriesDetailResponse;
+import com.leavebridge.calendar.dto.PatchSeriesOccurrenceRequestDto;
+import com.leavebridge.calendar.service.LeaveSeriesService;
+import com.leavebridge.member.entitiy.CustomMemberDetails;
+import com.leavebridge.member.entitiy.Member;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 반복 일정 (회의) - 발생 목록은 월별 일정 조회(/events/{year}/{month})에 함께 포함됨
+ */
+@RestController
+@RequestMapping("/api/v1/calendar/series")
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveSeriesController {
+
+	private final LeaveSeriesService leaveSeriesService;
+
+	/**
+	 * 반복 일정 등록
+	 */
+	@PostMapping
+	public ResponseEntity<Long> createSeries(@RequestBody @Valid CreateLeaveSeriesRequestDto requestDto,
+		@AuthenticationPrincipal(expression = "member") Member member) {
+		log.info("createSeries :: requestDto = {}, login Member = {}", requestDto, member.getLoginId());
+		return ResponseEntity.ok(leaveSeriesService.createSeries(requestDto, member));
+	}
+
+	/**
+	 * 반복 일정 상세 조회
+	 */
+	@GetMapping("/{seriesId}")
+	public ResponseEntity<LeaveSeriesDetailResponse> getSeries(@PathVariable("seriesId") Long seriesId,
+		@AuthenticationPrincipal CustomMemberDetails customMemberDetails) {
+		Member member = (customMemberDetails != null) ? customMemberDetails.getMember() : null;
+		return ResponseEntity.ok(leaveSeriesService.getSeries(seriesId, member));
+	}
+
+	/**
+	 * 발생일 하나만 수정 (예외로 저장)
+	 */
+	@PatchMapping("/{seriesId}/occurrences/{date}")
+	public ResponseEntity<Void> patchOccurrence(@PathVariable("seriesId") Long seriesId,
+		@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestBody PatchSeriesOccurrenceRequestDto requestDto,
+		@AuthenticationPrincipal(expression = "member") Member member) {
+		log.info("patchOccurrence :: seriesId={}, date={}, requestDto = {}, login Id = {}", seriesId, date,
+			requestDto, member.getLoginId());
+		leaveSeriesService.patchOccurrence(seriesId, date, requestDto, member);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * 발생일 하나만 취소
+	 */
+	@DeleteMapping("/{seriesId}/occurrences/{date}")
+	public ResponseEntity<Void> cancelOccurrence(@PathVariable("seriesId") Long seriesId,
+		@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@AuthenticationPrincipal(expression = "member") Member member) {
+		log.info("cancelOccurrence :: seriesId={}, date={}, login Id = {}", seriesId, date, member.getLoginId());
+		leaveSeriesService.cancelOccurrence(seriesId, date, member);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * 반복 일정 전체 삭제
+	 */
+	@DeleteMapping("/{seriesId}")
+	public ResponseEntity<Void> deleteSeries(@PathVariable("seriesId") Long seriesId,
+		@AuthenticationPrincipal(expression = "member") Member member) {
+		log.info("deleteSeries :: seriesId={}, login Id = {}", seriesId, member.getLoginId());
+		leaveSeriesService.deleteSeries(seriesId, member);
+		return ResponseEntity.ok().build();
+	}
+}
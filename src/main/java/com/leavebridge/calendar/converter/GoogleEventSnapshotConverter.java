@@ -0,0 +1,47 @@
+package com.leavebridge.calendar.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leavebridge.calendar.entity.GoogleEventSnapshot;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Converter
+public class GoogleEventSnapshotConverter implements AttributeConverter<GoogleEventSnapshot, String> {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	// DB 저장 시: {"title":"...","allDay":false,"start":"2025-07-28T13:00:00",...}
+	@Override
+	public String convertToDatabaseColumn(GoogleEventSnapshot attribute) {
+		if (attribute == null) {
+			return null;
+		}
+		try {
+			return OBJECT_MAPPER.writeValueAsString(attribute);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("구글 이벤트 스냅샷 직렬화 실패", e);
+		}
+	}
+
+	// 조회 시: 읽을 수 없는 값은 스냅샷이 없는 것으로 (다음 수정에서 구글 조회 후 다시 저장됨)
+	@Override
+	public GoogleEventSnapshot convertToEntityAttribute(String dbData) {
+		if (dbData == null || dbData.isBlank()) {
+			return null;
+		}
+		try {
+			return OBJECT_MAPPER.readValue(dbData, GoogleEventSnapshot.class);
+		} catch (JsonProcessingException e) {
+			log.warn("구글 이벤트 스냅샷을 읽을 수 없어 무시 :: {}", e.getMessage());
+			return null;
+		}
+	}
+}
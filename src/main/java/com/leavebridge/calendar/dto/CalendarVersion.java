@@ -0,0 +1,23 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 일정 데이터 버전 (건수, 최대 id, 최근 등록/수정 시각)
+ * - 등록·삭제·수정 중 하나라도 있으면 값이 바뀜, 캐시 무효화 판단용
+ */
+public record CalendarVersion(Long count, Long maxId, LocalDateTime lastCreated, LocalDateTime lastUpdated) {
+
+	/**
+	 * 마지막 등록/수정 시각 (삭제는 반영되지 않음)
+	 */
+	public LocalDateTime lastModified() {
+		if (lastCreated == null) {
+			return lastUpdated;
+		}
+		if (lastUpdated == null) {
+			return lastCreated;
+		}
+		return lastCreated.isAfter(lastUpdated) ? lastCreated : lastUpdated;
+	}
+}
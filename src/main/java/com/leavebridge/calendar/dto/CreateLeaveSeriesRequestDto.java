@@ -0,0 +1,40 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateLeaveSeriesRequestDto(
+	@Schema(description = "일정 제목", example = "주간 회의")
+	@NotBlank(message = "일정 제목은 필수입니다")
+	String title,
+	@Schema(description = "반복 가능한 일정 종류", example = "MEETING(회의)")
+	@NotNull(message = "일정 종류는 필수입니다")
+	LeaveType leaveType,
+	@Schema(description = "첫 발생 기준일", example = "2025-07-07")
+	@NotNull(message = "시작 날짜는 필수입니다")
+	LocalDate startDate,
+	@Schema(description = "발생마다 시작 시간", example = "10:00")
+	@NotNull(message = "시작 시간은 필수입니다")
+	LocalTime startTime,
+	@Schema(description = "발생마다 종료 시간", example = "11:00")
+	@NotNull(message = "종료 시간은 필수입니다")
+	LocalTime endTime,
+	@Schema(description = "RFC 5545 반복 규칙 (FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY, UNTIL 또는 COUNT)",
+		example = "FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20251231")
+	@NotBlank(message = "반복 규칙은 필수입니다")
+	String recurrenceRule,
+	@Schema(description = "비고", example = "일정 설명 텍스트")
+	String description
+) {
+	public CreateLeaveSeriesRequestDto {
+		if (startTime != null && endTime != null && !(endTime.isAfter(startTime))) {
+			throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야합니다.");
+		}
+	}
+}
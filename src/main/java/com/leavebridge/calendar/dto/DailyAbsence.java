@@ -0,0 +1,21 @@
+package com.leavebridge.calendar.dto;
+
+import java.util.List;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record DailyAbsence(
+	@Schema(description = "회원 id", example = "3")
+	Long memberId,
+	@Schema(description = "회원 이름", example = "박철현")
+	String memberName,
+	@Schema(description = "파견직 여부", example = "false")
+	boolean isGermany,
+	@Schema(description = "그 날 자리를 비운 근무 분 (여러 일정 합)", example = "240")
+	int minutes,
+	@Schema(description = "그 날 일정 종류", example = "[\"HALF_DAY_MORNING\"]")
+	List<LeaveType> leaveTypes
+) {
+}
@@ -0,0 +1,21 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record DailyCoverage(
+	@Schema(description = "근무일", example = "2025-07-01")
+	LocalDate date,
+	@Schema(description = "부재 인원 (한 사람이 여러 일정이어도 1명)", example = "4")
+	int absent,
+	@Schema(description = "하루 종일 부재 인원", example = "3")
+	int fullDay,
+	@Schema(description = "반차, 외출 등 일부 시간 부재 인원", example = "1")
+	int partialDay,
+	@Schema(description = "부재 인원 중 파견직", example = "1")
+	int dispatched,
+	@Schema(description = "부재 인원 중 일반 직원", example = "3")
+	int regular
+) {
+}
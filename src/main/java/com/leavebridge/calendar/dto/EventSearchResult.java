@@ -0,0 +1,29 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record EventSearchResult(
+	@Schema(description = "DB상 일정 id", example = "2")
+	Long id,
+	@Schema(description = "일정 제목", example = "박철현 외출")
+	String title,
+	@Schema(description = "시작 일자", example = "2025-03-12")
+	LocalDate startDate,
+	@Schema(description = "종료 일자", example = "2025-03-12")
+	LocalDate endDate,
+	@Schema(description = "휴일 여부", example = "true or false")
+	Boolean isHoliday,
+	@Schema(description = "일정 종류", example = "OUTING")
+	LeaveType leaveType,
+	@Schema(description = "검색 점수 (클수록 관련도 높음)", example = "7.42")
+	double score
+) {
+	public static EventSearchResult of(EventSearchRow row, double score) {
+		return new EventSearchResult(row.id(), row.title(), row.startDate(), row.endDate(), row.isHoliday(),
+			row.leaveType(), Math.round(score * 100) / 100.0);
+	}
+}
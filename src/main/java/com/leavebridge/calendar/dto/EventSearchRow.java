@@ -0,0 +1,29 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * 검색 색인 문서 한 건 (컬럼 프로젝션)
+ */
+public record EventSearchRow(
+	Long id,
+	String title,
+	String description,
+	LocalDate startDate,
+	LocalDate endDate,
+	Boolean isHoliday,
+	LeaveType leaveType
+) {
+	public static EventSearchRow from(LeaveAndHoliday leaveAndHoliday) {
+		return new EventSearchRow(leaveAndHoliday.getId(), leaveAndHoliday.getTitle(),
+			leaveAndHoliday.getDescription(), leaveAndHoliday.getStartDate(), leaveAndHoliday.getEndDate(),
+			leaveAndHoliday.getIsHoliday(), leaveAndHoliday.getLeaveType());
+	}
+
+	public boolean overlaps(LocalDate from, LocalDate to) {
+		return (to == null || !startDate.isAfter(to)) && (from == null || !endDate.isBefore(from));
+	}
+}
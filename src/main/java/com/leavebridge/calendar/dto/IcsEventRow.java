@@ -0,0 +1,26 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * iCalendar 피드 VEVENT 한 건 (컬럼 프로젝션)
+ * - 설명(description)은 개인 메모일 수 있어 피드에 싣지 않음
+ */
+public record IcsEventRow(
+	Long id,
+	String title,
+	LocalDate startDate,
+	LocalTime startTime,
+	LocalDate endDate,
+	LocalTime endTime,
+	Boolean isAllDay,
+	Boolean isHoliday,
+	LeaveType leaveType,
+	LocalDateTime createdDate,
+	LocalDateTime updatedDate
+) {
+}
@@ -0,0 +1,42 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record LeaveConflictResponse(
+	@Schema(description = "오류 메시지", example = "같은 시간에 이미 등록된 일정이 있습니다.")
+	String message,
+	@Schema(description = "merge=true 로 다시 요청하면 겹치는 일정과 합칠 수 있는지", example = "true")
+	boolean mergeable,
+	@Schema(description = "겹치는 기존 일정 목록")
+	List<Conflict> conflicts
+) {
+	public record Conflict(
+		@Schema(description = "DB상 일정 id", example = "12")
+		Long id,
+		@Schema(description = "일정 제목", example = "박철현 오전 반차")
+		String title,
+		@Schema(description = "연차 종류", example = "HALF_DAY_MORNING")
+		LeaveType leaveType,
+		@Schema(description = "시작 일자", example = "2025-07-01")
+		LocalDate startDate,
+		@Schema(description = "시작 시간", example = "09:00:00")
+		LocalTime startTime,
+		@Schema(description = "종료 일자", example = "2025-07-01")
+		LocalDate endDate,
+		@Schema(description = "종료 시간", example = "14:00:00")
+		LocalTime endTime
+	) {
+		public static Conflict from(LeaveAndHoliday leaveAndHoliday) {
+			return new Conflict(leaveAndHoliday.getId(), leaveAndHoliday.getTitle(), leaveAndHoliday.getLeaveType(),
+				leaveAndHoliday.getStartDate(), leaveAndHoliday.getStarTime(), leaveAndHoliday.getEndDate(),
+				leaveAndHoliday.getEndTime());
+		}
+	}
+}
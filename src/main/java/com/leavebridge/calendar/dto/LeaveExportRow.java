@@ -0,0 +1,35 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 연말 연차 내보내기 한 행 (엔티티가 아닌 컬럼 프로젝션)
+ */
+public record LeaveExportRow(
+	@Schema(description = "member Id", example = "3")
+	Long memberId,
+	@Schema(description = "member 이름", example = "박철현")
+	String memberName,
+	@Schema(description = "연차 종류", example = "FULL_DAY_LEAVE")
+	LeaveType leaveType,
+	@Schema(description = "일정 제목", example = "박철현 연차")
+	String title,
+	@Schema(description = "시작 날짜", example = "2025-07-01")
+	LocalDate startDate,
+	@Schema(description = "시작 시간", example = "09:00")
+	LocalTime startTime,
+	@Schema(description = "종료 날짜", example = "2025-07-01")
+	LocalDate endDate,
+	@Schema(description = "종료 시간", example = "18:00")
+	LocalTime endTime,
+	@Schema(description = "차감 연차 일수", example = "1.0")
+	Double usedLeaveDays,
+	@Schema(description = "연차 미차감 사유", example = "[2025-07-05] 주말 제외")
+	String comment
+) {
+}
@@ -0,0 +1,28 @@
+package com.leavebridge.calendar.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record LeaveImportResponseDto(
+	@Schema(description = "읽은 데이터 행 수 (헤더 제외)", example = "1200")
+	long totalRows,
+	@Schema(description = "저장된 행 수", example = "1195")
+	long importedRows,
+	@Schema(description = "실패한 행 수", example = "5")
+	long failedRows,
+	@Schema(description = "행별 오류 (최대 leave.import.max-reported-errors 건)")
+	List<RowError> errors,
+	@Schema(description = "오류가 많아 일부만 담겼는지", example = "false")
+	boolean errorsTruncated
+) {
+	public record RowError(
+		@Schema(description = "파일 상 행 번호 (헤더 = 1)", example = "15")
+		long row,
+		@Schema(description = "오류 사유", example = "존재하지 않는 회원입니다: puar12")
+		String message
+	) {
+	}
+}
@@ -0,0 +1,49 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.entity.LeaveSeries;
+import com.leavebridge.calendar.enums.LeaveType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record LeaveSeriesDetailResponse(
+	@Schema(description = "반복 일정 id", example = "4")
+	Long id,
+	@Schema(description = "일정 제목", example = "주간 회의")
+	String title,
+	@Schema(description = "일정 종류", example = "MEETING")
+	LeaveType leaveType,
+	@Schema(description = "첫 발생 기준일", example = "2025-07-07")
+	LocalDate startDate,
+	@Schema(description = "마지막 발생 가능일 (끝없는 반복이면 null)", example = "2025-12-31")
+	LocalDate endDate,
+	@Schema(description = "시작 시간", example = "10:00:00")
+	LocalTime startTime,
+	@Schema(description = "종료 시간", example = "11:00:00")
+	LocalTime endTime,
+	@Schema(description = "반복 규칙", example = "FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20251231")
+	String recurrenceRule,
+	@Schema(description = "일정 상세 설명", example = "일정 설명 텍스트")
+	String description,
+	@Schema(description = "일정 수정, 삭제 가능한지 여부", example = "true(수정 가능), false(수정 불가)")
+	Boolean isOwner
+) {
+	public static LeaveSeriesDetailResponse of(LeaveSeries series, boolean isOwner) {
+		return LeaveSeriesDetailResponse.builder()
+			.id(series.getId())
+			.title(series.getTitle())
+			.leaveType(series.getLeaveType())
+			.startDate(series.getStartDate())
+			.endDate(series.getEndDate())
+			.startTime(series.getStartTime())
+			.endTime(series.getEndTime())
+			.recurrenceRule(series.getRecurrenceRule())
+			.description(series.getDescription())
+			.isOwner(isOwner)
+			.build();
+	}
+}
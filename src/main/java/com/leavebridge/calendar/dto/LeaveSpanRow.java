@@ -0,0 +1,27 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * 부재 일정의 기간 (컬럼 프로젝션) - LEAVE_DAY, 부재 인원 카운터 재집계용
+ * - 엔티티가 아니라 영속성 컨텍스트에 쌓이지 않음
+ */
+public record LeaveSpanRow(
+	Long leaveId,
+	Long memberId,
+	LeaveType leaveType,
+	LocalDate startDate,
+	LocalTime startTime,
+	LocalDate endDate,
+	LocalTime endTime
+) {
+	public static LeaveSpanRow from(LeaveAndHoliday leaveAndHoliday) {
+		return new LeaveSpanRow(leaveAndHoliday.getId(), leaveAndHoliday.getMember().getId(),
+			leaveAndHoliday.getLeaveType(), leaveAndHoliday.getStartDate(), leaveAndHoliday.getStarTime(),
+			leaveAndHoliday.getEndDate(), leaveAndHoliday.getEndTime());
+	}
+}
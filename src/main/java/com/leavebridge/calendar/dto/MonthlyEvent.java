@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.recurrence.SeriesOccurrence;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -28,7 +29,13 @@ public record MonthlyEvent(
 	boolean allDay,
 
 	@Schema(description = "휴일인지 여부", example = "true or false")
-	Boolean isHoliday
+	Boolean isHoliday,
+
+	@Schema(description = "반복 일정 발생인 경우 반복 일정 id (이때 id 는 null)", example = "4")
+	Long seriesId,
+
+	@Schema(description = "반복 일정 발생인 경우 규칙상 발생일", example = "2025-07-07")
+	LocalDate occurrenceDate
 ) {
 	public static MonthlyEvent from(LeaveAndHoliday leaveAndHoliday) {
 		LocalDate startDate = leaveAndHoliday.getStartDate();
@@ -53,4 +60,16 @@ public record MonthlyEvent(
 			.isHoliday(leaveAndHoliday.getIsHoliday())
 			.build();
 	}
+
+	public static MonthlyEvent from(SeriesOccurrence occurrence) {
+		return MonthlyEvent.builder()
+			.title(occurrence.title())
+			.start(LocalDateTime.of(occurrence.date(), occurrence.startTime()))
+			.end(LocalDateTime.of(occurrence.date(), occurrence.endTime()))
+			.allDay(false)
+			.isHoliday(false)
+			.seriesId(occurrence.seriesId())
+			.occurrenceDate(occurrence.date())
+			.build();
+	}
 }
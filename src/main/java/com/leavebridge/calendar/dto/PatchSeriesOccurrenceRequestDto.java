@@ -0,0 +1,15 @@
+package com.leavebridge.calendar.dto;
+
+import java.time.LocalTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PatchSeriesOccurrenceRequestDto(
+	@Schema(description = "이 발생만 바꿀 제목 (없으면 시리즈 제목)", example = "주간 회의 (대회의실)")
+	String title,
+	@Schema(description = "이 발생만 바꿀 시작 시간 (없으면 시리즈 시간)", example = "14:00")
+	LocalTime startTime,
+	@Schema(description = "이 발생만 바꿀 종료 시간 (없으면 시리즈 시간)", example = "15:00")
+	LocalTime endTime
+) {
+}
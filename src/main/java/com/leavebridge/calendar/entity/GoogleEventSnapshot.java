@@ -0,0 +1,34 @@
+package com.leavebridge.calendar.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 마지막으로 구글 캘린더에 반영한 관리 필드 (제목, 설명, 기간)
+ * - 수정 시 이 값과 현재 일정을 비교해 바뀐 필드만 PATCH 로 보냄 (구글 조회 생략)
+ * - 하루종일 일정은 구글 규칙대로 시작일 00:00 ~ 종료 다음날 00:00
+ */
+public record GoogleEventSnapshot(
+	String title,
+	String description,
+	boolean allDay,
+	LocalDateTime start,
+	LocalDateTime end
+) {
+	public static GoogleEventSnapshot of(String title, String description, boolean allDay, LocalDate startDate,
+		LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+		return new GoogleEventSnapshot(title, description, allDay,
+			allDay ? startDate.atStartOfDay() : LocalDateTime.of(startDate, startTime),
+			allDay ? endDate.plusDays(1).atStartOfDay() : LocalDateTime.of(endDate, endTime));
+	}
+
+	public static GoogleEventSnapshot of(LeaveAndHoliday leave) {
+		return of(leave.getTitle(), leave.getDescription(), Boolean.TRUE.equals(leave.getIsAllDay()),
+			leave.getStartDate(), leave.getStarTime(), leave.getEndDate(), leave.getEndTime());
+	}
+
+	public boolean isSamePeriod(GoogleEventSnapshot other) {
+		return allDay == other.allDay && start.equals(other.start) && end.equals(other.end);
+	}
+}
@@ -0,0 +1,76 @@
+package com.leavebridge.calendar.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.leavebridge.calendar.enums.GoogleSyncOperation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구글 캘린더에 아직 반영하지 못한 일정 변경 (GoogleCalendarSyncService 가 브레이커가 닫히면 ID 순서대로 재생)
+ * - 일정 변경과 같은 트랜잭션에 쌓여서, 커밋된 변경만 재생됨
+ * - CREATE/UPDATE 는 재생 시점의 일정 내용을 그대로 보내므로 같은 일정의 작업은 하나만 유지
+ * - DELETE 는 일정 행이 이미 없으니 구글 이벤트 ID 로만 처리
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "GOOGLE_SYNC_TASK")
+@EntityListeners(AuditingEntityListener.class)
+public class GoogleSyncTask {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID")
+	private Long id;
+
+	@Column(name = "LEAVE_ID")
+	private Long leaveId;
+
+	@Column(name = "GOOGLE_EVENT_ID")
+	private String googleEventId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "OPERATION", length = 10)
+	private GoogleSyncOperation operation;
+
+	@Column(name = "ATTEMPTS")
+	private int attempts;
+
+	@Column(name = "LAST_ERROR", length = 500)
+	private String lastError;
+
+	@Column(name = "CREATED_DATE")
+	@CreatedDate
+	private LocalDateTime createdDate;
+
+	public static GoogleSyncTask of(GoogleSyncOperation operation, Long leaveId, String googleEventId) {
+		return GoogleSyncTask.builder()
+			.operation(operation)
+			.leaveId(leaveId)
+			.googleEventId(googleEventId)
+			.build();
+	}
+
+	public void recordFailure(String error) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.google.api.services.calendar.model.Event;
+import com.leavebridge.calendar.converter.GoogleEventSnapshotConverter;
 import com.leavebridge.calendar.dto.CreateLeaveRequestDto;
 import com.leavebridge.calendar.dto.PatchLeaveRequestDto;
 import com.leavebridge.calendar.enums.LeaveType;
@@ -16,6 +17,7 @@ import com.leavebridge.member.entitiy.Member;
 import com.leavebridge.util.DateUtils;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
@@ -89,6 +91,13 @@ public class LeaveAndHoliday {
 	@Column(name = "GOOGLE_EVENT_ID")
 	private String googleEventId;
 
+	@Column(name = "GOOGLE_ETAG", length = 100)
+	private String googleEtag;
+
+	@Convert(converter = GoogleEventSnapshotConverter.class)
+	@Column(name = "GOOGLE_SNAPSHOT", length = 2000)
+	private GoogleEventSnapshot googleSnapshot;  // 마지막으로 구글에 반영한 제목/설명/기간
+
 	@Column(name = "DESCRIPTION")
 	private String description;
 
@@ -208,4 +217,10 @@ public class LeaveAndHoliday {
 	public void updateComment(String comment) {
 		this.comment = comment;
 	}
+
+	// 구글 이벤트를 만들거나 고친 직후 - 지금 내용이 구글과 같다고 기록
+	public void markGoogleSynced(String etag) {
+		this.googleEtag = etag;
+		this.googleSnapshot = GoogleEventSnapshot.of(this);
+	}
 }
@@ -0,0 +1,60 @@
+package com.leavebridge.calendar.entity;
+
+import java.time.LocalDate;
+
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.member.entitiy.Member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 부재 일정(LEAVE_AND_HOLIDAYS)을 근무일 하루 단위로 펼친 파생 행 (LeaveDayService 가 유지)
+ * - 일정당 근무일 하루에 한 행, MINUTES 는 그 날 자리를 비운 근무 분 (연차 소진 타입이면 그대로 차감 분)
+ * - 날짜별/월별/연도별 집계를 기간 겹침 검사 없이 (회원, 날짜) 인덱스 범위 조회로 처리하기 위함
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "LEAVE_DAY")
+public class LeaveDay {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID")
+	private Long id;
+
+	@Column(name = "LEAVE_ID")
+	private Long leaveId;
+
+	@JoinColumn(name = "MEMBER_ID")
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	private Member member;
+
+	@Column(name = "DAY")
+	private LocalDate day;
+
+	@Column(name = "MINUTES")
+	private int minutes;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "LEAVE_TYPE", length = 50)
+	private LeaveType leaveType;
+}
@@ -0,0 +1,132 @@
+package com.leavebridge.calendar.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.recurrence.RecurrenceRule;
+import com.leavebridge.member.entitiy.Member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 반복 일정 (회의) 마스터 - 발생일은 저장하지 않고 조회 기간만큼 전개
+ * - START_DATE 는 첫 발생 기준일(DTSTART), END_DATE 는 마지막 발생 가능일 (끝없는 규칙이면 null)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "LEAVE_SERIES")
+@EntityListeners(AuditingEntityListener.class)
+public class LeaveSeries {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID")
+	private Long id;
+
+	@Column(name = "TITLE", length = 100)
+	private String title;
+
+	@Column(name = "DESCRIPTION")
+	private String description;
+
+	@JoinColumn(name = "MEMBER_ID")
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	private Member member;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "LEAVE_TYPE", length = 50)
+	private LeaveType leaveType;
+
+	@Column(name = "START_DATE")
+	private LocalDate startDate;
+
+	@Column(name = "END_DATE")
+	private LocalDate endDate;
+
+	@Column(name = "START_TIME")
+	private LocalTime startTime;
+
+	@Column(name = "END_TIME")
+	private LocalTime endTime;
+
+	@Column(name = "RECURRENCE_RULE", length = 200)
+	private String recurrenceRule;
+
+	@Column(name = "CREATED_DATE")
+	@CreatedDate
+	private LocalDateTime createdDate;
+
+	@Column(name = "UPDATED_DATE")
+	@LastModifiedDate
+	private LocalDateTime updatedDate;
+
+	@Transient
+	private RecurrenceRule parsedRule;
+
+	public static LeaveSeries of(String title, String description, Member member, LeaveType leaveType,
+		LocalDate startDate, LocalTime startTime, LocalTime endTime, RecurrenceRule rule) {
+		return LeaveSeries.builder()
+			.title(title)
+			.description(description)
+			.member(member)
+			.leaveType(leaveType)
+			.startDate(startDate)
+			.endDate(rule.lastOccurrence(startDate))
+			.startTime(startTime)
+			.endTime(endTime)
+			.recurrenceRule(rule.toString())
+			.parsedRule(rule)
+			.build();
+	}
+
+	public RecurrenceRule rule() {
+		if (parsedRule == null) {
+			parsedRule = RecurrenceRule.parse(recurrenceRule);
+		}
+		return parsedRule;
+	}
+
+	/**
+	 * 알림/캐시 무효화용 영향 기간 끝 (끝없는 규칙이면 OPEN_END)
+	 */
+	public LocalDate affectedEndDate() {
+		return endDate != null ? endDate : RecurrenceRule.OPEN_END;
+	}
+
+	public boolean isOwnedBy(Member member) {
+		return member != null && this.member.getId().equals(member.getId());
+	}
+
+	@PrePersist
+	public void onPrePersist() {
+		this.updatedDate = null;
+	}
+}
@@ -0,0 +1,76 @@
+package com.leavebridge.calendar.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 반복 일정의 특정 발생일 예외 (취소 또는 시간/제목 변경)
+ * - 발생일(OCCURRENCE_DATE)은 규칙상 원래 날짜, 시리즈당 발생일 하나에 한 행
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "LEAVE_SERIES_EXCEPTION")
+public class LeaveSeriesException {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID")
+	private Long id;
+
+	@JoinColumn(name = "SERIES_ID")
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	private LeaveSeries series;
+
+	@Column(name = "OCCURRENCE_DATE")
+	private LocalDate occurrenceDate;
+
+	@Column(name = "CANCELLED")
+	private boolean cancelled;
+
+	@Column(name = "TITLE", length = 100)
+	private String title;  // null 이면 시리즈 제목
+
+	@Column(name = "START_TIME")
+	private LocalTime startTime;  // null 이면 시리즈 시간
+
+	@Column(name = "END_TIME")
+	private LocalTime endTime;
+
+	public static LeaveSeriesException cancelled(LeaveSeries series, LocalDate occurrenceDate) {
+		return LeaveSeriesException.builder()
+			.series(series)
+			.occurrenceDate(occurrenceDate)
+			.cancelled(true)
+			.build();
+	}
+
+	public void cancel() {
+		this.cancelled = true;
+	}
+
+	public void override(String title, LocalTime startTime, LocalTime endTime) {
+		this.cancelled = false;
+		this.title = title;
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+}
@@ -0,0 +1,18 @@
+package com.leavebridge.calendar.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum CalendarChangeType {
+	CREATED("등록"),
+
+	UPDATED("수정"),
+
+	DELETED("삭제"),
+
+	SYNCED("외부 동기화");  // 공휴일 API, 구글 캘린더 등 여러 건이 한번에 들어온 경우
+
+	private final String description;
+}
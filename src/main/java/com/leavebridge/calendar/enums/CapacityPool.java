@@ -0,0 +1,28 @@
+package com.leavebridge.calendar.enums;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 하루 부재 인원 한도를 세는 단위 - 회원은 전체 + 소속 그룹 두 곳에 집계된다
+ */
+@RequiredArgsConstructor
+@Getter
+public enum CapacityPool {
+	TOTAL("전체"),
+
+	REGULAR("일반"),
+
+	DISPATCHED("파견");
+
+	private final String description;
+
+	/**
+	 * 회원이 집계되는 풀 (항상 같은 순서라 여러 행을 잠글 때 순서가 일정함)
+	 */
+	public static List<CapacityPool> of(boolean isGermany) {
+		return List.of(TOTAL, isGermany ? DISPATCHED : REGULAR);
+	}
+}
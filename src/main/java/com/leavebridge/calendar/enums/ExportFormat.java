@@ -0,0 +1,23 @@
+package com.leavebridge.calendar.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+	CSV("text/csv;charset=UTF-8", "csv"),
+	NDJSON("application/x-ndjson", "ndjson");
+
+	private final String contentType;
+	private final String extension;
+
+	public static ExportFormat from(String value) {
+		for (ExportFormat format : values()) {
+			if (format.extension.equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+	}
+}
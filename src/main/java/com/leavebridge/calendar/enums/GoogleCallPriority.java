@@ -0,0 +1,17 @@
+package com.leavebridge.calendar.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 구글 캘린더 호출 주체 - 호출 한도(토큰 버킷)와 재시도 예산을 따로 둬서 동기화 작업이 사용자 요청을 밀어내지 않게 함
+ */
+@RequiredArgsConstructor
+@Getter
+public enum GoogleCallPriority {
+	INTERACTIVE("사용자 요청"),
+
+	BACKGROUND("스케줄 동기화");
+
+	private final String description;
+}
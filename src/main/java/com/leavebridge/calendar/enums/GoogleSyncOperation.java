@@ -0,0 +1,19 @@
+package com.leavebridge.calendar.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 구글 캘린더 장애로 미뤄 둔 반영 작업 종류
+ */
+@RequiredArgsConstructor
+@Getter
+public enum GoogleSyncOperation {
+	CREATE("생성"),
+
+	UPDATE("수정"),
+
+	DELETE("삭제");
+
+	private final String description;
+}
@@ -1,5 +1,8 @@
 package com.leavebridge.calendar.enums;
 
+import java.util.Arrays;
+import java.util.List;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -38,4 +41,15 @@ public enum LeaveType {
 	public boolean isConsumesLeave() {
 		return this.isDeductible;
 	}
+
+	/**
+	 * 자리를 비우는 본인 일정인지 (연차 소진 타입 + 비차감 휴가) - 같은 회원 기간 중복 검사 대상
+	 */
+	public boolean isAbsence() {
+		return this.isDeductible || this == NON_DEDUCTIBLE;
+	}
+
+	public static List<LeaveType> absenceTypes() {
+		return Arrays.stream(values()).filter(LeaveType::isAbsence).toList();
+	}
 }
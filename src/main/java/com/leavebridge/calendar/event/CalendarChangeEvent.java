@@ -0,0 +1,64 @@
+package com.leavebridge.calendar.event;
+
+import java.time.LocalDate;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.CalendarChangeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 일정 변경 알림 (Spring ApplicationEvent 겸 SSE 전송 payload)
+ * - 커밋 이후에만 발행되도록 @TransactionalEventListener(AFTER_COMMIT) 로 받는다
+ */
+public record CalendarChangeEvent(
+	@Schema(description = "변경된 일정 id, 여러 건 동기화인 경우 null", example = "12")
+	Long eventId,
+	@Schema(description = "영향 받은 시작 일자", example = "2025-07-01")
+	LocalDate startDate,
+	@Schema(description = "영향 받은 종료 일자", example = "2025-07-03")
+	LocalDate endDate,
+	@Schema(description = "변경 종류", example = "CREATED, UPDATED, DELETED, SYNCED")
+	CalendarChangeType type,
+	@Schema(description = "휴일 일정 변경 여부 (연차 재계산이 동반됨)", example = "true or false")
+	boolean holiday,
+	@Schema(description = "반복 일정(시리즈)만 바뀐 경우 true - 일정 행은 그대로", example = "true or false")
+	boolean series
+) {
+	public CalendarChangeEvent(Long eventId, LocalDate startDate, LocalDate endDate, CalendarChangeType type,
+		boolean holiday) {
+		this(eventId, startDate, endDate, type, holiday, false);
+	}
+
+	public static CalendarChangeEvent of(LeaveAndHoliday leaveAndHoliday, CalendarChangeType type) {
+		return new CalendarChangeEvent(leaveAndHoliday.getId(), leaveAndHoliday.getStartDate(),
+			leaveAndHoliday.getEndDate(), type, Boolean.TRUE.equals(leaveAndHoliday.getIsHoliday()));
+	}
+
+	public static CalendarChangeEvent synced(LocalDate startDate, LocalDate endDate, boolean holiday) {
+		return new CalendarChangeEvent(null, startDate, endDate, CalendarChangeType.SYNCED, holiday);
+	}
+
+	public static CalendarChangeEvent series(LocalDate startDate, LocalDate endDate, CalendarChangeType type) {
+		return new CalendarChangeEvent(null, startDate, endDate, type, false, true);
+	}
+
+	/**
+	 * 같은 트랜잭션의 변경을 하나로 합침 - 기간은 둘을 덮도록, 일정이나 종류가 다르면 여러 건(null, SYNCED)으로
+	 */
+	public CalendarChangeEvent merge(CalendarChangeEvent other) {
+		LocalDate mergedStart = startDate.isBefore(other.startDate) ? startDate : other.startDate;
+		LocalDate mergedEnd = endDate.isAfter(other.endDate) ? endDate : other.endDate;
+		Long mergedId = eventId != null && eventId.equals(other.eventId) ? eventId : null;
+		CalendarChangeType mergedType = mergedId != null && type == other.type ? type : CalendarChangeType.SYNCED;
+		return new CalendarChangeEvent(mergedId, mergedStart, mergedEnd, mergedType, holiday || other.holiday,
+			series && other.series);
+	}
+
+	/**
+	 * 주어진 기간과 겹치는 변경인지
+	 */
+	public boolean overlaps(LocalDate from, LocalDate to) {
+		return !startDate.isAfter(to) && !endDate.isBefore(from);
+	}
+}
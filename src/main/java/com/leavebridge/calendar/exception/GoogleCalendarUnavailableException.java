@@ -0,0 +1,16 @@
+package com.leavebridge.calendar.exception;
+
+/**
+ * 구글 캘린더 서킷 브레이커가 열려 있거나, 재시도 끝에도 장애성 오류(5xx, 429, 네트워크)로 실패했을 때
+ * - 일정 등록/수정/삭제는 이 예외를 받으면 DB 변경은 그대로 두고 구글 반영을 GOOGLE_SYNC_TASK 에 미룸
+ */
+public class GoogleCalendarUnavailableException extends RuntimeException {
+
+	public GoogleCalendarUnavailableException(String message) {
+		super(message);
+	}
+
+	public GoogleCalendarUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,23 @@
+package com.leavebridge.calendar.exception;
+
+import java.util.List;
+
+import com.leavebridge.calendar.dto.LeaveConflictResponse;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+
+import lombok.Getter;
+
+/**
+ * 같은 회원의 부재 일정이 기간상 겹칠 때 (409)
+ */
+@Getter
+public class LeaveConflictException extends RuntimeException {
+
+	private final transient LeaveConflictResponse response;
+
+	public LeaveConflictException(String message, boolean mergeable, List<LeaveAndHoliday> conflicts) {
+		super(message);
+		this.response = new LeaveConflictResponse(message, mergeable,
+			conflicts.stream().map(LeaveConflictResponse.Conflict::from).toList());
+	}
+}
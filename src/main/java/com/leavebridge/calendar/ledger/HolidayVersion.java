@@ -0,0 +1,11 @@
+package com.leavebridge.calendar.ledger;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴일 데이터 버전 (건수, 최대 id, 최근 수정 시각)
+ * - 등록은 최대 id, 삭제·휴일 여부 변경은 건수, 수정은 updatedDate 로 바뀜
+ * - 다른 노드에서 바뀐 휴일도 이 값 비교로 감지
+ */
+public record HolidayVersion(Long count, Long maxId, LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,18 @@
+package com.leavebridge.calendar.ledger;
+
+/**
+ * 연차 차감 분(minute)과 미차감 사유
+ */
+public record LeaveUsage(long minutes, String comment) {
+
+	public static final LeaveUsage EMPTY = new LeaveUsage(0, "");
+
+	// 8시간 = 480분 → 1일
+	public double usedDays() {
+		return toDays(minutes);
+	}
+
+	public static double toDays(long minutes) {
+		return (minutes / 60.0) / 8.0;
+	}
+}
@@ -0,0 +1,290 @@
+package com.leavebridge.calendar.ledger;
+
+import static com.leavebridge.calendar.entity.LeaveAndHoliday.*;
+import static com.leavebridge.util.TimeRuleUtils.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * 근무 형태(일반/파견직) 하나에 대한 근무 분 누적합 달력 (불변)
+ * - prefixMinutes[i] = baseDate 부터 i 일 전까지 "하루 전체 연차"로 차감되는 분의 합
+ * - [시작일, 종료일] 연차 = 시작일 보정 + (prefix[종료일] - prefix[시작일 + 1]) + 종료일 보정
+ * - 주말, 하루종일 휴일, 부분 휴일 규칙은 기존 일자별 계산과 동일
+ */
+public final class WorkingMinutesCalendar {
+
+	private static final byte WORKING = 0;
+	private static final byte WEEKEND = 1;
+	private static final byte HOLIDAY = 2;
+
+	private static final int LUNCH_START_MINUTE = minuteOf(LUNCH_START);
+	private static final int LUNCH_END_MINUTE = minuteOf(LUNCH_END);
+	private static final int[] NO_INTERVALS = new int[0];
+
+	private final LocalDate baseDate;
+	private final int workStart;
+	private final int workEnd;
+	private final byte[] dayKinds;
+	private final int[] prefixMinutes;
+	// 일자 index → 병합된 부분 휴일 구간 [시작분, 종료분, 시작분, 종료분, ...] (점심시간 제외, 근무시간으로 클램핑)
+	private final Map<Integer, int[]> partialIntervals;
+	// 사유를 남겨야 하는 날(주말, 하루종일 휴일, 부분 휴일)의 index 오름차순
+	private final int[] exceptionDays;
+
+	private WorkingMinutesCalendar(LocalDate baseDate, int workStart, int workEnd, byte[] dayKinds,
+		Map<Integer, int[]> partialIntervals) {
+		this.baseDate = baseDate;
+		this.workStart = workStart;
+		this.workEnd = workEnd;
+		this.dayKinds = dayKinds;
+		this.partialIntervals = partialIntervals;
+
+		this.prefixMinutes = new int[dayKinds.length + 1];
+		List<Integer> exceptions = new ArrayList<>();
+		for (int i = 0; i < dayKinds.length; i++) {
+			prefixMinutes[i + 1] = prefixMinutes[i] + dayMinutes(i, workStart, workEnd);
+			if (dayKinds[i] != WORKING || partialIntervals.containsKey(i)) {
+				exceptions.add(i);
+			}
+		}
+		this.exceptionDays = exceptions.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * [from, to] 구간 달력 생성
+	 * @param holidays 구간과 겹치는 휴일 전체 (isHoliday = true)
+	 */
+	public static WorkingMinutesCalendar build(LocalDate from, LocalDate to, List<LeaveAndHoliday> holidays,
+		boolean isGermany) {
+		int days = (int)ChronoUnit.DAYS.between(from, to) + 1;
+		int workStart = minuteOf(getAdjustStartTime(isGermany));
+		int workEnd = minuteOf(getAdjustEndTime(isGermany));
+
+		// 1) 주말
+		byte[] dayKinds = new byte[days];
+		for (int i = 0; i < days; i++) {
+			DayOfWeek dow = from.plusDays(i).getDayOfWeek();
+			if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) {
+				dayKinds[i] = WEEKEND;
+			}
+		}
+
+		// 2) 하루종일 휴일, 부분 휴일
+		Map<Integer, List<int[]>> rawPartials = new HashMap<>();
+		for (LeaveAndHoliday h : holidays) {
+			// 파견직은 관리자가 등록한 기념일을 휴일로 보지 않음
+			if (h.getLeaveType() == LeaveType.ANNIVERSARY && isGermany) {
+				continue;
+			}
+			LocalDate holidayFrom = h.getStartDate().isBefore(from) ? from : h.getStartDate();
+			LocalDate holidayTo = h.getEndDate().isAfter(to) ? to : h.getEndDate();
+
+			for (LocalDate d = holidayFrom; !d.isAfter(holidayTo); d = d.plusDays(1)) {
+				int index = (int)ChronoUnit.DAYS.between(from, d);
+				if (Boolean.TRUE.equals(h.getIsAllDay())) {
+					if (dayKinds[index] == WORKING) {
+						dayKinds[index] = HOLIDAY;
+					}
+				} else if (Boolean.FALSE.equals(h.getIsAllDay())) {
+					addPartialInterval(rawPartials.computeIfAbsent(index, k -> new ArrayList<>()), h, d,
+						workStart, workEnd);
+				}
+			}
+		}
+
+		Map<Integer, int[]> partialIntervals = new HashMap<>();
+		rawPartials.forEach((index, intervals) -> {
+			int[] merged = mergeIntervals(intervals);
+			if (merged.length > 0 && dayKinds[index] == WORKING) {
+				partialIntervals.put(index, merged);
+			}
+		});
+
+		return new WorkingMinutesCalendar(from, workStart, workEnd, dayKinds, partialIntervals);
+	}
+
+	public boolean covers(LocalDate startDate, LocalDate endDate) {
+		return !startDate.isBefore(baseDate) && ChronoUnit.DAYS.between(baseDate, endDate) < dayKinds.length;
+	}
+
+	public boolean isWorkingDay(LocalDate date) {
+		return dayKinds[indexOf(date)] == WORKING;
+	}
+
+	/**
+	 * [시작일시, 종료일시] 연차의 차감 분과 미차감 사유
+	 * - 분 계산은 양 끝 날짜 보정 + 누적합 차이로 O(1)
+	 * - 사유는 구간 안의 예외일만 이진 탐색으로 찾아 작성
+	 */
+	public LeaveUsage usage(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+		if (endDate.isBefore(startDate)) {
+			return LeaveUsage.EMPTY;
+		}
+		int first = indexOf(startDate);
+		int last = indexOf(endDate);
+		int start = minuteOf(startTime);
+		int end = minuteOf(endTime);
+		StringBuilder reasonBuilder = new StringBuilder();
+
+		if (first == last) {
+			long minutes = dayMinutes(first, start, end);
+			appendReason(reasonBuilder, first, start, end);
+			return new LeaveUsage(minutes, reasonBuilder.toString().trim());
+		}
+
+		long minutes = dayMinutes(first, start, workEnd)
+			+ (prefixMinutes[last] - prefixMinutes[first + 1])
+			+ dayMinutes(last, workStart, end);
+
+		appendReason(reasonBuilder, first, start, workEnd);
+		int from = Arrays.binarySearch(exceptionDays, first + 1);
+		for (int i = from < 0 ? -from - 1 : from; i < exceptionDays.length && exceptionDays[i] < last; i++) {
+			appendReason(reasonBuilder, exceptionDays[i], workStart, workEnd);
+		}
+		appendReason(reasonBuilder, last, workStart, end);
+
+		return new LeaveUsage(minutes, reasonBuilder.toString().trim());
+	}
+
+	/**
+	 * 날짜별 차감 분 ([0] 이 시작일), 합계는 usage() 의 분과 같음
+	 */
+	public int[] dailyMinutes(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+		if (endDate.isBefore(startDate)) {
+			return NO_INTERVALS;
+		}
+		int first = indexOf(startDate);
+		int last = indexOf(endDate);
+		int[] minutes = new int[last - first + 1];
+		if (first == last) {
+			minutes[0] = dayMinutes(first, minuteOf(startTime), minuteOf(endTime));
+			return minutes;
+		}
+
+		minutes[0] = dayMinutes(first, minuteOf(startTime), workEnd);
+		for (int i = first + 1; i < last; i++) {
+			minutes[i - first] = prefixMinutes[i + 1] - prefixMinutes[i];
+		}
+		minutes[last - first] = dayMinutes(last, workStart, minuteOf(endTime));
+		return minutes;
+	}
+
+	/**
+	 * 하루 안의 [start, end) 분 중 연차로 차감되는 분
+	 */
+	private int dayMinutes(int index, int start, int end) {
+		if (dayKinds[index] != WORKING || isOnlyLunchMinute(start, end)) {
+			return 0;
+		}
+		int minutes = end - start;
+		if (start <= LUNCH_START_MINUTE && end >= LUNCH_END_MINUTE) {
+			minutes -= 60;
+		}
+		return Math.max(0, minutes - overlapMinutes(index, start, end));
+	}
+
+	private int overlapMinutes(int index, int start, int end) {
+		int[] intervals = partialIntervals.getOrDefault(index, NO_INTERVALS);
+		int overlap = 0;
+		for (int i = 0; i < intervals.length; i += 2) {
+			overlap += Math.max(0, Math.min(end, intervals[i + 1]) - Math.max(start, intervals[i]));
+		}
+		return overlap;
+	}
+
+	private void appendReason(StringBuilder reasonBuilder, int index, int start, int end) {
+		LocalDate d = baseDate.plusDays(index);
+		if (dayKinds[index] == WEEKEND) {
+			reasonBuilder.append("[").append(d).append("] 주말 제외\n");
+		} else if (dayKinds[index] == HOLIDAY) {
+			reasonBuilder.append("[").append(d).append("] 하루종일 휴일이 포함된 일정 제외\n");
+		} else if (isOnlyLunchMinute(start, end)) {
+			reasonBuilder.append("[").append(d).append("] 점심시간(12:00~13:00) 만 포함된 일정 전부 제외\n");
+		} else {
+			int overlap = overlapMinutes(index, start, end);
+			if (overlap > 0) {
+				reasonBuilder.append("[").append(d).append("] 부분 휴일 ").append(overlap).append("분 제외");
+			}
+		}
+	}
+
+	private int indexOf(LocalDate date) {
+		return (int)ChronoUnit.DAYS.between(baseDate, date);
+	}
+
+	/**
+	 * 해당 일자에 걸친 부분 휴일 구간을 근무시간으로 클램핑하고 점심시간 전후로 나눠 추가
+	 */
+	private static void addPartialInterval(List<int[]> intervals, LeaveAndHoliday h, LocalDate targetDate,
+		int workStart, int workEnd) {
+		// 휴일이 targetDate 이전부터 시작됐다면 근무시작, 이후까지 이어진다면 근무종료
+		int rawStart = h.getStartDate().isBefore(targetDate) ? workStart : minuteOf(h.getStarTime());
+		int rawEnd = h.getEndDate().isAfter(targetDate) ? workEnd : minuteOf(h.getEndTime());
+
+		int start = Math.max(rawStart, workStart);
+		int end = Math.min(rawEnd, workEnd);
+		if (start >= end) {
+			return;
+		}
+
+		if (start < LUNCH_END_MINUTE && end > LUNCH_START_MINUTE) {
+			if (start < LUNCH_START_MINUTE) {
+				intervals.add(new int[] {start, LUNCH_START_MINUTE});
+			}
+			if (end > LUNCH_END_MINUTE) {
+				intervals.add(new int[] {LUNCH_END_MINUTE, end});
+			}
+		} else {
+			intervals.add(new int[] {start, end});
+		}
+	}
+
+	/**
+	 * 겹치거나 맞닿은 구간 병합 후 [시작, 종료, 시작, 종료 ...] 로 펼쳐 반환
+	 */
+	private static int[] mergeIntervals(List<int[]> intervals) {
+		if (intervals.isEmpty()) {
+			return NO_INTERVALS;
+		}
+		intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+		List<int[]> merged = new ArrayList<>();
+		int[] current = intervals.getFirst().clone();
+		for (int i = 1; i < intervals.size(); i++) {
+			int[] next = intervals.get(i);
+			if (current[1] >= next[0]) {
+				current[1] = Math.max(current[1], next[1]);
+			} else {
+				merged.add(current);
+				current = next.clone();
+			}
+		}
+		merged.add(current);
+
+		int[] flat = new int[merged.size() * 2];
+		for (int i = 0; i < merged.size(); i++) {
+			flat[i * 2] = merged.get(i)[0];
+			flat[i * 2 + 1] = merged.get(i)[1];
+		}
+		return flat;
+	}
+
+	private static boolean isOnlyLunchMinute(int start, int end) {
+		return start >= LUNCH_START_MINUTE && end <= LUNCH_END_MINUTE;
+	}
+
+	private static int minuteOf(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+}
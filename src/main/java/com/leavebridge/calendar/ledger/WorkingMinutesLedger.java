@@ -0,0 +1,175 @@
+package com.leavebridge.calendar.ledger;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 해에 걸친 근무 분 누적합 달력 (일반/파견직 각각 하나씩)
+ * - 휴일 버전(HolidayVersion)이 바뀌면 다시 만듦, 다른 노드에서 바꾼 휴일도 버전 조회로 반영
+ * - 휴일을 저장 중인 쓰기 트랜잭션 안에서는 커밋 전 데이터로 만든 달력을 그 트랜잭션에만 묶고, 커밋 후 공유
+ * - 범위 밖 연차는 해당 구간만 즉석에서 만들어 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkingMinutesLedger {
+
+	/**
+	 * 특정 휴일 버전 기준 달력 묶음, 대량 계산 시 버전 조회 없이 재사용
+	 */
+	public record Snapshot(HolidayVersion version, int builtYear, WorkingMinutesCalendar regular,
+						   WorkingMinutesCalendar dispatched) {
+		WorkingMinutesCalendar of(boolean isGermany) {
+			return isGermany ? dispatched : regular;
+		}
+	}
+
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final ReentrantLock buildLock = new ReentrantLock();
+	private volatile Snapshot shared;
+
+	@Value("${leave.ledger.years-back:2}")
+	private int yearsBack;
+
+	@Value("${leave.ledger.years-ahead:2}")
+	private int yearsAhead;
+
+	public LeaveUsage calculate(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime,
+		boolean isGermany) {
+		return calculate(snapshot(), startDate, startTime, endDate, endTime, isGermany);
+	}
+
+	public LeaveUsage calculate(Snapshot snapshot, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+		LocalTime endTime, boolean isGermany) {
+		if (endDate.isBefore(startDate)) {
+			return LeaveUsage.EMPTY;
+		}
+		return calendarFor(snapshot, startDate, endDate, isGermany).usage(startDate, startTime, endDate, endTime);
+	}
+
+	/**
+	 * 날짜별 차감 분 ([0] 이 시작일)
+	 */
+	public int[] dailyMinutes(Snapshot snapshot, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+		LocalTime endTime, boolean isGermany) {
+		if (endDate.isBefore(startDate)) {
+			return new int[0];
+		}
+		return calendarFor(snapshot, startDate, endDate, isGermany).dailyMinutes(startDate, startTime, endDate,
+			endTime);
+	}
+
+	/**
+	 * 주말, 하루종일 휴일이 아닌 근무일인지
+	 */
+	public boolean isWorkingDay(Snapshot snapshot, LocalDate date, boolean isGermany) {
+		return calendarFor(snapshot, date, date, isGermany).isWorkingDay(date);
+	}
+
+	/**
+	 * 기간을 덮는 달력 (스냅샷 범위 밖이면 해당 기간만 즉석 생성), 같은 기간 여러 날 조회 시 한 번만 받아 재사용
+	 */
+	public WorkingMinutesCalendar calendarFor(Snapshot snapshot, LocalDate startDate, LocalDate endDate,
+		boolean isGermany) {
+		WorkingMinutesCalendar calendar = snapshot.of(isGermany);
+		if (calendar.covers(startDate, endDate)) {
+			return calendar;
+		}
+		return WorkingMinutesCalendar.build(startDate, endDate,
+			leaveAndHolidayRepository.findAllHolidaysByDateRange(startDate, endDate), isGermany);
+	}
+
+	/**
+	 * 현재 휴일 버전 기준 달력 (버전이 바뀌었으면 다시 만듦)
+	 */
+	public Snapshot snapshot() {
+		// 같은 트랜잭션 안이면 아직 커밋 안 된 휴일 변경도 버전에 반영됨 (JPQL 조회 전 flush)
+		HolidayVersion version = leaveAndHolidayRepository.findHolidayVersion();
+		int year = LocalDate.now().getYear();
+
+		Snapshot bound = (Snapshot)TransactionSynchronizationManager.getResource(this);
+		if (isValid(bound, version, year)) {
+			return bound;
+		}
+		Snapshot current = shared;
+		if (isValid(current, version, year)) {
+			return current;
+		}
+
+		if (isWriteTransaction()) {
+			// 커밋 전 데이터로 만든 달력은 공유하지 않고 트랜잭션에만 보관
+			return bindToTransaction(build(version, year));
+		}
+
+		buildLock.lock();
+		try {
+			current = shared;
+			if (!isValid(current, version, year)) {
+				current = build(version, year);
+				shared = current;
+			}
+			return current;
+		} finally {
+			buildLock.unlock();
+		}
+	}
+
+	private Snapshot build(HolidayVersion version, int year) {
+		long begin = System.nanoTime();
+		LocalDate from = LocalDate.of(year - yearsBack, 1, 1);
+		LocalDate to = LocalDate.of(year + yearsAhead, 12, 31);
+
+		var holidays = leaveAndHolidayRepository.findAllHolidaysByDateRange(from, to);
+		Snapshot snapshot = new Snapshot(version, year,
+			WorkingMinutesCalendar.build(from, to, holidays, false),
+			WorkingMinutesCalendar.build(from, to, holidays, true));
+
+		log.info("WorkingMinutesLedger :: 근무 분 달력 생성 {} ~ {}, 휴일 {}건, {}ms", from, to, holidays.size(),
+			(System.nanoTime() - begin) / 1_000_000);
+		return snapshot;
+	}
+
+	private Snapshot bindToTransaction(Snapshot snapshot) {
+		if (TransactionSynchronizationManager.hasResource(this)) {
+			TransactionSynchronizationManager.unbindResource(this);
+		} else {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					Snapshot committed = (Snapshot)TransactionSynchronizationManager.getResource(WorkingMinutesLedger.this);
+					if (committed != null) {
+						shared = committed;
+					}
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(WorkingMinutesLedger.this);
+				}
+			});
+		}
+		TransactionSynchronizationManager.bindResource(this, snapshot);
+		return snapshot;
+	}
+
+	private boolean isValid(Snapshot snapshot, HolidayVersion version, int year) {
+		return snapshot != null && snapshot.builtYear() == year && snapshot.version().equals(version);
+	}
+
+	private boolean isWriteTransaction() {
+		return TransactionSynchronizationManager.isSynchronizationActive()
+			&& TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+}
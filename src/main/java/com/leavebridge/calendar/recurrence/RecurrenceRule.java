@@ -0,0 +1,240 @@
+package com.leavebridge.calendar.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * RFC 5545 RRULE 중 반복 일정에 필요한 부분만 지원
+ * - FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY(WEEKLY 전용, 요일만), UNTIL 또는 COUNT
+ * - 전개는 요청한 기간에 해당하는 주기부터 시작 (COUNT 가 있으면 처음부터 세야 하므로 예외)
+ */
+public record RecurrenceRule(Frequency frequency, int interval, List<DayOfWeek> byDay, LocalDate until,
+							 Integer count) {
+
+	public enum Frequency {
+		DAILY, WEEKLY, MONTHLY
+	}
+
+	public static final int MAX_COUNT = 500;
+	public static final LocalDate OPEN_END = LocalDate.of(9999, 12, 31);
+
+	private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+		"MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+		"FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+	public RecurrenceRule {
+		if (frequency == null) {
+			throw new IllegalArgumentException("반복 규칙에 FREQ 는 필수입니다.");
+		}
+		if (interval < 1) {
+			throw new IllegalArgumentException("반복 간격(INTERVAL)은 1 이상이어야 합니다.");
+		}
+		if (until != null && count != null) {
+			throw new IllegalArgumentException("UNTIL 과 COUNT 는 함께 지정할 수 없습니다.");
+		}
+		if (count != null && (count < 1 || count > MAX_COUNT)) {
+			throw new IllegalArgumentException("반복 횟수(COUNT)는 1 ~ " + MAX_COUNT + " 사이여야 합니다.");
+		}
+		// 중복 제거 + 월요일부터 정렬
+		byDay = byDay == null || byDay.isEmpty() ? List.of() : List.copyOf(EnumSet.copyOf(byDay));
+		if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+			throw new IllegalArgumentException("BYDAY 는 FREQ=WEEKLY 에서만 지원합니다.");
+		}
+	}
+
+	public static RecurrenceRule parse(String rrule) {
+		if (rrule == null || rrule.isBlank()) {
+			throw new IllegalArgumentException("반복 규칙은 필수입니다.");
+		}
+		String value = rrule.trim();
+		if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+			value = value.substring(6);
+		}
+
+		Frequency frequency = null;
+		int interval = 1;
+		List<DayOfWeek> byDay = List.of();
+		LocalDate until = null;
+		Integer count = null;
+
+		for (String part : value.split(";")) {
+			if (part.isBlank()) {
+				continue;
+			}
+			int eq = part.indexOf('=');
+			if (eq < 0) {
+				throw new IllegalArgumentException("잘못된 반복 규칙입니다: " + part);
+			}
+			String key = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+			String val = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+			switch (key) {
+				case "FREQ" -> frequency = parseFrequency(val);
+				case "INTERVAL" -> interval = parsePositive(val, key);
+				case "COUNT" -> count = parsePositive(val, key);
+				case "UNTIL" -> until = parseUntil(val);
+				case "BYDAY" -> byDay = parseByDay(val);
+				case "WKST" -> {
+					// 주 시작은 월요일 고정
+				}
+				default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + key);
+			}
+		}
+		return new RecurrenceRule(frequency, interval, byDay, until, count);
+	}
+
+	/**
+	 * [from, to] 기간 안의 발생일 (시작일 이전, UNTIL/COUNT 이후 제외), 날짜 오름차순
+	 */
+	public List<LocalDate> occurrences(LocalDate start, LocalDate from, LocalDate to) {
+		LocalDate last = until != null && until.isBefore(to) ? until : to;
+		List<LocalDate> result = new ArrayList<>();
+		if (last.isBefore(from) || last.isBefore(start)) {
+			return result;
+		}
+
+		// COUNT 가 없으면 요청 기간 직전 주기부터 전개
+		long period = count == null && from.isAfter(start) ? periodsBetween(start, from) / interval : 0;
+		int generated = 0;
+		while (true) {
+			LocalDate periodStart = periodStart(start, period * interval);
+			if (periodStart.isAfter(last)) {
+				return result;
+			}
+			for (LocalDate date : candidates(start, period * interval)) {
+				if (date.isBefore(start)) {
+					continue;
+				}
+				if (count != null && ++generated > count || date.isAfter(last)) {
+					return result;
+				}
+				if (!date.isBefore(from)) {
+					result.add(date);
+				}
+			}
+			period++;
+		}
+	}
+
+	/**
+	 * 마지막 발생일, 끝이 없는 규칙이면 null
+	 */
+	public LocalDate lastOccurrence(LocalDate start) {
+		if (until != null) {
+			return until;
+		}
+		if (count == null) {
+			return null;
+		}
+		List<LocalDate> all = occurrences(start, start, OPEN_END);
+		return all.isEmpty() ? start : all.get(all.size() - 1);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(";");
+		joiner.add("FREQ=" + frequency);
+		if (interval > 1) {
+			joiner.add("INTERVAL=" + interval);
+		}
+		if (!byDay.isEmpty()) {
+			StringJoiner days = new StringJoiner(",");
+			byDay.forEach(day -> days.add(day.name().substring(0, 2)));
+			joiner.add("BYDAY=" + days);
+		}
+		if (until != null) {
+			joiner.add("UNTIL=" + DateTimeFormatter.BASIC_ISO_DATE.format(until));
+		}
+		if (count != null) {
+			joiner.add("COUNT=" + count);
+		}
+		return joiner.toString();
+	}
+
+	private long periodsBetween(LocalDate start, LocalDate from) {
+		return switch (frequency) {
+			case DAILY -> ChronoUnit.DAYS.between(start, from);
+			case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(from));
+			case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from));
+		};
+	}
+
+	private LocalDate periodStart(LocalDate start, long offset) {
+		return switch (frequency) {
+			case DAILY -> start.plusDays(offset);
+			case WEEKLY -> weekStart(start).plusWeeks(offset);
+			case MONTHLY -> YearMonth.from(start).plusMonths(offset).atDay(1);
+		};
+	}
+
+	private List<LocalDate> candidates(LocalDate start, long offset) {
+		return switch (frequency) {
+			case DAILY -> List.of(start.plusDays(offset));
+			case WEEKLY -> {
+				LocalDate weekStart = weekStart(start).plusWeeks(offset);
+				List<DayOfWeek> days = byDay.isEmpty() ? List.of(start.getDayOfWeek()) : byDay;
+				yield days.stream().map(day -> weekStart.plusDays(day.ordinal())).toList();
+			}
+			case MONTHLY -> {
+				// 31일 시작 규칙은 31일이 없는 달을 건너뜀 (RFC 5545)
+				YearMonth month = YearMonth.from(start).plusMonths(offset);
+				yield month.isValidDay(start.getDayOfMonth()) ? List.of(month.atDay(start.getDayOfMonth())) : List.of();
+			}
+		};
+	}
+
+	private static LocalDate weekStart(LocalDate date) {
+		return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	private static Frequency parseFrequency(String value) {
+		try {
+			return Frequency.valueOf(value);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + value);
+		}
+	}
+
+	private static int parsePositive(String value, String key) {
+		try {
+			int parsed = Integer.parseInt(value);
+			if (parsed < 1) {
+				throw new NumberFormatException();
+			}
+			return parsed;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(key + " 는 1 이상의 정수여야 합니다: " + value);
+		}
+	}
+
+	private static LocalDate parseUntil(String value) {
+		// 20251231 또는 20251231T235959Z 형태, 날짜만 사용
+		try {
+			return LocalDate.parse(value.length() >= 8 ? value.substring(0, 8) : value, DateTimeFormatter.BASIC_ISO_DATE);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("UNTIL 날짜 형식이 올바르지 않습니다: " + value);
+		}
+	}
+
+	private static List<DayOfWeek> parseByDay(String value) {
+		List<DayOfWeek> days = new ArrayList<>();
+		for (String code : value.split(",")) {
+			DayOfWeek day = DAY_CODES.get(code.trim());
+			if (day == null) {
+				throw new IllegalArgumentException("지원하지 않는 BYDAY 값입니다: " + code);
+			}
+			days.add(day);
+		}
+		return days;
+	}
+}
@@ -0,0 +1,13 @@
+package com.leavebridge.calendar.recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * 반복 일정을 전개한 한 번의 발생 (예외 적용 후)
+ */
+public record SeriesOccurrence(Long seriesId, Long memberId, boolean isGermany, String title, LeaveType leaveType,
+							   LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
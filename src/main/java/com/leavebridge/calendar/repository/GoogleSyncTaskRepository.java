@@ -0,0 +1,16 @@
+package com.leavebridge.calendar.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.leavebridge.calendar.entity.GoogleSyncTask;
+
+public interface GoogleSyncTaskRepository extends JpaRepository<GoogleSyncTask, Long> {
+
+	boolean existsByLeaveId(Long leaveId);
+
+	@Query("select t.id from GoogleSyncTask t order by t.id")
+	List<Long> findAllIdsInOrder();
+}
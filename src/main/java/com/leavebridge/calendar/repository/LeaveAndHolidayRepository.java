@@ -4,12 +4,17 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.leavebridge.calendar.dto.CalendarVersion;
 import com.leavebridge.calendar.entity.LeaveAndHoliday;
 import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.ledger.HolidayVersion;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface LeaveAndHolidayRepository extends JpaRepository<LeaveAndHoliday, Long> {
@@ -38,4 +43,42 @@ public interface LeaveAndHolidayRepository extends JpaRepository<LeaveAndHoliday
 	boolean existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIsHolidayTrueAndIsAllDayTrue(LocalDate date, LocalDate date1);
 
 	List<LeaveAndHoliday> findAllByStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDate monthEnd, LocalDate monthStart);
-}
\ No newline at end of file
+
+	@Query("""
+		SELECT l FROM LeaveAndHoliday l
+		WHERE l.isHoliday = true
+		      AND l.startDate <= :to
+		      AND l.endDate   >= :from
+		""")
+	List<LeaveAndHoliday> findAllHolidaysByDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	/**
+	 * 회원의 기간 내 부재 일정 (중복 검사용)
+	 * - (MEMBER_ID, START_DATE, END_DATE) 인덱스 범위 탐색
+	 * - 잠금 읽기라 REPEATABLE READ 에서도 다른 트랜잭션이 방금 커밋한 행까지 보임
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT l FROM LeaveAndHoliday l
+		WHERE l.member.id = :memberId
+		      AND (l.isHoliday = false OR l.isHoliday IS NULL)
+		      AND l.leaveType IN :absenceTypes
+		      AND l.startDate <= :endDate
+		      AND l.endDate   >= :startDate
+		ORDER BY l.startDate
+		""")
+	List<LeaveAndHoliday> findAllAbsencesOfMemberForUpdate(
+		@Param("memberId") Long memberId,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		@Param("absenceTypes") List<LeaveType> absenceTypes
+	);
+
+	@Query("SELECT new com.leavebridge.calendar.ledger.HolidayVersion(COUNT(l), MAX(l.id), MAX(l.updatedDate)) "
+		+ "FROM LeaveAndHoliday l WHERE l.isHoliday = true")
+	HolidayVersion findHolidayVersion();
+
+	@Query("SELECT new com.leavebridge.calendar.dto.CalendarVersion(COUNT(l), MAX(l.id), MAX(l.createdDate), "
+		+ "MAX(l.updatedDate)) FROM LeaveAndHoliday l")
+	CalendarVersion findCalendarVersion();
+}
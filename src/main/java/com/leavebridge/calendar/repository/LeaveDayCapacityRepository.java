@@ -0,0 +1,103 @@
+package com.leavebridge.calendar.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.leavebridge.calendar.enums.CapacityPool;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 날짜 x 풀 부재 인원 카운터 (LEAVE_DAY_CAPACITY)
+ * - 증가는 "ABSENT_COUNT < 한도" 조건부 UPDATE 한 번이라 동시에 시도해도 한도를 넘지 않음 (행 잠금만 사용)
+ * - 행 생성도 호출한 트랜잭션 안에서 - 별도 트랜잭션은 회원 잠금을 쥔 채 커넥션을 하나 더 빌려
+ *   동시 등록이 풀 크기만큼 몰리면 서로 커넥션을 기다리며 멈춤
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaveDayCapacityRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 카운터 행이 없으면 0 으로 생성 (현재 트랜잭션 안에서)
+	 * - 이미 있는 행은 건너뛰고, 그 사이 다른 요청이 만든 행은 ON DUPLICATE KEY 로 그대로 둠 (중복 키 예외로
+	 *   트랜잭션이 깨지지 않음)
+	 * - 날짜순으로 만들어 같은 날짜들을 처음 등록하는 요청끼리도 같은 순서로 행을 잠금
+	 */
+	public void ensureRows(Collection<LocalDate> days, List<CapacityPool> pools) {
+		if (days.isEmpty()) {
+			return;
+		}
+		TreeSet<LocalDate> sorted = new TreeSet<>(days);
+
+		Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("""
+			SELECT CONCAT(DAY, '/', POOL) FROM LEAVE_DAY_CAPACITY
+			 WHERE DAY BETWEEN ? AND ?
+			""", String.class, Date.valueOf(sorted.first()), Date.valueOf(sorted.last())));
+		List<Object[]> missing = new ArrayList<>();
+		for (LocalDate day : sorted) {
+			for (CapacityPool pool : pools) {
+				if (!existing.contains(day + "/" + pool.name())) {
+					missing.add(new Object[] {Date.valueOf(day), pool.name()});
+				}
+			}
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("""
+			INSERT INTO LEAVE_DAY_CAPACITY (DAY, POOL, ABSENT_COUNT) VALUES (?, ?, 0)
+			    ON DUPLICATE KEY UPDATE ABSENT_COUNT = ABSENT_COUNT
+			""", missing);
+	}
+
+	/**
+	 * 한도 미만일 때만 1 증가 - 증가했으면 true, 이미 한도면 false
+	 */
+	public boolean tryIncrement(LocalDate day, CapacityPool pool, int limit) {
+		return jdbcTemplate.update("""
+			UPDATE LEAVE_DAY_CAPACITY
+			   SET ABSENT_COUNT = ABSENT_COUNT + 1
+			 WHERE DAY = ? AND POOL = ? AND ABSENT_COUNT < ?
+			""", Date.valueOf(day), pool.name(), limit) == 1;
+	}
+
+	public void decrement(LocalDate day, CapacityPool pool) {
+		jdbcTemplate.update("""
+			UPDATE LEAVE_DAY_CAPACITY
+			   SET ABSENT_COUNT = ABSENT_COUNT - 1
+			 WHERE DAY = ? AND POOL = ? AND ABSENT_COUNT > 0
+			""", Date.valueOf(day), pool.name());
+	}
+
+	public int count(LocalDate day, CapacityPool pool) {
+		List<Integer> counts = jdbcTemplate.queryForList(
+			"SELECT ABSENT_COUNT FROM LEAVE_DAY_CAPACITY WHERE DAY = ? AND POOL = ?", Integer.class,
+			Date.valueOf(day), pool.name());
+		return counts.isEmpty() ? 0 : counts.get(0);
+	}
+
+	/**
+	 * [from, to] 카운터를 주어진 값으로 교체 (재집계용, 현재 트랜잭션 안에서)
+	 */
+	public void replaceRange(LocalDate from, LocalDate to, Map<LocalDate, Map<CapacityPool, Integer>> counts) {
+		jdbcTemplate.update("DELETE FROM LEAVE_DAY_CAPACITY WHERE DAY BETWEEN ? AND ?", Date.valueOf(from),
+			Date.valueOf(to));
+
+		List<Object[]> rows = new ArrayList<>();
+		counts.forEach((day, byPool) -> byPool.forEach((pool, count) ->
+			rows.add(new Object[] {Date.valueOf(day), pool.name(), count})));
+		jdbcTemplate.batchUpdate("INSERT INTO LEAVE_DAY_CAPACITY (DAY, POOL, ABSENT_COUNT) VALUES (?, ?, ?)", rows);
+	}
+}
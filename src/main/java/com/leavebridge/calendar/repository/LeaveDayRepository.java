@@ -0,0 +1,40 @@
+package com.leavebridge.calendar.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.leavebridge.calendar.entity.LeaveDay;
+
+@Repository
+public interface LeaveDayRepository extends JpaRepository<LeaveDay, Long> {
+
+	@Modifying
+	@Query("DELETE FROM LeaveDay d WHERE d.leaveId = :leaveId")
+	int deleteAllByLeaveId(@Param("leaveId") Long leaveId);
+
+	@Modifying
+	@Query("DELETE FROM LeaveDay d WHERE d.leaveId IN :leaveIds")
+	int deleteAllByLeaveIdIn(@Param("leaveIds") Collection<Long> leaveIds);
+
+	@Modifying
+	@Query("DELETE FROM LeaveDay d WHERE d.day BETWEEN :from AND :to")
+	int deleteAllByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	/**
+	 * 하루 부재자 - (DAY, MEMBER_ID) 인덱스 동등 조회
+	 */
+	@Query("""
+		SELECT d FROM LeaveDay d
+		  JOIN FETCH d.member
+		 WHERE d.day = :day
+		 ORDER BY d.member.id, d.leaveId
+		""")
+	List<LeaveDay> findAllByDayWithMember(@Param("day") LocalDate day);
+}
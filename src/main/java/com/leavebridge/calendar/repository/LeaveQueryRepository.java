@@ -0,0 +1,148 @@
+package com.leavebridge.calendar.repository;
+
+import static com.leavebridge.calendar.entity.QLeaveAndHoliday.*;
+import static com.leavebridge.member.entitiy.QMember.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import com.leavebridge.calendar.dto.EventSearchRow;
+import com.leavebridge.calendar.dto.IcsEventRow;
+import com.leavebridge.calendar.dto.LeaveExportRow;
+import com.leavebridge.calendar.dto.LeaveSpanRow;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class LeaveQueryRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 해당 연도에 시작한 회원 일정을 DB 커서로 한 행씩 조회 (휴일, 비회원 일정 제외)
+	 * - DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음
+	 * - 반드시 트랜잭션 안에서 사용하고 Stream 을 닫아야 커서가 해제됨
+	 */
+	public Stream<LeaveExportRow> streamMemberLeavesOfYear(int year, int fetchSize) {
+		LocalDate yearStart = LocalDate.of(year, 1, 1);
+		LocalDate yearEnd = LocalDate.of(year, 12, 31);
+
+		return queryFactory
+			.select(Projections.constructor(LeaveExportRow.class,
+				member.id,
+				member.name,
+				leaveAndHoliday.leaveType,
+				leaveAndHoliday.title,
+				leaveAndHoliday.startDate,
+				leaveAndHoliday.starTime,
+				leaveAndHoliday.endDate,
+				leaveAndHoliday.endTime,
+				leaveAndHoliday.usedLeaveDays,
+				leaveAndHoliday.comment
+			))
+			.from(leaveAndHoliday)
+			.join(leaveAndHoliday.member, member)
+			.where(
+				leaveAndHoliday.startDate.between(yearStart, yearEnd),
+				leaveAndHoliday.isHoliday.isNull().or(leaveAndHoliday.isHoliday.isFalse()),
+				leaveAndHoliday.leaveType.ne(LeaveType.OTHER_PEOPLE)
+			)
+			.orderBy(member.id.asc(), leaveAndHoliday.startDate.asc())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.stream();
+	}
+
+	/**
+	 * iCalendar 피드용 일정 커서 조회
+	 * @param memberId null 이면 팀 전체, 아니면 해당 회원 일정 + 휴일
+	 */
+	public Stream<IcsEventRow> streamIcsEvents(LocalDate from, Long memberId, int fetchSize) {
+		return queryFactory
+			.select(Projections.constructor(IcsEventRow.class,
+				leaveAndHoliday.id,
+				leaveAndHoliday.title,
+				leaveAndHoliday.startDate,
+				leaveAndHoliday.starTime,
+				leaveAndHoliday.endDate,
+				leaveAndHoliday.endTime,
+				leaveAndHoliday.isAllDay,
+				leaveAndHoliday.isHoliday,
+				leaveAndHoliday.leaveType,
+				leaveAndHoliday.createdDate,
+				leaveAndHoliday.updatedDate
+			))
+			.from(leaveAndHoliday)
+			.where(
+				leaveAndHoliday.endDate.goe(from),
+				memberId == null ? null
+					: leaveAndHoliday.member.id.eq(memberId).or(leaveAndHoliday.isHoliday.isTrue())
+			)
+			.orderBy(leaveAndHoliday.startDate.asc(), leaveAndHoliday.id.asc())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.stream();
+	}
+
+	/**
+	 * 검색 색인 생성용 커서 조회
+	 * @param from, to 이 기간과 겹치는 일정만 (둘 다 null 이면 전체)
+	 */
+	public Stream<EventSearchRow> streamSearchRows(LocalDate from, LocalDate to, int fetchSize) {
+		return queryFactory
+			.select(Projections.constructor(EventSearchRow.class,
+				leaveAndHoliday.id,
+				leaveAndHoliday.title,
+				leaveAndHoliday.description,
+				leaveAndHoliday.startDate,
+				leaveAndHoliday.endDate,
+				leaveAndHoliday.isHoliday,
+				leaveAndHoliday.leaveType
+			))
+			.from(leaveAndHoliday)
+			.where(
+				to == null ? null : leaveAndHoliday.startDate.loe(to),
+				from == null ? null : leaveAndHoliday.endDate.goe(from)
+			)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.stream();
+	}
+
+	/**
+	 * [from, to] 와 겹치는 부재 일정을 id 순으로 afterId 다음부터 limit 건 (재집계를 나눠 읽는 키셋 페이지)
+	 * - 회원은 조인하지 않고 MEMBER_ID 컬럼만 읽음
+	 */
+	public List<LeaveSpanRow> findAbsenceSpans(LocalDate from, LocalDate to, long afterId, int limit) {
+		return queryFactory
+			.select(Projections.constructor(LeaveSpanRow.class,
+				leaveAndHoliday.id,
+				leaveAndHoliday.member.id,
+				leaveAndHoliday.leaveType,
+				leaveAndHoliday.startDate,
+				leaveAndHoliday.starTime,
+				leaveAndHoliday.endDate,
+				leaveAndHoliday.endTime
+			))
+			.from(leaveAndHoliday)
+			.where(
+				leaveAndHoliday.id.gt(afterId),
+				leaveAndHoliday.isHoliday.isNull().or(leaveAndHoliday.isHoliday.isFalse()),
+				leaveAndHoliday.leaveType.in(LeaveType.absenceTypes()),
+				leaveAndHoliday.startDate.loe(to),
+				leaveAndHoliday.endDate.goe(from)
+			)
+			.orderBy(leaveAndHoliday.id.asc())
+			.limit(limit)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.fetch();
+	}
+}
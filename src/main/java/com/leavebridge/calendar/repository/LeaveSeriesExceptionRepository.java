@@ -0,0 +1,29 @@
+package com.leavebridge.calendar.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.leavebridge.calendar.entity.LeaveSeriesException;
+
+@Repository
+public interface LeaveSeriesExceptionRepository extends JpaRepository<LeaveSeriesException, Long> {
+
+	List<LeaveSeriesException> findAllBySeriesIdInAndOccurrenceDateBetween(Collection<Long> seriesIds,
+		LocalDate from, LocalDate to);
+
+	List<LeaveSeriesException> findAllBySeriesIdOrderByOccurrenceDate(Long seriesId);
+
+	Optional<LeaveSeriesException> findBySeriesIdAndOccurrenceDate(Long seriesId, LocalDate occurrenceDate);
+
+	@Modifying
+	@Query("DELETE FROM LeaveSeriesException e WHERE e.series.id = :seriesId")
+	void deleteAllBySeriesId(@Param("seriesId") Long seriesId);
+}
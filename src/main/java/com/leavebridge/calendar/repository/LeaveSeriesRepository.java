@@ -0,0 +1,25 @@
+package com.leavebridge.calendar.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.leavebridge.calendar.entity.LeaveSeries;
+
+@Repository
+public interface LeaveSeriesRepository extends JpaRepository<LeaveSeries, Long> {
+
+	/**
+	 * 기간과 겹칠 수 있는 시리즈 (끝없는 규칙 포함), 휴일 판단에 회원 파견 여부가 필요해 함께 조회
+	 */
+	@Query("""
+		SELECT s FROM LeaveSeries s JOIN FETCH s.member
+		WHERE s.startDate <= :to
+		      AND (s.endDate IS NULL OR s.endDate >= :from)
+		""")
+	List<LeaveSeries> findAllOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
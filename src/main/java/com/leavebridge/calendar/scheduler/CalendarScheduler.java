@@ -2,25 +2,27 @@ package com.leavebridge.calendar.scheduler;
 
 import static com.leavebridge.member.entitiy.Member.*;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.google.api.client.util.DateTime;
-import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
-import com.google.api.services.calendar.model.Events;
 import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
 import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
 import com.leavebridge.calendar.service.ExternalEventSyncService;
+import com.leavebridge.calendar.service.GoogleCalendarAPIService;
+import com.leavebridge.calendar.service.GoogleCalendarSyncService;
+import com.leavebridge.lease.service.SchedulerLeaseService;
 import com.leavebridge.member.entitiy.Member;
 
 import lombok.RequiredArgsConstructor;
@@ -31,20 +33,29 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class CalendarScheduler {
 
-	private final Calendar calendarClient;
+	private final GoogleCalendarAPIService googleCalendarAPIService;
 	private static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
 	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
 	private final ExternalEventSyncService externalEventSyncService;
-
-	@Value("${google.calendar-id}")
-	private String GOOGLE_PERSONAL_CALENDAR_ID;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SchedulerLeaseService schedulerLeaseService;
+	private final GoogleCalendarSyncService googleCalendarSyncService;
 
 	public static Member adminMember = Member.builder().id(ADMIN_ID).build();
 
+	// 공휴일 API 장애(브레이커 열림 등)로 월간 동기화가 실패했으면 이 노드에서 매시간 다시 시도
+	private volatile boolean holidaySyncPending;
+
 	// @Scheduled(cron = "0 */1 * * * *") //1분마다 적용 확인을 위해 일단 달아둠
 	// @Scheduled(cron = "0 0 0 * * *")
 	@Retryable(value = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 2000))
-	public void getLeaveSchduleRegularly() throws IOException {
+	public void getLeaveSchduleRegularly() throws Exception {
+		// 여러 인스턴스 중 리스를 얻은 노드만 구글 캘린더 조회
+		schedulerLeaseService.runWithLease("getLeaveSchduleRegularly", Duration.ofMinutes(10), Duration.ofMinutes(1),
+			this::pullGoogleCalendarEvents);
+	}
+
+	private void pullGoogleCalendarEvents() throws Exception {
 
 		LocalDate today = LocalDate.now();
 		int year = today.getYear();
@@ -65,14 +76,8 @@ public class CalendarScheduler {
 		// 3) DateTime 객체로 변환
 		DateTime timeMax = new DateTime(timeMaxIso);
 
-		Events events = calendarClient.events().list(GOOGLE_PERSONAL_CALENDAR_ID)
-			.setTimeMin(timeMin)
-			.setTimeMax(timeMax)
-			.setSingleEvents(true)    // 반복 이벤트를 각 회차별로 개별 인스턴스로 분할해 반환
-			.setOrderBy("startTime")
-			.execute();
-
-		List<Event> items = events.getItems();
+		// 스케줄 동기화 몫의 호출 한도로 조회 (사용자 요청 몫은 건드리지 않음)
+		List<Event> items = googleCalendarAPIService.listEvents(timeMin, timeMax);
 
 		externalEventSyncService.processAndSaveNewEvents(items);
 	}
@@ -80,10 +85,47 @@ public class CalendarScheduler {
 	// @Scheduled(cron = "0 */1 * * * *") //1분마다 적용 확인을 위해 일단 달아둠
 	@Scheduled(cron = "0 0 4 1 * *") // 매달 1일 새벽 4시 실행
 	@Retryable(value = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 2000))
-	public void syncHolidaysMonthly() throws IOException {
+	public void syncHolidaysMonthly() throws Exception {
+		// 여러 인스턴스 중 리스를 얻은 노드만 공휴일 API 호출 & 저장 (중복 insert 방지)
+		schedulerLeaseService.runWithLease("syncHolidaysMonthly", Duration.ofMinutes(30), Duration.ofMinutes(5),
+			this::syncHolidays);
+	}
+
+	@Scheduled(cron = "0 30 * * * *")
+	public void retryPendingHolidaySync() throws Exception {
+		if (holidaySyncPending) {
+			log.info("retryPendingHolidaySync :: 실패했던 공휴일 동기화 다시 시도");
+			schedulerLeaseService.runWithLease("syncHolidaysMonthly", Duration.ofMinutes(30), Duration.ofMinutes(5),
+				this::syncHolidays);
+		}
+	}
+
+	/**
+	 * 구글 캘린더 장애 동안 미뤄 둔 반영 재생 (브레이커가 닫힐 때도 바로 실행됨)
+	 */
+	@Scheduled(fixedDelayString = "${google.calendar.sync.replay-interval-ms:60000}")
+	public void replayPendingGoogleSync() throws Exception {
+		googleCalendarSyncService.replayWithLease();
+	}
+
+	private void syncHolidays() throws Exception {
 		log.info("syncHolidaysMonthly :: {}", LocalDateTime.now());
-		List<LeaveAndHoliday> sortedNewLeaveAndHolidayEntities = externalEventSyncService.syncNextYears(2);
+		List<LeaveAndHoliday> sortedNewLeaveAndHolidayEntities;
+		try {
+			sortedNewLeaveAndHolidayEntities = externalEventSyncService.syncNextYears(2);
+		} catch (Exception e) {
+			holidaySyncPending = true;
+			throw e;
+		}
+		holidaySyncPending = false;
 		leaveAndHolidayRepository.saveAll(sortedNewLeaveAndHolidayEntities);
+
+		// 트랜잭션 밖이라 저장 직후 바로 알림 (시작일 순 정렬, 공휴일은 하루 단위)
+		if (!sortedNewLeaveAndHolidayEntities.isEmpty()) {
+			eventPublisher.publishEvent(CalendarChangeEvent.synced(
+				sortedNewLeaveAndHolidayEntities.getFirst().getStartDate(),
+				sortedNewLeaveAndHolidayEntities.getLast().getEndDate(), true));
+		}
 	}
 
 }
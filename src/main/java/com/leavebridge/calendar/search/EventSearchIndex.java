@@ -0,0 +1,220 @@
+package com.leavebridge.calendar.search;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.leavebridge.calendar.dto.EventSearchRow;
+
+/**
+ * 일정 제목/설명 역색인 (메모리)
+ * - 한글은 형태소 분석 없이 음절 1-gram + 2-gram 으로 색인, 검색어는 2-gram (한 글자면 1-gram)
+ * - 검색어 토큰을 모두 포함한 문서만 반환, 점수 = Σ idf × (제목 2 + 설명 1)
+ * - 읽기는 동시에, 갱신은 쓰기 락으로 직렬화
+ */
+public final class EventSearchIndex {
+
+	public record Hit(EventSearchRow row, double score) {
+	}
+
+	private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final int TITLE = 1;
+	private static final int DESCRIPTION = 2;
+	private static final double TITLE_WEIGHT = 2.0;
+	private static final double DESCRIPTION_WEIGHT = 1.0;
+	private static final double PHRASE_BONUS = 1.0;  // 제목에 검색어가 통째로 들어있으면 가산
+
+	private final Map<Long, EventSearchRow> documents = new HashMap<>();
+	private final Map<Long, Set<String>> tokensByDocument = new HashMap<>();
+	private final Map<String, Map<Long, Integer>> postings = new HashMap<>();  // 토큰 -> (문서 id -> 필드 비트)
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void upsert(EventSearchRow row) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(row.id());
+			Map<String, Integer> fields = new HashMap<>();
+			indexTokens(row.title()).forEach(token -> fields.merge(token, TITLE, (a, b) -> a | b));
+			indexTokens(row.description()).forEach(token -> fields.merge(token, DESCRIPTION, (a, b) -> a | b));
+
+			fields.forEach((token, field) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(row.id(), field));
+			documents.put(row.id(), row);
+			tokensByDocument.put(row.id(), fields.keySet());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 기간과 겹치는 문서를 주어진 행들로 교체 (동기화처럼 id 없이 기간 단위로 바뀐 경우)
+	 * - 행은 커서에서 한 건씩 받아 바로 반영하고, 남은 id 만 모아 기간 안의 나머지 문서를 지움
+	 */
+	public void replaceRange(LocalDate from, LocalDate to, Stream<EventSearchRow> rows) {
+		Set<Long> alive = new HashSet<>();
+		rows.forEach(row -> {
+			alive.add(row.id());
+			upsert(row);
+		});
+
+		lock.writeLock().lock();
+		try {
+			List<Long> stale = documents.values().stream()
+				.filter(row -> row.overlaps(from, to) && !alive.contains(row.id()))
+				.map(EventSearchRow::id)
+				.toList();
+			stale.forEach(this::removeInternal);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param from 이 날짜 이후 끝나는 일정만 (null 이면 제한 없음)
+	 * @param to   이 날짜 이전 시작한 일정만 (null 이면 제한 없음)
+	 */
+	public List<Hit> search(String query, LocalDate from, LocalDate to, int limit) {
+		Set<String> queryTokens = queryTokens(query);
+		if (queryTokens.isEmpty()) {
+			return List.of();
+		}
+		String phrase = normalize(query).strip();
+
+		lock.readLock().lock();
+		try {
+			// 문서 수가 가장 적은 토큰부터 교집합
+			List<Map<Long, Integer>> lists = new ArrayList<>();
+			for (String token : queryTokens) {
+				Map<Long, Integer> posting = postings.get(token);
+				if (posting == null) {
+					return List.of();
+				}
+				lists.add(posting);
+			}
+			lists.sort(Comparator.comparingInt(Map::size));
+
+			double total = documents.size();
+			List<Hit> hits = new ArrayList<>();
+			candidates:
+			for (Long id : lists.get(0).keySet()) {
+				EventSearchRow row = documents.get(id);
+				if (!row.overlaps(from, to)) {
+					continue;
+				}
+				double score = 0;
+				for (Map<Long, Integer> posting : lists) {
+					Integer field = posting.get(id);
+					if (field == null) {
+						continue candidates;
+					}
+					double idf = Math.log(1 + total / posting.size());
+					score += idf * (((field & TITLE) != 0 ? TITLE_WEIGHT : 0) + ((field & DESCRIPTION) != 0 ? DESCRIPTION_WEIGHT : 0));
+				}
+				if (row.title() != null && normalize(row.title()).contains(phrase)) {
+					score += PHRASE_BONUS * queryTokens.size();
+				}
+				hits.add(new Hit(row, score));
+			}
+
+			hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+				.thenComparing(hit -> hit.row().startDate(), Comparator.reverseOrder()));
+			return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removeInternal(Long id) {
+		Set<String> tokens = tokensByDocument.remove(id);
+		documents.remove(id);
+		if (tokens == null) {
+			return;
+		}
+		for (String token : tokens) {
+			Map<Long, Integer> posting = postings.get(token);
+			if (posting != null) {
+				posting.remove(id);
+				if (posting.isEmpty()) {
+					postings.remove(token);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 색인 토큰: 단어별 음절 1-gram + 2-gram
+	 */
+	static Set<String> indexTokens(String text) {
+		Set<String> tokens = new HashSet<>();
+		for (String word : words(text)) {
+			int[] codePoints = word.codePoints().toArray();
+			for (int i = 0; i < codePoints.length; i++) {
+				tokens.add(new String(codePoints, i, 1));
+				if (i + 1 < codePoints.length) {
+					tokens.add(new String(codePoints, i, 2));
+				}
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * 검색어 토큰: 단어별 2-gram, 한 글자 단어는 1-gram
+	 */
+	static Set<String> queryTokens(String query) {
+		Set<String> tokens = new LinkedHashSet<>();
+		for (String word : words(query)) {
+			int[] codePoints = word.codePoints().toArray();
+			if (codePoints.length == 1) {
+				tokens.add(word);
+				continue;
+			}
+			for (int i = 0; i + 1 < codePoints.length; i++) {
+				tokens.add(new String(codePoints, i, 2));
+			}
+		}
+		return tokens;
+	}
+
+	private static List<String> words(String text) {
+		if (text == null || text.isBlank()) {
+			return List.of();
+		}
+		return WORD_SEPARATOR.splitAsStream(normalize(text))
+			.filter(word -> !word.isEmpty())
+			.toList();
+	}
+
+	private static String normalize(String text) {
+		// 전각/반각, 조합형 한글 차이 제거
+		return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+}
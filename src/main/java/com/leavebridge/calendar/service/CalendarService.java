@@ -1,40 +1,41 @@
 package com.leavebridge.calendar.service;
 
-import static com.leavebridge.calendar.entity.LeaveAndHoliday.*;
-import static com.leavebridge.calendar.service.GoogleCalendarAPIService.*;
-import static com.leavebridge.util.TimeRuleUtils.*;
-
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
-import com.google.api.services.calendar.model.EventDateTime;
+import com.leavebridge.calendar.cache.MonthKeyedCache;
+import com.leavebridge.calendar.cache.MonthKeyedCacheRegistry;
 import com.leavebridge.calendar.dto.CreateLeaveRequestDto;
 import com.leavebridge.calendar.dto.MonthlyEvent;
 import com.leavebridge.calendar.dto.MonthlyEventDetailResponse;
 import com.leavebridge.calendar.dto.PatchLeaveRequestDto;
 import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.CalendarChangeType;
 import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.calendar.exception.GoogleCalendarUnavailableException;
+import com.leavebridge.calendar.exception.LeaveConflictException;
+import com.leavebridge.calendar.ledger.LeaveUsage;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
 import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
 import com.leavebridge.member.entitiy.Member;
-import com.leavebridge.util.TimeRuleUtils;
+import com.leavebridge.member.repository.MemberRepository;
 
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +50,21 @@ public class CalendarService {
 	private final GoogleCalendarAPIService googleCalendarAPIService;
 	private final DtoAdjustService dtoAdjustService;
 	private final GoogleEventPatcher googleEventPatcher;
+	private final ApplicationEventPublisher eventPublisher;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final LeaveSeriesService leaveSeriesService;
+	private final MemberRepository memberRepository;
+	private final MonthKeyedCacheRegistry monthKeyedCacheRegistry;
+	private final LeaveCapacityService leaveCapacityService;
+	private final LeaveDayService leaveDayService;
+	private final GoogleCalendarSyncService googleCalendarSyncService;
+
+	private MonthKeyedCache<List<MonthlyEvent>> monthlyEventsCache;
+
+	@PostConstruct
+	void initCache() {
+		monthlyEventsCache = monthKeyedCacheRegistry.create("monthly-events");
+	}
 
 	/**
 	 * 특정 이벤트의 상세 정보를 조회합니다.
@@ -64,11 +80,28 @@ public class CalendarService {
 
 	/**
 	 * 지정된 calendarId의 설정한 연도, 월에 해당하는 일정 목록 로드
+	 * - 트랜잭션 없이 시작해 캐시 적중이면 커넥션을 쓰지 않고, 미스면 캐시가 Primary 트랜잭션을 따로 열어 읽음
 	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public List<MonthlyEvent> listMonthlyEvents(int year, int month) {
 		log.info("CalendarService.listMonthlyEvents :: year={}, month={}", year, month);
+		return monthlyEventsCache.get(YearMonth.of(year, month), this::loadMonthlyEvents);
+	}
+
+	/**
+	 * 월 캐시를 거치지 않고 Primary 에서 바로 읽음 - 캐시보다 오래 두는 결과(디스크 스냅샷)를 커밋 직후 다시 만들 때
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<MonthlyEvent> loadMonthlyEventsFromPrimary(YearMonth yearMonth) {
+		return monthKeyedCacheRegistry.loadTransaction().execute(status -> loadMonthlyEvents(yearMonth));
+	}
 
-		LocalDate monthStart = LocalDate.of(year, month, 1);
+	public boolean isMonthlyEventsCached(YearMonth yearMonth) {
+		return monthlyEventsCache.contains(yearMonth);
+	}
+
+	private List<MonthlyEvent> loadMonthlyEvents(YearMonth yearMonth) {
+		LocalDate monthStart = yearMonth.atDay(1);
 		LocalDate monthEnd   = monthStart.plusMonths(1).minusDays(1);   // 해당 월의 마지막 날
 
 		/**
@@ -78,16 +111,19 @@ public class CalendarService {
 		List<LeaveAndHoliday> currentMonthEvents = leaveAndHolidayRepository
 			.findAllByStartDateLessThanEqualAndEndDateGreaterThanEqual(monthEnd, monthStart);
 
-		return currentMonthEvents.stream()
-			.map(MonthlyEvent::from)
-			.toList();
+		// 반복 일정은 이번 달 기간만큼만 전개해서 덧붙임
+		List<MonthlyEvent> events = new ArrayList<>(currentMonthEvents.size());
+		currentMonthEvents.forEach(event -> events.add(MonthlyEvent.from(event)));
+		events.addAll(leaveSeriesService.listOccurrences(monthStart, monthEnd));
+		return List.copyOf(events);
 	}
 
 	/**
 	 * 지정된 calendarId에 연차를 등록합니다.
+	 * @param mergeOverlapping 같은 종류의 겹치는 본인 일정이 있으면 합쳐서 하나로 등록할지 (false 면 409)
 	 */
 	@Transactional
-	public void createTimedEvent(CreateLeaveRequestDto requestDto, Member member) {
+	public void createTimedEvent(CreateLeaveRequestDto requestDto, Member member, boolean mergeOverlapping) {
 
 		// 생성 dto 입력값에 따라 맞추기
 		requestDto = dtoAdjustService.processLeaveRequestDataForCreate(requestDto, member.isGermany());
@@ -98,7 +134,7 @@ public class CalendarService {
 		}
 		// 휴일 아닌 경우
 		else {
-			handleLeaveRegistration(requestDto, member);
+			handleLeaveRegistration(requestDto, member, mergeOverlapping);
 		}
 	}
 
@@ -120,23 +156,27 @@ public class CalendarService {
 		// 1) 수정 가능한지 검증 (권한, 원래 entity type 등)
 		validateToUpdateLeaveAndHolidayEntity(dto, member, leaveAndHoliday);
 
-		Event apiEvent = null;
-		boolean shouldSyncGoogle = isGermany && googleEventId != null;
-
-		// 2) (파견직 & 구글ID 존재 시) Google Calendar 이벤트 조회
-		if (shouldSyncGoogle) {
-			apiEvent = googleCalendarAPIService.getGoogleCalendarEventByGoogleEventId(googleEventId);
+		// 1-1) 일정 주인의 다른 부재 일정과 겹치는지 (수정은 합치지 않고 거절)
+		if (dto.leaveType().isAbsence() && !Boolean.TRUE.equals(leaveAndHoliday.getIsHoliday())) {
+			List<LeaveAndHoliday> conflicts = findOverlappingAbsences(leaveAndHoliday.getMember().getId(),
+				dto.startDate(), dto.startTime() != null ? dto.startTime() : leaveAndHoliday.getStarTime(),
+				dto.endDate(), dto.endTime() != null ? dto.endTime() : leaveAndHoliday.getEndTime(), eventId);
+			if (!conflicts.isEmpty()) {
+				throw new LeaveConflictException("수정하려는 기간에 이미 등록된 일정이 있습니다.", false, conflicts);
+			}
 		}
 
-		// 3) (파견직만) 변경사항을 API payload에 반영할지 여부 판단
-		boolean changed = false;
-		if (shouldSyncGoogle) {
-			changed = googleEventPatcher.applyAllChanges(apiEvent, dto);
-		}
-		// 4-1) 엔티티 기본 정보 수정
+		// 변경 알림과 부재 인원 카운터에 이동 전 기간도 반영하기 위해 보관
+		LeaveType previousType = leaveAndHoliday.getLeaveType();
+		LocalDate previousStartDate = leaveAndHoliday.getStartDate();
+		LocalDate previousEndDate = leaveAndHoliday.getEndDate();
+
+		boolean shouldSyncGoogle = isGermany && googleEventId != null;
+
+		// 2-1) 엔티티 기본 정보 수정
 		leaveAndHoliday.patchEntityByDto(dto);
 
-		// 4-2) 연차 사용량 재계산
+		// 2-2) 연차 사용량 재계산
 		if (leaveAndHoliday.getLeaveType().isConsumesLeave()) {
 			Map<String, Object> info = calcUsedDaysAndGetComment(
 				leaveAndHoliday.getStartDate(), leaveAndHoliday.getStarTime(),
@@ -155,10 +195,22 @@ public class CalendarService {
 			leaveAndHoliday.updateComment(comment);
 		}
 
-		// 5) (파견직 & 변경사항 있음 & 구글ID 존재 시) Google Calendar에 수정 반영
-		if (shouldSyncGoogle && changed) {
-			googleCalendarAPIService.patchGoogleCalendarEventByEventIdAndEvent(googleEventId, apiEvent);
+		// 2-3) 하루 부재 인원 한도 (늘어난 날만 검사, 초과 시 409 로 롤백되고 구글 캘린더는 건드리지 않음)
+		leaveCapacityService.onUpdated(leaveAndHoliday, previousType, previousStartDate, previousEndDate);
+		leaveDayService.sync(leaveAndHoliday);
+
+		// 3) (파견직 & 구글ID 존재 시) 마지막 반영 스냅샷과 비교해 바뀐 필드만 If-Match PATCH (장애 중이면 미룸)
+		if (shouldSyncGoogle) {
+			googleCalendarSyncService.updateOrDefer(leaveAndHoliday);
 		}
+
+		// 4) 커밋 후 변경 알림 (이동 전/후 기간 모두 포함)
+		LocalDate affectedStart = previousStartDate.isBefore(leaveAndHoliday.getStartDate())
+			? previousStartDate : leaveAndHoliday.getStartDate();
+		LocalDate affectedEnd = previousEndDate.isAfter(leaveAndHoliday.getEndDate())
+			? previousEndDate : leaveAndHoliday.getEndDate();
+		eventPublisher.publishEvent(new CalendarChangeEvent(leaveAndHoliday.getId(), affectedStart, affectedEnd,
+			CalendarChangeType.UPDATED, Boolean.TRUE.equals(leaveAndHoliday.getIsHoliday())));
 	}
 
 	private void validateToUpdateLeaveAndHolidayEntity(PatchLeaveRequestDto dto, Member member,
@@ -225,11 +277,16 @@ public class CalendarService {
 		// 3) DB 삭제 우선
 		leaveAndHolidayRepository.delete(leaveAndHoliday);
 		leaveAndHolidayRepository.flush();
+		leaveCapacityService.onDeleted(leaveAndHoliday);
+		if (!isDeletingHoliday) {
+			leaveDayService.remove(leaveAndHoliday);
+		}
+		eventPublisher.publishEvent(CalendarChangeEvent.of(leaveAndHoliday, CalendarChangeType.DELETED));
 
 		// 3) ((파견직 또는 관리자) & googleEventId 유효할 때만) 구글 캘린더에서도 삭제
 		// 관리자도 구글 캘린더 삭제 가능하도록 수정
 		if ((isGermany || member.isAdmin())&& StringUtils.hasText(googleEventId)) {
-			googleCalendarAPIService.deleteGoogleCalendarEvent(googleEventId);
+			googleCalendarSyncService.deleteOrDefer(leaveAndHoliday.getId(), googleEventId);
 		}
 
 		// 4) 휴일 삭제 시, 영향받은 연차 재계산
@@ -246,7 +303,10 @@ public class CalendarService {
 				leave.updateUsedLeaveHours(usedDays);
 				leave.updateComment(comment);
 				leaveAndHolidayRepository.save(leave);
+				eventPublisher.publishEvent(CalendarChangeEvent.of(leave, CalendarChangeType.UPDATED));
 			}
+			// 근무일이 늘었으니 휴일 기간과 겹치는 부재 일정의 날짜별 행 다시 만들기 (미차감 일정 포함)
+			leaveDayService.rebuild(leaveAndHoliday.getStartDate(), leaveAndHoliday.getEndDate());
 		}
 	}
 
@@ -261,20 +321,31 @@ public class CalendarService {
 			throw new IllegalArgumentException("관리자만 휴일 등록이 가능합니다.");
 		}
 		// DB 저장
-		saveEntity(dto, member, null, dto.isHolidayInclude(), 0.0, null);
+		LeaveAndHoliday holiday = saveEntity(dto, member, null, dto.isHolidayInclude(), 0.0, null);
 		// 기존 연차 보정
 		adjustOverlappingLeaves(dto);
+		// 근무일이 줄었으니 휴일 기간과 겹치는 부재 일정의 날짜별 행 다시 만들기 (미차감 일정 포함)
+		leaveDayService.rebuild(dto.startDate(), dto.endDate());
+		eventPublisher.publishEvent(CalendarChangeEvent.of(holiday, CalendarChangeType.CREATED));
 	}
 
 	/**
 	 * 일정 등록 - 일반 일정 등록
 	 * 중간에 휴일있을 경우 사용 시간 계산 제외, 휴일 또는 주말 시작일 불가능
 	 */
-	private void handleLeaveRegistration(CreateLeaveRequestDto requestDto, Member member) {
+	private void handleLeaveRegistration(CreateLeaveRequestDto requestDto, Member member, boolean mergeOverlapping) {
 		double usedDays = 0.0;
 		String comment = null;
 		boolean isGermany = member.isGermany();
 
+		// 0) 본인의 겹치는 부재 일정 확인 (같은 반차 두 번 등 이중 차감 방지) - 합칠 일정은 합친 기간 검증 후에 삭제
+		List<LeaveAndHoliday> mergedConflicts = List.of();
+		if (requestDto.leaveType().isAbsence()) {
+			OverlapResolution resolution = resolveConflictsForCreate(requestDto, member, mergeOverlapping);
+			requestDto = resolution.dto();
+			mergedConflicts = resolution.mergedConflicts();
+		}
+
 		// 1) “연차 소진” 타입인 경우에만 검증 & 연차 사용 처리
 		if (requestDto.leaveType().isConsumesLeave()) {
 			// 1-1. 검증(주말 혹은 휴일에 쓰려는거 아닌지)
@@ -291,23 +362,45 @@ public class CalendarService {
 			}
 		}
 
+		// 1-3) 합쳐지는 기존 일정 삭제 (새 일정의 부재 인원 카운터보다 먼저 빠져야 함)
+		removeMergedConflicts(mergedConflicts, member);
+
 		Event createdEvent = null;
-		// 2) 파견직만 Google Calendar 이벤트 생성
+		String googleEventId = null;
+		boolean deferGoogle = false;
+		// 2) 파견직만 Google Calendar 이벤트 생성 (장애 중이면 미리 정한 id 만 저장하고 생성은 미룸)
 		if (isGermany) {
-			Event ev = createCalendarEvent(requestDto);
-			createdEvent = googleCalendarAPIService.createGoogleCalendarEvent(ev);
+			Event ev = createCalendarEvent(requestDto).setId(GoogleCalendarAPIService.newEventId());
+			try {
+				createdEvent = googleCalendarAPIService.createGoogleCalendarEvent(ev);
+				googleEventId = createdEvent.getId();
+			} catch (GoogleCalendarUnavailableException e) {
+				googleEventId = ev.getId();
+				deferGoogle = true;
+			}
 		}
 
 		// 3) DB 저장
+		LeaveAndHoliday saved;
 		try {
-			saveEntity(requestDto, member, createdEvent != null ? createdEvent.getId() : null, false,
-				usedDays, comment);
-		} catch (Exception ex) {
+			saved = saveEntity(requestDto, member, googleEventId, false, usedDays, comment);
 			if (createdEvent != null) {
-				googleCalendarAPIService.deleteGoogleCalendarEvent(createdEvent.getId());
+				saved.markGoogleSynced(createdEvent.getEtag());
+			}
+			// 3-1) 하루 부재 인원 한도 (초과 시 409, 만든 구글 이벤트도 아래에서 삭제)
+			leaveCapacityService.onCreated(saved);
+			leaveDayService.sync(saved);
+		} catch (Exception ex) {
+			// 미룬 경우에도 응답만 못 받고 실제로는 만들어졌을 수 있으니 같은 id 로 정리
+			if (googleEventId != null) {
+				googleCalendarSyncService.discardOrDefer(googleEventId);
 			}
 			throw ex;  // 다시 예외를 던져서 DB 롤백되도록
 		}
+		if (deferGoogle) {
+			googleCalendarSyncService.deferCreate(saved);
+		}
+		eventPublisher.publishEvent(CalendarChangeEvent.of(saved, CalendarChangeType.CREATED));
 	}
 
 	/**
@@ -371,9 +464,11 @@ public class CalendarService {
 			if (fullyCovered) {
 				// 완전 포함된 연차는 삭제
 				leaveAndHolidayRepository.delete(leave);
-				// 구글 캘린더 Id 가진 이벤트만 연동
+				leaveCapacityService.onDeleted(leave);
+				eventPublisher.publishEvent(CalendarChangeEvent.of(leave, CalendarChangeType.DELETED));
+				// 구글 캘린더 Id 가진 이벤트만 연동 (휴일 등록이 뒤에서 실패하면 되돌릴 수 없으니 커밋 후 반영)
 				if (StringUtils.hasText(leave.getGoogleEventId())) {
-					googleCalendarAPIService.deleteGoogleCalendarEvent(leave.getGoogleEventId());
+					googleCalendarSyncService.deleteAfterCommit(leave.getId(), leave.getGoogleEventId());
 				}
 			} else {
 				// 부분 보정: 사용일수와 사유 재계산
@@ -387,261 +482,133 @@ public class CalendarService {
 				leave.updateUsedLeaveHours(usedDays);
 				leave.updateComment(reason);
 				leaveAndHolidayRepository.saveAndFlush(leave);
+				eventPublisher.publishEvent(CalendarChangeEvent.of(leave, CalendarChangeType.UPDATED));
 			}
 		}
 	}
 
-	private void saveEntity(CreateLeaveRequestDto dto, Member member, String eventId,
-		boolean isHoliday, double usedDays, String comment) {
-		LeaveAndHoliday ent = LeaveAndHoliday.of(dto, member, eventId);
-		ent.updateIsHoliday(isHoliday);
-		if (dto.leaveType().isConsumesLeave()) {
-			ent.updateUsedLeaveHours(usedDays);
-			ent.updateComment(comment);
-		}
-		leaveAndHolidayRepository.saveAndFlush(ent);
-	}
-
-	private Event createCalendarEvent(CreateLeaveRequestDto dto) {
-		Event event = new Event().setSummary(dto.title());
-		LocalDateTime s = LocalDateTime.of(dto.startDate(), dto.startTime());
-		LocalDateTime e = LocalDateTime.of(dto.endDate(), dto.endTime());
-		event.setDescription(dto.description());
-		if (dto.isAllDay()) {
-			event.setStart(new EventDateTime().setDate(new DateTime(dto.startDate().toString())));
-			event.setEnd(new EventDateTime().setDate(new DateTime(dto.endDate().plusDays(1).toString())));
-		} else {
-			event.setStart(new EventDateTime().setDateTime(
-				new DateTime(Date.from(s.atZone(ZoneId.of(DEFAULT_TIME_ZONE)).toInstant()))));
-			event.setEnd(new EventDateTime().setDateTime(
-				new DateTime(Date.from(e.atZone(ZoneId.of(DEFAULT_TIME_ZONE)).toInstant()))));
+	/**
+	 * 겹치는 일정이 없으면 그대로, 있으면 거절(409)하거나 같은 종류끼리 합집합 기간으로 합침
+	 * - 여기서는 합친 기간만 계산하고 기존 일정은 건드리지 않음 (검증이 끝난 뒤 removeMergedConflicts)
+	 */
+	private OverlapResolution resolveConflictsForCreate(CreateLeaveRequestDto dto, Member member,
+		boolean mergeOverlapping) {
+		List<LeaveAndHoliday> conflicts = findOverlappingAbsences(member.getId(), dto.startDate(), dto.startTime(),
+			dto.endDate(), dto.endTime(), null);
+		if (conflicts.isEmpty()) {
+			return new OverlapResolution(dto, List.of());
+		}
+
+		boolean mergeable = conflicts.stream().allMatch(conflict -> conflict.getLeaveType() == dto.leaveType());
+		if (!mergeable) {
+			throw new LeaveConflictException("같은 시간에 이미 등록된 다른 종류의 일정이 있습니다.", false, conflicts);
+		}
+		if (!mergeOverlapping) {
+			throw new LeaveConflictException("같은 시간에 이미 등록된 일정이 있습니다. 합치려면 merge=true 로 다시 요청해주세요.",
+				true, conflicts);
+		}
+
+		// 합집합 기간 계산 (새 일정으로 연차 사용량 다시 계산됨)
+		LocalDate startDate = dto.startDate();
+		LocalTime startTime = dto.startTime();
+		LocalDate endDate = dto.endDate();
+		LocalTime endTime = dto.endTime();
+		for (LeaveAndHoliday conflict : conflicts) {
+			if (startOf(conflict.getStartDate(), conflict.getStarTime()).isBefore(startOf(startDate, startTime))) {
+				startDate = conflict.getStartDate();
+				startTime = conflict.getStarTime();
+			}
+			if (endOf(conflict.getEndDate(), conflict.getEndTime()).isAfter(endOf(endDate, endTime))) {
+				endDate = conflict.getEndDate();
+				endTime = conflict.getEndTime();
+			}
 		}
-		return event;
+		CreateLeaveRequestDto merged = new CreateLeaveRequestDto(dto.title(), dto.isAllDay(), dto.leaveType(),
+			startDate, endDate, startTime, endTime, dto.description(), dto.isHolidayInclude());
+		return new OverlapResolution(merged, conflicts);
 	}
 
-	// LeaveAndHoliday에서 LocalDateTime 구간 추출용 DTO
-	record DateTimeInterval(LocalDateTime start, LocalDateTime end) { }
-
 	/**
-	 * 주어진 부분 휴일들의 겹치는 시간을 합하여 최종적으로 제외할 시간들 리스트 반환 함수
+	 * 합쳐진 기존 일정 삭제
+	 * - DB 는 이 트랜잭션과 함께 롤백되지만 구글 삭제는 되돌릴 수 없으므로, 뒤의 한도 검사/구글 등록이 실패해도
+	 *   구글 이벤트가 남도록 삭제 작업을 같은 트랜잭션에 쌓고 커밋된 뒤에만 반영
 	 */
-	private List<DateTimeInterval> mergeHolidayIntervalsNonIncludeLunchTime(
-		List<LeaveAndHoliday> partials,
-		LocalDate targetDate, boolean isGermany
-	) {
-		List<DateTimeInterval> intervals = new ArrayList<>();
-		LocalTime adjustStartTime = getAdjustStartTime(isGermany);
-		LocalTime adjustEndTime = getAdjustEndTime(isGermany);
-
-		for (LeaveAndHoliday h : partials) {
-			// 1) 이 건이 targetDate를 포함하므로, 날짜 루프 불필요
-			// rawStart: 휴일이 targetDate 이전부터 시작됐다면 근무시작, 아니면 실제 시작시간
-			LocalTime rawStart = h.getStartDate().isBefore(targetDate)
-				? adjustStartTime
-				: h.getStarTime();
-			// rawEnd: 휴일이 targetDate 이후까지 이어진다면 근무종료, 아니면 실제 종료시간
-			LocalTime rawEnd = h.getEndDate().isAfter(targetDate)
-				? adjustEndTime
-				: h.getEndTime();
-
-			// 2) 근무시간 범위로 클램핑
-			LocalTime startT = rawStart.isBefore(adjustStartTime) ? adjustStartTime : rawStart;
-			LocalTime endT = rawEnd.isAfter(adjustEndTime) ? adjustEndTime : rawEnd;
-
-			// 3) 유효 구간이면 (시작 18시, 종료 19시면 안맞게되는 등)
-			if (startT.isBefore(endT)) {
-				boolean overlapsLunch =
-					startT.isBefore(LUNCH_END) && endT.isAfter(LUNCH_START);
-
-				if (overlapsLunch) {
-					// 점심 전 구간
-					if (startT.isBefore(LUNCH_START)) {
-						intervals.add(new DateTimeInterval(
-							LocalDateTime.of(targetDate, startT),
-							LocalDateTime.of(targetDate, LUNCH_START)
-						));
-					}
-					// 점심 후 구간
-					if (endT.isAfter(LUNCH_END)) {
-						intervals.add(new DateTimeInterval(
-							LocalDateTime.of(targetDate, LUNCH_END),
-							LocalDateTime.of(targetDate, endT)
-						));
-					}
-				} else {
-					// 점심과 겹치지 않으면 그대로 추가
-					intervals.add(new DateTimeInterval(
-						LocalDateTime.of(targetDate, startT),
-						LocalDateTime.of(targetDate, endT)
-					));
-				}
+	private void removeMergedConflicts(List<LeaveAndHoliday> conflicts, Member member) {
+		if (conflicts.isEmpty()) {
+			return;
+		}
+		for (LeaveAndHoliday conflict : conflicts) {
+			leaveAndHolidayRepository.delete(conflict);
+			leaveCapacityService.onDeleted(conflict);
+			leaveDayService.remove(conflict);
+			eventPublisher.publishEvent(CalendarChangeEvent.of(conflict, CalendarChangeType.DELETED));
+			if (StringUtils.hasText(conflict.getGoogleEventId())) {
+				googleCalendarSyncService.deleteAfterCommit(conflict.getId(), conflict.getGoogleEventId());
 			}
 		}
-		// 병합
-		return mergeIntervals(intervals);
+		leaveAndHolidayRepository.flush();
+		log.info("겹치는 일정 {}건 합침 loginId = {}", conflicts.size(), member.getLoginId());
+	}
+
+	private record OverlapResolution(CreateLeaveRequestDto dto, List<LeaveAndHoliday> mergedConflicts) {
 	}
 
 	/**
-	 * 주어진 (시작,종료) 구간들을 겹침 및 연속 포함해서 최대 병합한 리스트로 반환
+	 * 회원의 부재 일정 중 [시작, 종료) 시각이 겹치는 것
+	 * - 회원 행을 먼저 잠가 같은 회원의 동시 등록/수정은 한 건씩 검사-저장됨
+	 * - 후보는 (회원, 기간) 인덱스 범위 조회, 시각 단위 겹침은 후보에서만 확인
 	 */
-	public static List<DateTimeInterval> mergeIntervals(List<DateTimeInterval> intervals) {
-		if (intervals.isEmpty()) {
-			return Collections.emptyList();
-		}
-
-		// 1) 시작 시간 기준으로 정렬 (LocalDateTime 비교)
-		intervals.sort(Comparator.comparing(DateTimeInterval::start));
+	private List<LeaveAndHoliday> findOverlappingAbsences(Long memberId, LocalDate startDate, LocalTime startTime,
+		LocalDate endDate, LocalTime endTime, Long excludeId) {
+		memberRepository.findByIdForUpdate(memberId);
+
+		LocalDateTime start = startOf(startDate, startTime);
+		LocalDateTime end = endOf(endDate, endTime);
+		return leaveAndHolidayRepository.findAllAbsencesOfMemberForUpdate(memberId, startDate, endDate,
+				LeaveType.absenceTypes())
+			.stream()
+			.filter(leave -> !leave.getId().equals(excludeId))
+			.filter(leave -> startOf(leave.getStartDate(), leave.getStarTime()).isBefore(end)
+							 && start.isBefore(endOf(leave.getEndDate(), leave.getEndTime())))
+			.toList();
+	}
 
-		List<DateTimeInterval> merged = new ArrayList<>();
-		// 2) 첫 구간으로 시작
-		DateTimeInterval current = intervals.getFirst();
+	private static LocalDateTime startOf(LocalDate date, LocalTime time) {
+		return date.atTime(time != null ? time : LocalTime.MIN);
+	}
 
-		for (int i = 1; i < intervals.size(); i++) {
-			DateTimeInterval next = intervals.get(i);
+	private static LocalDateTime endOf(LocalDate date, LocalTime time) {
+		return date.atTime(time != null ? time : LocalTime.MAX);
+	}
 
-			// "겹치거나 연속" (current.end >= next.start)일 때 병합
-			if (!current.end().isBefore(next.start())) {
-				// end 시각을 둘 중 더 늦은 쪽으로 연장
-				LocalDateTime newEnd = current.end().isAfter(next.end())
-					? current.end()
-					: next.end();
-				current = new DateTimeInterval(current.start(), newEnd);
-			} else {
-				// 틈이 있으면, 지금까지 병합된 current를 결과에 추가하고 next를 새로운 current로
-				merged.add(current);
-				current = next;
-			}
+	private LeaveAndHoliday saveEntity(CreateLeaveRequestDto dto, Member member, String eventId,
+		boolean isHoliday, double usedDays, String comment) {
+		LeaveAndHoliday ent = LeaveAndHoliday.of(dto, member, eventId);
+		ent.updateIsHoliday(isHoliday);
+		if (dto.leaveType().isConsumesLeave()) {
+			ent.updateUsedLeaveHours(usedDays);
+			ent.updateComment(comment);
 		}
-		// 마지막 구간 추가
-		merged.add(current);
+		return leaveAndHolidayRepository.saveAndFlush(ent);
+	}
 
-		return merged;
+	private Event createCalendarEvent(CreateLeaveRequestDto dto) {
+		return googleEventPatcher.newEvent(dto.title(), dto.description(), dto.isAllDay(), dto.startDate(),
+			dto.startTime(), dto.endDate(), dto.endTime());
 	}
 
 	/**
 	 * 실제 연차 사용 “일수” 계산 + 연차 비차감 사유 추출
+	 * - 근무 분 누적합 달력으로 양 끝 날짜 보정 + 누적합 차이만 계산
 	 */
 	private Map<String, Object> calcUsedDaysAndGetComment(LocalDate startDate, LocalTime startTime, LocalDate endDate,
 		LocalTime endTime, boolean isGermany) {
 
-		LocalDateTime start = LocalDateTime.of(startDate, startTime);
-		LocalDateTime end = LocalDateTime.of(endDate, endTime);
-
-		double totalMinutes = 0;
-		StringBuilder reasonBuilder = new StringBuilder();
-
-		// 전체 구간(startDate~endDate)에 걸친 “부분 휴일”만 미리 가져온다.
-		List<LeaveAndHoliday> allPartials = leaveAndHolidayRepository
-			.findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIsHolidayTrueAndIsAllDayFalse(
-				endDate, startDate
-			);
-
-		/**
-		 * 적용 날짜 : [휴일 엔티티] 묶어줌 (여러 일 거친것도 특정일 기준으로 검사할 수 있게)
-		 * h1: 7/13 ~ 7/15, h2: 7/14 ~ 7/14, h3: 7/16 ~ 7/17
-		 * partialsByDate.get(2025-07-13) → [h1]
-		 * partialsByDate.get(2025-07-14) → [h1, h2]
-		 * partialsByDate.get(2025-07-15) → [h1]
-		 * partialsByDate.get(2025-07-16) → [h3]
-		 * partialsByDate.get(2025-07-17) → [h3]
-		 */
-		Map<LocalDate, List<LeaveAndHoliday>> partialsByDate = new HashMap<>();
-		for (LeaveAndHoliday h : allPartials) {
-			// 0) “기념일+파견직 제외”를 공통 처리
-			//    - dto가 ANNIVERSARY인데 등록하려는 회원이 파견직이면 아무 것도 하지 않음(차감 안함)
-			if (h.getLeaveType() == LeaveType.ANNIVERSARY && isGermany) {
-				continue;
-			}
-			LocalDate from = h.getStartDate();
-			LocalDate to = h.getEndDate();
-			for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
-				// map에 key d가 없으면 새 리스트 생성
-				if (!partialsByDate.containsKey(d)) {
-					partialsByDate.put(d, new ArrayList<>());
-				}
-				// 해당 날짜 리스트에 h 추가
-				partialsByDate.get(d).add(h);
-			}
-		}
-
-		// 날짜별 루프 (하루 단위 탐색)
-		for (LocalDate d = start.toLocalDate(); !d.isAfter(end.toLocalDate()); d = d.plusDays(1)) {
-
-			// 1) 주말 스킵
-			DayOfWeek dow = d.getDayOfWeek();
-			if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) {
-				reasonBuilder.append("[").append(d).append("] 주말 제외\n");
-				continue;
-			}
-
-			// 2) 전일 휴일이 포함된 일정이면 스킵
-			if (isHoliday(d, isGermany)) {
-				reasonBuilder.append("[").append(d).append("] 하루종일 휴일이 포함된 일정 제외\n");
-				continue;
-			}
-
-			// 3) 부분 휴일 조회 - 지금 연차 계산일이 포함된 일정 가져오기
-			List<LeaveAndHoliday> partials = partialsByDate.getOrDefault(d, Collections.emptyList());
-
-			// 4) 해당 날짜의 시작/종료 시각 결정
-			// 시작, 종료일이 아니라면 중간에 낀거니까 이건 1일 연차임이 자명 -> 일 시작, 종료 시간으로 세팅
-			LocalDateTime dayStart = d.equals(start.toLocalDate())
-				? start // 이번 반복이 시작일과 같다면 이 날짜의 연차 시작으로 봄
-				: d.atTime(getAdjustStartTime(isGermany)); // 이번 반복이 시작일이 아니라면 이 날짜의 근무시간 시작
-
-			LocalDateTime dayEnd = d.equals(end.toLocalDate())
-				? end // 이번 반복의 종료일이 매개변수 종료일과 같다면 이 날짜의 연차 끝날로봄
-				: d.atTime(getAdjustEndTime(isGermany)); // 이번 반복이 연차 종료일이 아니라면(중간일 - 당연히 1일 연차니깐 일과 끝나는 시간으로 변경)
-
-			// 5) 점심시간에만 있는 일정 스킵
-			if (isOnlyLunch(dayStart, dayEnd)) {
-				reasonBuilder
-					.append("[").append(d).append("] 점심시간(12:00~13:00) 만 포함된 일정 전부 제외\n");
-				continue;
-			}
-
-			// 6) 해당 일자에 이미 존재하는 휴일들의 시간 중복을 합친 새로운 일정 반환(점심시간 포함이면 전후로)
-			List<DateTimeInterval> intervals = mergeHolidayIntervalsNonIncludeLunchTime(partials, d, isGermany);
-
-			// 7) 기본 분 계산 - 점심시간 포함하면 1시간 제외
-			long minutes = Duration.between(dayStart, dayEnd).toMinutes();
-			if (TimeRuleUtils.isLunchIncluded(dayStart.toLocalTime(), dayEnd.toLocalTime())) {
-				minutes -= 60;
-			}
-			long overlapMin = 0;
-
-			// 8) 부분 휴일과 겹치는 분 차감
-			for (DateTimeInterval interval : intervals) {
-				LocalDateTime holStart = interval.start();
-				LocalDateTime holEnd = interval.end();
-
-				// 계산을 위해 요청 구간과 휴일 구간 겹치는 부분(시작점, 종료점) 추출
-				LocalDateTime overlapStart = dayStart.isAfter(holStart) ? dayStart : holStart;
-				LocalDateTime overlapEnd = dayEnd.isBefore(holEnd) ? dayEnd : holEnd;
-
-				// 부분 휴일과 겹치는 부분을 사용한 연차에서 제외
-				if (overlapEnd.isAfter(overlapStart)) {
-					overlapMin += Duration.between(overlapStart, overlapEnd).toMinutes();
-				}
-			}
-
-			minutes -= overlapMin;
-			if (overlapMin > 0) {
-				reasonBuilder
-					.append("[").append(d).append("] 부분 휴일 ")
-					.append(overlapMin).append("분 제외");
-			}
-
-			totalMinutes += Math.max(0, minutes);
-		}
-
-		// 8시간 = 480분 → 1일
-		double usedDays = (totalMinutes / 60.0) / 8.0;
-		String reason = !reasonBuilder.isEmpty() ? reasonBuilder.toString().trim() : "";
+		LeaveUsage usage = workingMinutesLedger.calculate(startDate, startTime, endDate, endTime, isGermany);
 
 		return Map.of(
-			"usedDays", usedDays,
-			"comment", reason
+			"usedDays", usage.usedDays(),
+			"comment", usage.comment()
 		);
 	}
 
@@ -0,0 +1,120 @@
+package com.leavebridge.calendar.service;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 변경 SSE 스트림 관리
+ * - SseEmitter 는 비동기 서블릿 위에서 동작해서 연결을 유지하는 동안 요청 스레드를 점유하지 않는다
+ * - 변경 알림은 커밋 이후 별도 가상 스레드에서 전체 구독자에게 전송 (커밋한 요청 스레드는 바로 응답)
+ * - 한 트랜잭션에서 여러 건이 바뀌어도(공휴일 등록/삭제에 따른 연차 재계산 등) 기간을 합친 알림 하나만 보냄
+ *   -> 화면마다 다시 조회하는 횟수가 변경 건수만큼 늘지 않음
+ */
+@Service
+@Slf4j
+public class CalendarStreamService {
+
+	private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;  // 30분 후 끊기면 EventSource 가 자동 재연결
+	private static final String CHANGE_EVENT_NAME = "calendar-change";
+
+	private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+	public SseEmitter subscribe() {
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+		emitter.onCompletion(() -> emitters.remove(emitter));
+		emitter.onTimeout(() -> emitters.remove(emitter));
+		emitter.onError(e -> emitters.remove(emitter));
+		emitters.add(emitter);
+
+		// 연결 직후 한번 보내야 프록시(ELB 등)가 응답 헤더를 바로 흘려보냄
+		send(emitter, SseEmitter.event().comment("connected"));
+		return emitter;
+	}
+
+	/**
+	 * 트랜잭션 커밋 이후에만 알림 (롤백된 변경은 전송하지 않음)
+	 * - 트랜잭션 안에서는 그 트랜잭션의 변경을 모아 두었다가 커밋되면 한 번만 전송
+	 * - 트랜잭션 밖(스케줄러 saveAll 등)에서 발행된 경우는 즉시 전송
+	 */
+	@EventListener
+	public void onCalendarChanged(CalendarChangeEvent event) {
+		if (emitters.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			broadcastAsync(event);
+			return;
+		}
+		// 동기화 목록은 REQUIRES_NEW 로 들어가면 보류되므로 안쪽 트랜잭션은 자기 알림을 따로 모음
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof PendingNotice pending) {
+				pending.add(event);
+				return;
+			}
+		}
+		TransactionSynchronizationManager.registerSynchronization(new PendingNotice(event));
+	}
+
+	/**
+	 * 끊긴 연결 정리용 하트비트 (ELB idle timeout 60초보다 짧게)
+	 */
+	@Scheduled(fixedRate = 25_000)
+	public void heartbeat() {
+		for (SseEmitter emitter : emitters) {
+			send(emitter, SseEmitter.event().comment("ping"));
+		}
+	}
+
+	private void broadcastAsync(CalendarChangeEvent event) {
+		Thread.ofVirtual().name("calendar-sse-broadcast").start(() -> broadcast(event));
+	}
+
+	private void broadcast(CalendarChangeEvent event) {
+		log.info("CalendarStreamService.broadcast :: event = {}, subscribers = {}", event, emitters.size());
+		for (SseEmitter emitter : emitters) {
+			send(emitter, SseEmitter.event().name(CHANGE_EVENT_NAME).data(event));
+		}
+	}
+
+	private void send(SseEmitter emitter, SseEmitter.SseEventBuilder builder) {
+		try {
+			emitter.send(builder);
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트가 이미 떠난 경우 - 정리는 컨테이너 콜백이 하므로 목록에서만 제거
+			emitters.remove(emitter);
+		}
+	}
+
+	/**
+	 * 트랜잭션 하나에서 발행된 변경 모음 - 커밋되면 합친 알림 하나 전송, 롤백이면 버림
+	 */
+	private final class PendingNotice implements TransactionSynchronization {
+
+		private CalendarChangeEvent merged;
+
+		private PendingNotice(CalendarChangeEvent first) {
+			this.merged = first;
+		}
+
+		private void add(CalendarChangeEvent event) {
+			merged = merged.merge(event);
+		}
+
+		@Override
+		public void afterCommit() {
+			broadcastAsync(merged);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.leavebridge.calendar.service;
+
+import static com.leavebridge.util.TimeRuleUtils.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leavebridge.calendar.cache.MonthKeyedCache;
+import com.leavebridge.calendar.cache.MonthKeyedCacheRegistry;
+import com.leavebridge.calendar.dto.DailyCoverage;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.ledger.WorkingMinutesCalendar;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 근무일별 부재 현황 (연차 소진 일정 기준)
+ * - 일정마다 [시작일, 종료일+1) 경계를 만들어 날짜순으로 한 번만 훑으며 인원 집계 (날짜별 쿼리 없음)
+ * - 결과는 월 단위로 캐시, 달력 화면과 같은 무효화 규칙 (MonthKeyedCacheRegistry)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CoverageService {
+
+	private static final List<LeaveType> CONSUMES_LEAVE_TYPES = Arrays.stream(LeaveType.values())
+		.filter(LeaveType::isConsumesLeave)
+		.toList();
+
+	/**
+	 * 하루 단위 부재 상태 - 같은 회원의 여러 일정 중 가장 강한 상태로 집계
+	 */
+	private enum Absence {
+		NONE, PARTIAL, FULL
+	}
+
+	/**
+	 * 회원 한 명이 [from, to] 동안 같은 상태로 부재인 구간
+	 */
+	private record Segment(Long memberId, boolean isGermany, LocalDate from, LocalDate to, Absence absence) {
+	}
+
+	/**
+	 * 경계 - 구간 시작(+1)은 from, 끝(-1)은 to 다음 날
+	 */
+	private record Boundary(LocalDate date, Segment segment, int delta) {
+	}
+
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final MonthKeyedCacheRegistry monthKeyedCacheRegistry;
+
+	@Value("${calendar.coverage.max-days:366}")
+	private int maxDays;
+
+	private MonthKeyedCache<List<DailyCoverage>> coverageCache;
+
+	@PostConstruct
+	void initCache() {
+		coverageCache = monthKeyedCacheRegistry.create("coverage");
+	}
+
+	/**
+	 * 트랜잭션 없이 시작 - 월별 적재는 캐시가 Primary 트랜잭션을 따로 열어 실행
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<DailyCoverage> getCoverage(LocalDate from, LocalDate to) {
+		if (from.isAfter(to)) {
+			throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이후일 수 없습니다");
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+			throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+		}
+
+		List<DailyCoverage> result = new ArrayList<>();
+		for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+			for (DailyCoverage day : coverageCache.get(month, this::computeMonth)) {
+				if (!day.date().isBefore(from) && !day.date().isAfter(to)) {
+					result.add(day);
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<DailyCoverage> computeMonth(YearMonth month) {
+		long begin = System.nanoTime();
+		LocalDate from = month.atDay(1);
+		LocalDate to = month.atEndOfMonth();
+
+		WorkingMinutesLedger.Snapshot snapshot = workingMinutesLedger.snapshot();
+		WorkingMinutesCalendar regularCalendar = workingMinutesLedger.calendarFor(snapshot, from, to, false);
+		WorkingMinutesCalendar dispatchedCalendar = workingMinutesLedger.calendarFor(snapshot, from, to, true);
+
+		// 1) 일정 → 회원별 부재 구간 (여러 날 일정은 첫날/중간/마지막날로 나눔)
+		List<Segment> segments = new ArrayList<>();
+		for (LeaveAndHoliday leave : leaveAndHolidayRepository.findAllConsumesLeaveByDateRange(from, to,
+			CONSUMES_LEAVE_TYPES)) {
+			if (leave.getMember() == null) {
+				continue;
+			}
+			addSegments(segments, leave.getMember().getId(), leave.getMember().isGermany(), leave.getStartDate(),
+				leave.getStarTime(), leave.getEndDate(), leave.getEndTime(), from, to);
+		}
+
+		// 2) 경계 정렬 (같은 날이면 끝을 먼저 처리)
+		List<Boundary> boundaries = new ArrayList<>(segments.size() * 2);
+		for (Segment segment : segments) {
+			boundaries.add(new Boundary(segment.from(), segment, 1));
+			boundaries.add(new Boundary(segment.to().plusDays(1), segment, -1));
+		}
+		boundaries.sort(Comparator.comparing(Boundary::date).thenComparingInt(Boundary::delta));
+
+		// 3) 날짜순으로 한 번 훑기 - 회원별 상태가 바뀔 때만 집계값 갱신
+		Map<Long, int[]> activeByMember = new HashMap<>();  // 회원 id -> [부분 구간 수, 종일 구간 수]
+		int[][] counts = new int[2][Absence.values().length];  // [파견 여부][상태] 인원
+		List<DailyCoverage> days = new ArrayList<>();
+		int cursor = 0;
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			while (cursor < boundaries.size() && !boundaries.get(cursor).date().isAfter(date)) {
+				apply(boundaries.get(cursor++), activeByMember, counts);
+			}
+			boolean regularWorks = regularCalendar.isWorkingDay(date);
+			boolean dispatchedWorks = dispatchedCalendar.isWorkingDay(date);
+			if (!regularWorks && !dispatchedWorks) {
+				continue;
+			}
+			int[] regular = regularWorks ? counts[0] : new int[Absence.values().length];
+			int[] dispatched = dispatchedWorks ? counts[1] : new int[Absence.values().length];
+			int full = regular[Absence.FULL.ordinal()] + dispatched[Absence.FULL.ordinal()];
+			int partial = regular[Absence.PARTIAL.ordinal()] + dispatched[Absence.PARTIAL.ordinal()];
+			int dispatchedAbsent = dispatched[Absence.FULL.ordinal()] + dispatched[Absence.PARTIAL.ordinal()];
+			int regularAbsent = regular[Absence.FULL.ordinal()] + regular[Absence.PARTIAL.ordinal()];
+			days.add(new DailyCoverage(date, full + partial, full, partial, dispatchedAbsent, regularAbsent));
+		}
+
+		log.info("CoverageService :: {} 부재 현황 계산, 구간 {}건, {}ms", month, segments.size(),
+			(System.nanoTime() - begin) / 1_000_000);
+		return List.copyOf(days);
+	}
+
+	private void apply(Boundary boundary, Map<Long, int[]> activeByMember, int[][] counts) {
+		Segment segment = boundary.segment();
+		int[] active = activeByMember.computeIfAbsent(segment.memberId(), id -> new int[2]);
+		int group = segment.isGermany() ? 1 : 0;
+
+		Absence before = state(active);
+		active[segment.absence() == Absence.FULL ? 1 : 0] += boundary.delta();
+		Absence after = state(active);
+
+		if (before != after) {
+			counts[group][before.ordinal()]--;
+			counts[group][after.ordinal()]++;
+		}
+		if (after == Absence.NONE) {
+			activeByMember.remove(segment.memberId());
+		}
+	}
+
+	private static Absence state(int[] active) {
+		if (active[1] > 0) {
+			return Absence.FULL;
+		}
+		return active[0] > 0 ? Absence.PARTIAL : Absence.NONE;
+	}
+
+	/**
+	 * 일정 하나를 첫날 / 중간(종일) / 마지막날 구간으로 나눠 [from, to] 로 자름
+	 */
+	private void addSegments(List<Segment> segments, Long memberId, boolean isGermany, LocalDate startDate,
+		LocalTime startTime, LocalDate endDate, LocalTime endTime, LocalDate from, LocalDate to) {
+		LocalTime workStart = getAdjustStartTime(isGermany);
+		LocalTime workEnd = getAdjustEndTime(isGermany);
+		boolean startsAtWorkStart = startTime == null || !startTime.isAfter(workStart);
+		boolean endsAtWorkEnd = endTime == null || !endTime.isBefore(workEnd);
+
+		if (startDate.equals(endDate)) {
+			add(segments, memberId, isGermany, startDate, startDate,
+				startsAtWorkStart && endsAtWorkEnd ? Absence.FULL : Absence.PARTIAL, from, to);
+			return;
+		}
+		add(segments, memberId, isGermany, startDate, startDate,
+			startsAtWorkStart ? Absence.FULL : Absence.PARTIAL, from, to);
+		if (startDate.plusDays(1).isBefore(endDate)) {
+			add(segments, memberId, isGermany, startDate.plusDays(1), endDate.minusDays(1), Absence.FULL, from, to);
+		}
+		add(segments, memberId, isGermany, endDate, endDate, endsAtWorkEnd ? Absence.FULL : Absence.PARTIAL, from, to);
+	}
+
+	private void add(List<Segment> segments, Long memberId, boolean isGermany, LocalDate segmentFrom,
+		LocalDate segmentTo, Absence absence, LocalDate from, LocalDate to) {
+		LocalDate clippedFrom = segmentFrom.isBefore(from) ? from : segmentFrom;
+		LocalDate clippedTo = segmentTo.isAfter(to) ? to : segmentTo;
+		if (!clippedFrom.isAfter(clippedTo)) {
+			segments.add(new Segment(memberId, isGermany, clippedFrom, clippedTo, absence));
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.leavebridge.calendar.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.leavebridge.calendar.dto.EventSearchResult;
+import com.leavebridge.calendar.dto.EventSearchRow;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+import com.leavebridge.calendar.repository.LeaveQueryRepository;
+import com.leavebridge.calendar.search.EventSearchIndex;
+import com.leavebridge.global.datasource.PrimaryReads;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 제목/설명 검색
+ * - 기동 후 백그라운드에서 전체 색인 생성 (readiness 를 막지 않음), 생성 전 검색은 503
+ * - 커밋된 변경(CalendarChangeEvent)마다 해당 일정만 Primary 에서 다시 읽어 색인 갱신 (반복 일정 변경은 무시)
+ * - 갱신은 단일 스레드에서 순서대로 처리해 같은 일정의 연속 변경이 뒤바뀌지 않게 함
+ */
+@Service
+@Slf4j
+public class EventSearchService {
+
+	private volatile EventSearchIndex index = new EventSearchIndex();
+	private final ExecutorService indexer = Executors.newSingleThreadExecutor(
+		Thread.ofVirtual().name("event-search-indexer").factory());
+
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final LeaveQueryRepository leaveQueryRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final int fetchSize;
+	private final int maxLimit;
+
+	private volatile boolean ready;
+	private volatile boolean buildScheduled;
+
+	public EventSearchService(LeaveAndHolidayRepository leaveAndHolidayRepository,
+		LeaveQueryRepository leaveQueryRepository, PlatformTransactionManager transactionManager,
+		@Value("${calendar.search.fetch-size:500}") int fetchSize,
+		@Value("${calendar.search.max-limit:100}") int maxLimit) {
+		this.leaveAndHolidayRepository = leaveAndHolidayRepository;
+		this.leaveQueryRepository = leaveQueryRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.fetchSize = fetchSize;
+		this.maxLimit = maxLimit;
+	}
+
+	public List<EventSearchResult> search(String query, LocalDate from, LocalDate to, int limit) {
+		if (!StringUtils.hasText(query)) {
+			throw new IllegalArgumentException("검색어를 입력해주세요.");
+		}
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이후일 수 없습니다");
+		}
+		if (!ready) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		long begin = System.nanoTime();
+		List<EventSearchResult> results = index.search(query, from, to, Math.max(1, Math.min(limit, maxLimit)))
+			.stream()
+			.map(hit -> EventSearchResult.of(hit.row(), hit.score()))
+			.toList();
+		log.info("EventSearchService.search :: q={}, from={}, to={}, hits={}, {}us", query, from, to, results.size(),
+			(System.nanoTime() - begin) / 1_000);
+		return results;
+	}
+
+	/**
+	 * 기동 완료 후 전체 색인 (이후 변경 갱신은 같은 스레드에서 색인 생성 뒤에 처리됨)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		buildScheduled = true;
+		indexer.execute(this::rebuild);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCalendarChanged(CalendarChangeEvent event) {
+		indexer.execute(() -> apply(event));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		indexer.shutdownNow();
+	}
+
+	private void rebuild() {
+		long begin = System.nanoTime();
+		try {
+			// 새 색인을 다 만든 뒤 교체 (재생성 중에도 기존 색인으로 검색 가능)
+			EventSearchIndex fresh = new EventSearchIndex();
+			PrimaryReads.run(() -> readOnlyTransaction.executeWithoutResult(status -> {
+				try (Stream<EventSearchRow> rows = leaveQueryRepository.streamSearchRows(null, null, fetchSize)) {
+					rows.forEach(fresh::upsert);
+				}
+			}));
+			index = fresh;
+			ready = true;
+			log.info("EventSearchService :: 검색 색인 생성 {}건, {}ms", fresh.size(), (System.nanoTime() - begin) / 1_000_000);
+		} catch (Exception e) {
+			log.error("EventSearchService :: 검색 색인 생성 실패", e);
+		}
+	}
+
+	private void apply(CalendarChangeEvent event) {
+		if (!ready) {
+			// 기동 색인이 아직 예약 전이면 그 생성이 이 변경까지 읽으므로 건너뜀,
+			// 예약 후인데 준비 전이면 같은 스레드에서 먼저 돈 생성이 실패한 것이라 다시 전체 생성
+			if (buildScheduled) {
+				rebuild();
+			}
+			return;
+		}
+		if (event.series()) {
+			// 반복 일정은 색인 대상이 아님 - 끝없는 시리즈면 기간이 9999-12-31 까지라 이후 일정 전체를 다시 읽게 됨
+			return;
+		}
+		try {
+			// 방금 커밋된 변경을 읽어야 하므로 Primary 에서 (Replica 는 복제 전이면 없는 일정으로 보고 색인에서 지움)
+			PrimaryReads.run(() -> readOnlyTransaction.executeWithoutResult(status -> {
+				if (event.eventId() != null) {
+					// 커밋된 최신 상태 기준 (삭제됐으면 색인에서도 제거)
+					leaveAndHolidayRepository.findById(event.eventId())
+						.map(EventSearchRow::from)
+						.ifPresentOrElse(index::upsert, () -> index.remove(event.eventId()));
+				} else {
+					// 동기화, 일괄 등록처럼 여러 건이 바뀐 경우 기간 단위로 교체 (전체 생성과 같은 커서 조회, 기간만 제한)
+					try (Stream<EventSearchRow> rows = leaveQueryRepository.streamSearchRows(event.startDate(),
+						event.endDate(), fetchSize)) {
+						index.replaceRange(event.startDate(), event.endDate(), rows);
+					}
+				}
+			}));
+		} catch (Exception e) {
+			log.warn("EventSearchService :: 색인 갱신 실패, 전체 재생성 event = {}", event, e);
+			rebuild();
+		}
+	}
+}
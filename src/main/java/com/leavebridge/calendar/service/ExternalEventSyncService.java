@@ -11,9 +11,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +29,11 @@ import com.leavebridge.calendar.api.dto.RequestQueryParams;
 import com.leavebridge.calendar.api.dto.ResponseWrapper;
 import com.leavebridge.calendar.entity.LeaveAndHoliday;
 import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
 import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,8 +41,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class ExternalEventSyncService {
+	public static final String CIRCUIT_BREAKER_NAME = "holiday-api";
+
 	private final AnniversaryClient client;
 	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
 
 	@Value("${data.secret-key}")
 	private String apiKey;
@@ -144,17 +157,40 @@ public class ExternalEventSyncService {
 	/**
 	 * 주어진 연도에 대해 5가지 API(국경일, 공휴일, 기념일, 24절기, 잡절)를 호출해서
 	 * 각 ResponseWrapper를 리스트로 반환합니다.
+	 * - 서로 독립적인 블로킹 호출이라 호출마다 가상 스레드를 하나씩 써서 동시에 요청한다
 	 */
 	public Map<LeaveType, ResponseWrapper> fetchAllKinds(int year) {
 		RequestQueryParams params = buildParams(year);
 
-		Map<LeaveType, ResponseWrapper> map = new HashMap<>();
+		Map<LeaveType, Function<RequestQueryParams, ResponseWrapper>> calls = Map.of(
+			LeaveType.PUBLIC_HOLIDAY, client::getRestDeInfo,
+			LeaveType.NATIONAL_HOLIDAY, client::getHolidays,
+			LeaveType.TWENTY_FOUR_SOLAR_TERMS, client::get24DivisionsInfo,
+			LeaveType.SUNDRY_DAY, client::getSundryDayInfo,
+			LeaveType.ANNIVERSARY, client::getAnniversaryInfo
+		);
 
-		map.put(LeaveType.PUBLIC_HOLIDAY, client.getRestDeInfo(params));
-		map.put(LeaveType.NATIONAL_HOLIDAY, client.getHolidays(params));
-		map.put(LeaveType.TWENTY_FOUR_SOLAR_TERMS, client.get24DivisionsInfo(params));
-		map.put(LeaveType.SUNDRY_DAY, client.getSundryDayInfo(params));
-		map.put(LeaveType.ANNIVERSARY, client.getAnniversaryInfo(params));
+		// 공휴일 API 가 계속 실패하면 브레이커가 열려 호출 없이 CallNotPermittedException (기존 데이터는 그대로)
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+		Map<LeaveType, ResponseWrapper> map = new HashMap<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Map<LeaveType, Future<ResponseWrapper>> futures = new HashMap<>();
+			calls.forEach((leaveType, call) -> futures.put(leaveType,
+				executor.submit(() -> circuitBreaker.executeSupplier(() -> call.apply(params)))));
+
+			for (Map.Entry<LeaveType, Future<ResponseWrapper>> entry : futures.entrySet()) {
+				map.put(entry.getKey(), entry.getValue().get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("공휴일 API 호출이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			// Feign 예외 등 원래 예외를 그대로 전파해서 @Retryable 이 기존처럼 동작하도록
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("공휴일 API 호출에 실패했습니다.", e.getCause());
+		}
 
 		return map;
 	}
@@ -192,6 +228,16 @@ public class ExternalEventSyncService {
 			.toList();
 
 		leaveAndHolidayRepository.saveAll(newEntityList);
+
+		// 정렬되어 있으니 처음 ~ 마지막 시작일 기준으로 기간 산정 (종료일은 최댓값 탐색)
+		if (!newEntityList.isEmpty()) {
+			LocalDate maxEndDate = newEntityList.stream()
+				.map(LeaveAndHoliday::getEndDate)
+				.max(Comparator.naturalOrder())
+				.orElseThrow();
+			eventPublisher.publishEvent(
+				CalendarChangeEvent.synced(newEntityList.getFirst().getStartDate(), maxEndDate, false));
+		}
 	}
 
 	/**
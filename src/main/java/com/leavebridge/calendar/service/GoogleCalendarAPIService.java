@@ -1,63 +1,213 @@
 package com.leavebridge.calendar.service;
 
 import java.io.IOException;
-import java.util.concurrent.Callable;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
+import com.leavebridge.calendar.api.GoogleCalendarClientProvider;
+import com.leavebridge.calendar.enums.GoogleCallPriority;
+import com.leavebridge.calendar.exception.GoogleCalendarUnavailableException;
+import com.leavebridge.global.ratelimit.TokenBucket;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 구글 캘린더 API 호출
+ * - 프로젝트 할당량을 사용자 요청/스케줄 동기화 두 토큰 버킷으로 나눠 호출 전에 토큰을 받음
+ * - 429, 5xx, 할당량 403, 네트워크 오류는 지수 백오프 + 지터로 재시도, Retry-After 가 오면 두 버킷 모두 그 시간만큼 멈춤
+ * - 사용자 요청은 일정 쓰기 트랜잭션(커넥션, 회원 잠금)을 쥔 채 호출하므로 짧게 기다리고 한 번만 시도,
+ *   실패하면 GoogleCalendarUnavailableException 으로 반영을 미뤄 재시도는 동기화(GOOGLE_SYNC_TASK)에 맡김
+ * - 스케줄 동기화는 오래 기다리고 여러 번 재시도
+ * - 재시도까지 마친 호출 결과를 서킷 브레이커에 기록, 장애성 실패(5xx, 429, 네트워크)가 이어지면 브레이커가 열려
+ *   호출하지 않고 바로 GoogleCalendarUnavailableException (구글이 정상 응답한 400, 404 등은 성공으로 기록)
+ * - 클라이언트는 GoogleCalendarClientProvider 가 기동 후 준비, 준비 전에도 GoogleCalendarUnavailableException (브레이커에는 기록하지 않음)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GoogleCalendarAPIService {
 	public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
-	private final Calendar calendarClient;
+	public static final String CIRCUIT_BREAKER_NAME = "google-calendar";
+
+	private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 500, 502, 503, 504);
+	private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded",
+		"quotaExceeded");
+	private static final int MAX_BACKOFF_SHIFT = 16;
+	private static final int INTERACTIVE_MAX_ATTEMPTS = 1;
+
+	/**
+	 * 호출 주체별 토큰 버킷과 재시도 예산
+	 * @param maxWait 토큰 대기, Retry-After 대기 상한 (넘으면 기다리지 않고 실패)
+	 */
+	private record Budget(TokenBucket bucket, int maxAttempts, Duration maxWait) {
+	}
+
+	/**
+	 * 호출 한도 대기 초과 - 구글에 요청을 보내지 않았으니 브레이커에 기록하지 않음
+	 */
+	private static class ThrottledException extends ResponseStatusException {
+		ThrottledException() {
+			super(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 시도해주세요.");
+		}
+	}
+
+	/**
+	 * 준비된 클라이언트로 하는 구글 호출
+	 */
+	@FunctionalInterface
+	private interface GoogleCall<T> {
+		T call(Calendar client) throws Exception;
+	}
+
+	private final GoogleCalendarClientProvider calendarClientProvider;
+	private final MeterRegistry meterRegistry;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
 
 	@Value("${google.calendar-id}")
 	private String CALENDAR_ID;
 
+	@Value("${google.calendar.quota.per-minute:600}")
+	private int quotaPerMinute;
+
+	@Value("${google.calendar.quota.background-share:0.3}")
+	private double backgroundShare;
+
+	@Value("${google.calendar.retry.base-delay:200ms}")
+	private Duration baseDelay;
+
+	@Value("${google.calendar.retry.max-delay:5s}")
+	private Duration maxDelay;
+
+	@Value("${google.calendar.interactive.max-wait:200ms}")
+	private Duration interactiveMaxWait;
+
+	@Value("${google.calendar.background.max-attempts:6}")
+	private int backgroundMaxAttempts;
+
+	@Value("${google.calendar.background.max-wait:60s}")
+	private Duration backgroundMaxWait;
+
+	private final Map<GoogleCallPriority, Budget> budgets = new EnumMap<>(GoogleCallPriority.class);
+	private CircuitBreaker circuitBreaker;
+
+	@PostConstruct
+	void initBudgets() {
+		circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+		double perSecond = quotaPerMinute / 60.0;
+		double backgroundPerSecond = perSecond * backgroundShare;
+		double interactivePerSecond = perSecond - backgroundPerSecond;
+		budgets.put(GoogleCallPriority.INTERACTIVE, new Budget(
+			new TokenBucket(interactivePerSecond, Math.max(1, (int)interactivePerSecond)), INTERACTIVE_MAX_ATTEMPTS,
+			interactiveMaxWait));
+		budgets.put(GoogleCallPriority.BACKGROUND, new Budget(
+			new TokenBucket(backgroundPerSecond, Math.max(1, (int)backgroundPerSecond)), backgroundMaxAttempts,
+			backgroundMaxWait));
+		log.info("GoogleCalendarAPIService :: 분당 할당량 {}, 사용자 요청 초당 {}, 스케줄 동기화 초당 {}", quotaPerMinute,
+			interactivePerSecond, backgroundPerSecond);
+	}
+
 	// ─── 퍼블릭 API 메서드 ──────────────────────────────────────────────────────
 
+	/**
+	 * 미리 정해 둔 id 로 만들면 응답을 못 받고 재시도한 insert 가 중복 생성 대신 409 가 됨
+	 * - 반영을 미룰 때도 이 id 를 일정에 먼저 저장해 두고 나중에 같은 id 로 생성
+	 */
+	public static String newEventId() {
+		return UUID.randomUUID().toString().replace("-", "");
+	}
+
 	public Event createGoogleCalendarEvent(Event event) {
-		return withGoogleCall(
-			() -> calendarClient.events().insert(CALENDAR_ID, event).execute(),
-			HttpStatus.BAD_REQUEST
-		);
+		return createGoogleCalendarEvent(event, GoogleCallPriority.INTERACTIVE);
+	}
+
+	public Event createGoogleCalendarEvent(Event event, GoogleCallPriority priority) {
+		if (event.getId() == null) {
+			event.setId(newEventId());
+		}
+		try {
+			return withGoogleCall(priority,
+				client -> client.events().insert(CALENDAR_ID, event).execute(),
+				HttpStatus.BAD_REQUEST
+			);
+		} catch (ResponseStatusException e) {
+			if (e.getStatusCode().value() == 409) {
+				log.info("재시도 전 요청이 이미 반영된 것으로 판단, 생성된 이벤트 조회: eventId={}", event.getId());
+				return getGoogleCalendarEventByGoogleEventId(event.getId(), priority);
+			}
+			throw e;
+		}
 	}
 
 	public Event getGoogleCalendarEventByGoogleEventId(String eventId) {
-		return withGoogleCall(
-			() -> calendarClient.events().get(CALENDAR_ID, eventId).execute(),
+		return getGoogleCalendarEventByGoogleEventId(eventId, GoogleCallPriority.INTERACTIVE);
+	}
+
+	public Event getGoogleCalendarEventByGoogleEventId(String eventId, GoogleCallPriority priority) {
+		return withGoogleCall(priority,
+			client -> client.events().get(CALENDAR_ID, eventId).execute(),
 			HttpStatus.NOT_FOUND
 		);
 	}
 
-	public void patchGoogleCalendarEventByEventIdAndEvent(String eventId, Event event) {
-		// 람다에서 null을 반환
-		withGoogleCall(
-			() -> {
-				calendarClient.events().patch(CALENDAR_ID, eventId, event).execute();
-				return null;
+	public Event patchGoogleCalendarEventByEventIdAndEvent(String eventId, Event event) {
+		return patchGoogleCalendarEventByEventIdAndEvent(eventId, event, GoogleCallPriority.INTERACTIVE);
+	}
+
+	public Event patchGoogleCalendarEventByEventIdAndEvent(String eventId, Event event, GoogleCallPriority priority) {
+		return patchGoogleCalendarEvent(eventId, event, null, priority);
+	}
+
+	/**
+	 * etag 가 있으면 If-Match 로 보내서, 그 사이 구글에서 바뀐 이벤트면 덮어쓰지 않고 412
+	 */
+	public Event patchGoogleCalendarEvent(String eventId, Event patch, String etag, GoogleCallPriority priority) {
+		return withGoogleCall(priority,
+			client -> {
+				Calendar.Events.Patch request = client.events().patch(CALENDAR_ID, eventId, patch);
+				if (etag != null) {
+					request.getRequestHeaders().setIfMatch(etag);
+				}
+				return request.execute();
 			},
 			HttpStatus.BAD_REQUEST
 		);
 	}
 
 	public void deleteGoogleCalendarEvent(String eventId) {
+		deleteGoogleCalendarEvent(eventId, GoogleCallPriority.INTERACTIVE);
+	}
+
+	public void deleteGoogleCalendarEvent(String eventId, GoogleCallPriority priority) {
 		// 람다에서 null을 반환
 		try {
-			withGoogleCall(
-				() -> {
-					calendarClient.events().delete(CALENDAR_ID, eventId).execute();
+			withGoogleCall(priority,
+				client -> {
+					client.events().delete(CALENDAR_ID, eventId).execute();
 					return null;
 				},
 				HttpStatus.NOT_FOUND
@@ -72,33 +222,201 @@ public class GoogleCalendarAPIService {
 		}
 	}
 
+	public boolean isAvailable() {
+		return calendarClientProvider.getState() == GoogleCalendarClientProvider.State.READY
+			&& circuitBreaker.getState() != CircuitBreaker.State.OPEN
+			&& circuitBreaker.getState() != CircuitBreaker.State.FORCED_OPEN;
+	}
+
+	/**
+	 * 기간 안의 일정 (반복 일정은 회차별로 펼침) - 스케줄 동기화용
+	 */
+	public List<Event> listEvents(DateTime timeMin, DateTime timeMax) {
+		return withGoogleCall(GoogleCallPriority.BACKGROUND,
+			client -> client.events().list(CALENDAR_ID)
+				.setTimeMin(timeMin)
+				.setTimeMax(timeMax)
+				.setSingleEvents(true)    // 반복 이벤트를 각 회차별로 개별 인스턴스로 분할해 반환
+				.setOrderBy("startTime")
+				.execute()
+				.getItems(),
+			HttpStatus.BAD_REQUEST
+		);
+	}
+
 	// ─── 공통 예외 처리 헬퍼 ──────────────────────────────────────────────────────
 
-	private <T> T withGoogleCall(Callable<T> googleCall, HttpStatus defaultStatus) {
+	/**
+	 * 클라이언트 준비 확인 -> 브레이커 허가 -> (토큰 + 재시도) 호출 -> 결과를 브레이커에 기록
+	 * - 반열림 상태에서는 허가받은 몇 건만 실제로 나가 복구 여부를 확인함
+	 */
+	private <T> T withGoogleCall(GoogleCallPriority priority, GoogleCall<T> googleCall, HttpStatus defaultStatus) {
+		Calendar client = calendarClientProvider.get();
+		if (!circuitBreaker.tryAcquirePermission()) {
+			meterRegistry.counter("leavebridge.google.breaker.rejected", "priority", priority.name()).increment();
+			throw new GoogleCalendarUnavailableException("구글 캘린더 장애로 호출을 잠시 멈췄습니다.");
+		}
+		long startedAt = System.nanoTime();
 		try {
-			return googleCall.call();
-		} catch (GoogleJsonResponseException ex) {
-			int code = ex.getStatusCode();
-			String message = ex.getDetails().getMessage();
-			log.error("구글 캘린더 API 예외 발생 :: message = {}", message);
-			String reason = switch (code) {
-				case 400 -> "잘못된 요청입니다." + message;
-				case 401 -> "Google Token이 만료되었습니다. 관리자에게 문의하세요";
-				case 403 -> "Google Calendar API 한도 초과 등, 관리자에게 문의하세요";
-				case 404 -> "이미 삭제되었거나 리소스를 찾을 수 없습니다.";
-				case 409 -> "리소스 충돌이 발생했습니다.";
-				case 410 -> "리소스가 삭제되었거나(syncToken/updatedMin 무효) 전체 동기화가 필요할 수 있습니다.";
-				case 429 -> "요청이 너무 많습니다. 잠시 후 시도해주세요.";
-				default -> "Google Calendar 오류: " + ex.getStatusMessage();
-			};
-			throw new ResponseStatusException(HttpStatus.valueOf(code), reason, ex);
-		} catch (IOException ex) {
-			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "네트워크 오류로 Google Calendar에 연결할 수 없습니다.",
-				ex);
-		} catch (Exception ex) {
-			throw new ResponseStatusException(
-				defaultStatus, defaultStatus.getReasonPhrase(), ex
-			);
+			T result = callWithRetry(priority, client, googleCall, defaultStatus);
+			circuitBreaker.onSuccess(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (ThrottledException e) {
+			circuitBreaker.releasePermission();
+			if (priority == GoogleCallPriority.INTERACTIVE) {
+				// 토큰을 기다리며 잠금을 쥐고 있지 않도록 반영을 미룸
+				throw new GoogleCalendarUnavailableException("구글 캘린더 호출이 몰려 반영을 미뤘습니다.", e);
+			}
+			throw e;
+		} catch (ResponseStatusException e) {
+			long elapsed = System.nanoTime() - startedAt;
+			if (isOutage(e.getStatusCode().value())) {
+				circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+				throw new GoogleCalendarUnavailableException(e.getReason(), e);
+			}
+			circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+			throw e;
 		}
 	}
+
+	private <T> T callWithRetry(GoogleCallPriority priority, Calendar client, GoogleCall<T> googleCall,
+		HttpStatus defaultStatus) {
+		Budget budget = budgets.get(priority);
+		for (int attempt = 1; ; attempt++) {
+			acquire(priority, budget);
+			try {
+				return googleCall.call(client);
+			} catch (HttpResponseException ex) {
+				int code = ex.getStatusCode();
+				Duration retryAfter = retryAfter(ex);
+				if (retryAfter != null) {
+					// 할당량은 프로젝트 단위라 사용자 요청/동기화 모두 멈춤
+					budgets.values().forEach(b -> b.bucket().pause(retryAfter));
+				}
+				if (attempt < budget.maxAttempts() && isRetryable(ex) && backoff(priority, budget, attempt, retryAfter,
+					String.valueOf(code))) {
+					continue;
+				}
+				throw toStatusException(ex);
+			} catch (IOException ex) {
+				if (attempt < budget.maxAttempts() && backoff(priority, budget, attempt, null, "io")) {
+					continue;
+				}
+				throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+					"네트워크 오류로 Google Calendar에 연결할 수 없습니다.", ex);
+			} catch (Exception ex) {
+				throw new ResponseStatusException(
+					defaultStatus, defaultStatus.getReasonPhrase(), ex
+				);
+			}
+		}
+	}
+
+	private void acquire(GoogleCallPriority priority, Budget budget) {
+		try {
+			if (budget.bucket().acquire(budget.maxWait())) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Google Calendar 호출 대기 중 중단되었습니다.", e);
+		}
+		meterRegistry.counter("leavebridge.google.throttled", "priority", priority.name()).increment();
+		log.warn("구글 캘린더 호출 한도 대기 초과 priority = {}, maxWait = {}", priority, budget.maxWait());
+		throw new ThrottledException();
+	}
+
+	/**
+	 * 재시도 전 대기 - 재시도하면 true
+	 * - Retry-After 가 있으면 이미 버킷이 멈췄으니 다음 acquire 가 기다림 (상한을 넘으면 재시도 포기)
+	 * - 없으면 full jitter: [0, min(maxDelay, baseDelay * 2^(attempt-1))] 중 무작위
+	 */
+	private boolean backoff(GoogleCallPriority priority, Budget budget, int attempt, Duration retryAfter,
+		String reason) {
+		if (retryAfter != null && retryAfter.compareTo(budget.maxWait()) > 0) {
+			log.warn("구글 캘린더 Retry-After {} 가 대기 상한을 넘어 재시도하지 않음 priority = {}", retryAfter, priority);
+			return false;
+		}
+		meterRegistry.counter("leavebridge.google.retry", "priority", priority.name(), "reason", reason).increment();
+
+		long sleepNanos = 0;
+		if (retryAfter == null) {
+			long ceiling = Math.min(maxDelay.toNanos(), baseDelay.toNanos() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+			sleepNanos = ThreadLocalRandom.current().nextLong(ceiling + 1);
+		}
+		log.info("구글 캘린더 호출 재시도 priority = {}, attempt = {}, reason = {}, wait = {}ms", priority, attempt + 1,
+			reason, retryAfter != null ? retryAfter.toMillis() : TimeUnit.NANOSECONDS.toMillis(sleepNanos));
+		try {
+			TimeUnit.NANOSECONDS.sleep(sleepNanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 재시도까지 실패한 결과 중 구글 쪽 장애로 보는 것 (브레이커 실패로 기록)
+	 */
+	private static boolean isOutage(int status) {
+		return status == 429 || status >= 500;
+	}
+
+	/**
+	 * 429, 5xx 와 할당량 초과 403 만 재시도 (권한 없음 403 은 제외)
+	 */
+	private static boolean isRetryable(HttpResponseException ex) {
+		int code = ex.getStatusCode();
+		if (RETRYABLE_STATUS.contains(code)) {
+			return true;
+		}
+		if (code == 403 && ex instanceof GoogleJsonResponseException json && json.getDetails() != null
+			&& json.getDetails().getErrors() != null) {
+			return json.getDetails().getErrors().stream()
+				.map(GoogleJsonError.ErrorInfo::getReason)
+				.anyMatch(RATE_LIMIT_REASONS::contains);
+		}
+		return false;
+	}
+
+	/**
+	 * Retry-After (초 또는 HTTP 날짜), 없거나 해석 못하면 null
+	 */
+	private static Duration retryAfter(HttpResponseException ex) {
+		String value = ex.getHeaders() != null ? ex.getHeaders().getFirstHeaderStringValue("Retry-After") : null;
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+		} catch (NumberFormatException ignored) {
+			// HTTP 날짜 형식
+		}
+		try {
+			Duration until = Duration.between(ZonedDateTime.now(),
+				ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+			return until.isNegative() ? Duration.ZERO : until;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static ResponseStatusException toStatusException(HttpResponseException ex) {
+		int code = ex.getStatusCode();
+		String message = ex instanceof GoogleJsonResponseException json && json.getDetails() != null
+			? json.getDetails().getMessage() : ex.getStatusMessage();
+		log.error("구글 캘린더 API 예외 발생 :: message = {}", message);
+		String reason = switch (code) {
+			case 400 -> "잘못된 요청입니다." + message;
+			case 401 -> "Google Token이 만료되었습니다. 관리자에게 문의하세요";
+			case 403 -> "Google Calendar API 한도 초과 등, 관리자에게 문의하세요";
+			case 404 -> "이미 삭제되었거나 리소스를 찾을 수 없습니다.";
+			case 409 -> "리소스 충돌이 발생했습니다.";
+			case 410 -> "리소스가 삭제되었거나(syncToken/updatedMin 무효) 전체 동기화가 필요할 수 있습니다.";
+			case 412 -> "구글 캘린더에서 이벤트가 먼저 수정되었습니다.";
+			case 429 -> "요청이 너무 많습니다. 잠시 후 시도해주세요.";
+			default -> "Google Calendar 오류: " + ex.getStatusMessage();
+		};
+		return new ResponseStatusException(HttpStatus.valueOf(code), reason, ex);
+	}
 }
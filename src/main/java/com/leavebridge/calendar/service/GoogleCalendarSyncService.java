@@ -0,0 +1,285 @@
+package com.leavebridge.calendar.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.google.api.services.calendar.model.Event;
+import com.leavebridge.calendar.entity.GoogleSyncTask;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.GoogleCallPriority;
+import com.leavebridge.calendar.enums.GoogleSyncOperation;
+import com.leavebridge.calendar.exception.GoogleCalendarUnavailableException;
+import com.leavebridge.calendar.repository.GoogleSyncTaskRepository;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+import com.leavebridge.lease.service.SchedulerLeaseService;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구글 캘린더 장애 동안 미뤄 둔 일정 반영 (GOOGLE_SYNC_TASK)
+ * - 등록/수정/삭제는 구글 호출이 GoogleCalendarUnavailableException 이면 DB 변경은 그대로 커밋하고 작업만 쌓음
+ * - 이미 밀린 작업이 있는 일정은 순서가 뒤바뀌지 않도록 구글을 바로 부르지 않고 뒤에 쌓음
+ * - 브레이커가 닫히는 순간과 주기 스케줄(반열림 확인 겸)에서 리스를 얻은 노드가 ID 순서대로 재생
+ * - 생성은 미리 정한 이벤트 id 로 하므로 여러 번 재생되어도 이벤트는 하나 (409 면 기존 이벤트 사용)
+ */
+@Service
+@Slf4j
+public class GoogleCalendarSyncService {
+
+	private final GoogleSyncTaskRepository googleSyncTaskRepository;
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final GoogleCalendarAPIService googleCalendarAPIService;
+	private final GoogleEventPatcher googleEventPatcher;
+	private final SchedulerLeaseService schedulerLeaseService;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate replayTransaction;
+	private final TransactionTemplate detachedTransaction;
+	private final int maxAttempts;
+
+	public GoogleCalendarSyncService(GoogleSyncTaskRepository googleSyncTaskRepository,
+		LeaveAndHolidayRepository leaveAndHolidayRepository, GoogleCalendarAPIService googleCalendarAPIService,
+		GoogleEventPatcher googleEventPatcher, SchedulerLeaseService schedulerLeaseService,
+		CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry,
+		PlatformTransactionManager transactionManager,
+		@Value("${google.calendar.sync.max-attempts:5}") int maxAttempts) {
+		this.googleSyncTaskRepository = googleSyncTaskRepository;
+		this.leaveAndHolidayRepository = leaveAndHolidayRepository;
+		this.googleCalendarAPIService = googleCalendarAPIService;
+		this.googleEventPatcher = googleEventPatcher;
+		this.schedulerLeaseService = schedulerLeaseService;
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		this.meterRegistry = meterRegistry;
+		this.replayTransaction = new TransactionTemplate(transactionManager);
+		this.detachedTransaction = new TransactionTemplate(transactionManager);
+		this.detachedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.maxAttempts = maxAttempts;
+	}
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("leavebridge.google.sync.pending", googleSyncTaskRepository, GoogleSyncTaskRepository::count)
+			.description("구글 캘린더 반영 대기 작업 수")
+			.register(meterRegistry);
+
+		// 장애가 풀리면 다음 스케줄을 기다리지 않고 바로 재생
+		circuitBreakerRegistry.circuitBreaker(GoogleCalendarAPIService.CIRCUIT_BREAKER_NAME).getEventPublisher()
+			.onStateTransition(event -> {
+				if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+					Thread.ofVirtual().name("google-sync-replay").start(this::replayQuietly);
+				}
+			});
+	}
+
+	/**
+	 * 생성을 미룸 - 일정에는 이미 미리 정한 구글 이벤트 id 가 저장되어 있어야 함
+	 */
+	@Transactional
+	public void deferCreate(LeaveAndHoliday leave) {
+		enqueue(GoogleSyncOperation.CREATE, leave.getId(), leave.getGoogleEventId());
+	}
+
+	/**
+	 * 수정된 일정을 구글에 반영, 장애 중이면 미룸
+	 * - 이미 밀린 생성/수정이 있으면 재생 시점의 일정 내용이 반영되니 구글을 부르지도, 작업을 추가하지도 않음
+	 */
+	@Transactional
+	public void updateOrDefer(LeaveAndHoliday leave) {
+		if (googleSyncTaskRepository.existsByLeaveId(leave.getId())) {
+			return;
+		}
+		try {
+			patchGoogleEvent(leave, GoogleCallPriority.INTERACTIVE);
+		} catch (GoogleCalendarUnavailableException e) {
+			enqueue(GoogleSyncOperation.UPDATE, leave.getId(), leave.getGoogleEventId());
+		}
+	}
+
+	/**
+	 * 삭제된 일정의 구글 이벤트 삭제, 장애 중이거나 밀린 작업이 있으면 같은 트랜잭션에 쌓음
+	 */
+	@Transactional
+	public void deleteOrDefer(Long leaveId, String googleEventId) {
+		if (leaveId != null && googleSyncTaskRepository.existsByLeaveId(leaveId)) {
+			enqueue(GoogleSyncOperation.DELETE, leaveId, googleEventId);
+			return;
+		}
+		try {
+			googleCalendarAPIService.deleteGoogleCalendarEvent(googleEventId);
+		} catch (GoogleCalendarUnavailableException e) {
+			enqueue(GoogleSyncOperation.DELETE, leaveId, googleEventId);
+		}
+	}
+
+	/**
+	 * 구글 이벤트 삭제를 같은 트랜잭션에 작업으로 쌓고, 커밋되면 바로 재생
+	 * - 삭제 뒤에 검증/한도 검사가 남아 있어 롤백될 수 있는 경우용 (롤백되면 작업도 사라지고 구글 이벤트는 그대로)
+	 */
+	@Transactional
+	public void deleteAfterCommit(Long leaveId, String googleEventId) {
+		enqueue(GoogleSyncOperation.DELETE, leaveId, googleEventId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					Thread.ofVirtual().name("google-sync-replay").start(GoogleCalendarSyncService.this::replayQuietly);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 롤백될 등록이 먼저 만든 구글 이벤트 정리 - 장애 중이면 롤백과 무관하게 남도록 별도 트랜잭션에 쌓음
+	 */
+	public void discardOrDefer(String googleEventId) {
+		try {
+			googleCalendarAPIService.deleteGoogleCalendarEvent(googleEventId);
+		} catch (GoogleCalendarUnavailableException e) {
+			detachedTransaction.executeWithoutResult(
+				status -> enqueue(GoogleSyncOperation.DELETE, null, googleEventId));
+		}
+	}
+
+	/**
+	 * 밀린 작업 재생 (여러 노드 중 리스를 얻은 노드만)
+	 */
+	public void replayWithLease() throws Exception {
+		if (!googleCalendarAPIService.isAvailable() || googleSyncTaskRepository.count() == 0) {
+			return;
+		}
+		schedulerLeaseService.runWithLease("replayGoogleSync", Duration.ofMinutes(10), Duration.ZERO,
+			this::replayPending);
+	}
+
+	private void replayQuietly() {
+		try {
+			replayWithLease();
+		} catch (Exception e) {
+			log.error("구글 캘린더 반영 대기 작업 재생 실패", e);
+		}
+	}
+
+	private void replayPending() {
+		// 실행 중에 새로 쌓인 작업은 다음 실행에서
+		List<Long> taskIds = googleSyncTaskRepository.findAllIdsInOrder();
+		int replayed = 0;
+		for (Long taskId : taskIds) {
+			if (!Boolean.TRUE.equals(replayTransaction.execute(status -> replayOne(taskId)))) {
+				log.warn("구글 캘린더 장애가 계속되어 재생 중단, 처리 {}건 / 대기 {}건", replayed, taskIds.size());
+				return;
+			}
+			replayed++;
+		}
+		log.info("구글 캘린더 반영 대기 작업 재생 완료 {}건", replayed);
+	}
+
+	/**
+	 * 작업 하나 재생 - 장애로 못 보냈으면 false (작업은 그대로 남음)
+	 * - 구글이 거절한 작업(400 등)은 실패 횟수를 남기고, 상한에 닿으면 버림
+	 */
+	private boolean replayOne(Long taskId) {
+		GoogleSyncTask task = googleSyncTaskRepository.findById(taskId).orElse(null);
+		if (task == null) {
+			return true;
+		}
+		try {
+			apply(task);
+			googleSyncTaskRepository.delete(task);
+			meterRegistry.counter("leavebridge.google.sync.replayed", "operation", task.getOperation().name())
+				.increment();
+		} catch (GoogleCalendarUnavailableException e) {
+			return false;
+		} catch (ResponseStatusException e) {
+			if (e.getStatusCode().value() == 429) {
+				// 호출 한도 대기 초과 - 작업 문제가 아니니 다음 실행에서 다시
+				return false;
+			}
+			task.recordFailure(e.getReason());
+			if (task.getAttempts() >= maxAttempts) {
+				log.error("구글 캘린더 반영을 포기함 taskId = {}, leaveId = {}, operation = {}, error = {}", task.getId(),
+					task.getLeaveId(), task.getOperation(), task.getLastError());
+				googleSyncTaskRepository.delete(task);
+				meterRegistry.counter("leavebridge.google.sync.dropped", "operation", task.getOperation().name())
+					.increment();
+			}
+		}
+		return true;
+	}
+
+	private void apply(GoogleSyncTask task) {
+		if (task.getOperation() == GoogleSyncOperation.DELETE) {
+			googleCalendarAPIService.deleteGoogleCalendarEvent(task.getGoogleEventId(), GoogleCallPriority.BACKGROUND);
+			return;
+		}
+
+		// 그 사이 삭제된 일정은 뒤에 쌓인 DELETE 가 정리
+		LeaveAndHoliday leave = leaveAndHolidayRepository.findById(task.getLeaveId()).orElse(null);
+		if (leave == null || leave.getGoogleEventId() == null) {
+			return;
+		}
+
+		if (task.getOperation() == GoogleSyncOperation.CREATE) {
+			Event event = googleEventPatcher.newEvent(leave).setId(leave.getGoogleEventId());
+			Event created = googleCalendarAPIService.createGoogleCalendarEvent(event, GoogleCallPriority.BACKGROUND);
+			leave.markGoogleSynced(created.getEtag());
+			return;
+		}
+		patchGoogleEvent(leave, GoogleCallPriority.BACKGROUND);
+	}
+
+	/**
+	 * 마지막으로 반영한 스냅샷과 비교해 바뀐 필드만 If-Match PATCH 한 번
+	 * - 스냅샷이 없거나(도입 전 일정) 구글에서 먼저 고쳐져 412 면 조회 후 비교해서 PATCH (기존 방식)
+	 * - 반영 후 새 etag 와 스냅샷 저장
+	 */
+	private void patchGoogleEvent(LeaveAndHoliday leave, GoogleCallPriority priority) {
+		String googleEventId = leave.getGoogleEventId();
+		if (leave.getGoogleSnapshot() != null && leave.getGoogleEtag() != null) {
+			Event patch = googleEventPatcher.diff(leave.getGoogleSnapshot(), leave);
+			if (patch == null) {
+				return;
+			}
+			try {
+				Event patched = googleCalendarAPIService.patchGoogleCalendarEvent(googleEventId, patch,
+					leave.getGoogleEtag(), priority);
+				leave.markGoogleSynced(patched.getEtag());
+				return;
+			} catch (ResponseStatusException e) {
+				if (e.getStatusCode().value() != 412) {
+					throw e;
+				}
+				meterRegistry.counter("leavebridge.google.patch.precondition-failed").increment();
+				log.info("구글에서 먼저 수정된 이벤트라 조회 후 다시 반영 googleEventId = {}", googleEventId);
+			}
+		}
+
+		Event apiEvent = googleCalendarAPIService.getGoogleCalendarEventByGoogleEventId(googleEventId, priority);
+		String etag = apiEvent.getEtag();
+		if (googleEventPatcher.applyAllChanges(apiEvent, leave)) {
+			etag = googleCalendarAPIService.patchGoogleCalendarEvent(googleEventId, apiEvent, null, priority).getEtag();
+		}
+		leave.markGoogleSynced(etag);
+	}
+
+	private void enqueue(GoogleSyncOperation operation, Long leaveId, String googleEventId) {
+		googleSyncTaskRepository.save(GoogleSyncTask.of(operation, leaveId, googleEventId));
+		meterRegistry.counter("leavebridge.google.sync.deferred", "operation", operation.name()).increment();
+		log.warn("구글 캘린더 반영을 미룸 operation = {}, leaveId = {}, googleEventId = {}", operation, leaveId,
+			googleEventId);
+	}
+}
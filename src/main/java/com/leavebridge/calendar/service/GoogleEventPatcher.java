@@ -4,6 +4,7 @@ import static com.leavebridge.calendar.service.GoogleCalendarAPIService.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Date;
 
@@ -14,29 +15,86 @@ import com.google.api.client.util.Data;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
-import com.leavebridge.calendar.dto.PatchLeaveRequestDto;
+import com.leavebridge.calendar.entity.GoogleEventSnapshot;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
 import com.leavebridge.util.DateUtils;
 
 @Service
 public class GoogleEventPatcher {
 
 	/**
-	 * apiEvent에 dto의 변경값을 적용하고, 하나라도 바뀌면 true 반환
+	 * 조회한 apiEvent에 일정 내용을 적용하고, 하나라도 바뀌면 true 반환 (스냅샷이 없거나 etag 가 어긋났을 때)
 	 */
-	public boolean applyAllChanges(Event apiEvent, PatchLeaveRequestDto dto) {
+	public boolean applyAllChanges(Event apiEvent, LeaveAndHoliday leave) {
+		return applyAllChanges(apiEvent, leave.getTitle(), leave.getDescription(),
+			Boolean.TRUE.equals(leave.getIsAllDay()), leave.getStartDate(), leave.getStarTime(), leave.getEndDate(),
+			leave.getEndTime());
+	}
+
+	/**
+	 * 새로 만들 구글 이벤트 (하루종일 일정의 종료일은 구글 규칙대로 다음날)
+	 */
+	public Event newEvent(String title, String description, boolean isAllDay, LocalDate startDate,
+		LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+		ZoneId zone = ZoneId.of(DEFAULT_TIME_ZONE);
+		Event event = new Event().setSummary(title);
+		event.setDescription(description);
+		if (isAllDay) {
+			event.setStart(new EventDateTime().setDate(new DateTime(startDate.toString())));
+			event.setEnd(new EventDateTime().setDate(new DateTime(endDate.plusDays(1).toString())));
+		} else {
+			event.setStart(new EventDateTime().setDateTime(
+				new DateTime(Date.from(LocalDateTime.of(startDate, startTime).atZone(zone).toInstant()))));
+			event.setEnd(new EventDateTime().setDateTime(
+				new DateTime(Date.from(LocalDateTime.of(endDate, endTime).atZone(zone).toInstant()))));
+		}
+		return event;
+	}
+
+	public Event newEvent(LeaveAndHoliday leave) {
+		return newEvent(leave.getTitle(), leave.getDescription(), Boolean.TRUE.equals(leave.getIsAllDay()),
+			leave.getStartDate(), leave.getStarTime(), leave.getEndDate(), leave.getEndTime());
+	}
+
+	/**
+	 * 마지막으로 반영한 스냅샷과 일정을 비교해 바뀐 필드만 담은 PATCH 본문, 바뀐 게 없으면 null
+	 * - 제목/설명은 조회 후 비교할 때와 같이 빈 값으로는 지우지 않음
+	 */
+	public Event diff(GoogleEventSnapshot synced, LeaveAndHoliday leave) {
+		GoogleEventSnapshot wanted = GoogleEventSnapshot.of(leave);
+		Event patch = new Event();
+		boolean changed = false;
+
+		if (StringUtils.hasText(wanted.title()) && !wanted.title().equals(synced.title())) {
+			patch.setSummary(wanted.title());
+			changed = true;
+		}
+		if (StringUtils.hasText(wanted.description()) && !wanted.description().equals(synced.description())) {
+			patch.setDescription(wanted.description());
+			changed = true;
+		}
+		if (!wanted.isSamePeriod(synced)) {
+			replaceDateTime(patch, wanted.allDay(), wanted.start(), wanted.end());
+			changed = true;
+		}
+		return changed ? patch : null;
+	}
+
+	private boolean applyAllChanges(Event apiEvent, String title, String description, boolean wantedAllDay,
+		LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime) {
 		boolean changed = false;
 		// |= 복합대입 연산자 사용해서 true가 한번이라도 나오면 무조건 true로 반환하도록
 		// |= 연산자는 불리언에서 비단락 평가 논리합 연산 - 단락 평가(short-circuit) 하지 않아 오른쪽도 항상 검사
 		// -> 즉 제목 변경이 이미 되었지만, 설명이나 일정도 변경되었을 수 있기에 메소드 무조건 실행하긴 함
 
 		// 1) summary(제목) 검사/적용
-		changed |= updateSummaryIfChanged(apiEvent, dto);
+		changed |= updateSummaryIfChanged(apiEvent, title);
 
 		// 2) description(설명) 검사/적용
-		changed |= updateDescriptionIfChanged(apiEvent, dto);
+		changed |= updateDescriptionIfChanged(apiEvent, description);
 
 		// 3) start/end DateTime 업데이트
-		changed |= updateDateTimeIfChanged(apiEvent, dto);
+		changed |= updateDateTimeIfChanged(apiEvent, wantedAllDay, startDate, startTime, endDate, endTime);
 
 		return changed;
 	}
@@ -44,9 +102,9 @@ public class GoogleEventPatcher {
 	/**
 	 * 제목 업데이트
 	 */
-	private boolean updateSummaryIfChanged(Event apiEvent, PatchLeaveRequestDto dto) {
-		if (StringUtils.hasText(dto.title()) && !dto.title().equals(apiEvent.getSummary())) {
-			apiEvent.setSummary(dto.title());
+	private boolean updateSummaryIfChanged(Event apiEvent, String title) {
+		if (StringUtils.hasText(title) && !title.equals(apiEvent.getSummary())) {
+			apiEvent.setSummary(title);
 			return true;
 		}
 		return false;
@@ -55,32 +113,29 @@ public class GoogleEventPatcher {
 	/**
 	 * 설명 업데이트
 	 */
-	private boolean updateDescriptionIfChanged(Event apiEvent, PatchLeaveRequestDto dto) {
-		if (StringUtils.hasText(dto.description()) && !dto.description().equals(apiEvent.getDescription())) {
-			apiEvent.setDescription(dto.description());
+	private boolean updateDescriptionIfChanged(Event apiEvent, String description) {
+		if (StringUtils.hasText(description) && !description.equals(apiEvent.getDescription())) {
+			apiEvent.setDescription(description);
 			return true;
 		}
 		return false;
 	}
 
 	/**
-	 * 현재 apiEvent 에 dto 로 받은 날짜/시간을 반영한다.
+	 * 현재 apiEvent 에 목표 날짜/시간을 반영한다.
 	 * 변경이 있었으면 true, 없으면 false
 	 */
-	private boolean updateDateTimeIfChanged(Event apiEvent, PatchLeaveRequestDto dto) {
-
-		ZoneId zone = ZoneId.of(DEFAULT_TIME_ZONE);
-
-		// ---------- 1) DTO → 목표 값 계산 ----------
-		boolean wantedAllDay = Boolean.TRUE.equals(dto.isAllDay());
+	private boolean updateDateTimeIfChanged(Event apiEvent, boolean wantedAllDay, LocalDate startDate,
+		LocalTime startTime, LocalDate endDate, LocalTime endTime) {
 
+		// ---------- 1) 목표 값 계산 ----------
 		LocalDateTime wantedStart = wantedAllDay
-			? dto.startDate().atStartOfDay()
-			: LocalDateTime.of(dto.startDate(), dto.startTime());
+			? startDate.atStartOfDay()
+			: LocalDateTime.of(startDate, startTime);
 
 		LocalDateTime wantedEnd = wantedAllDay
-			? dto.endDate().plusDays(1).atStartOfDay()       // ★ 전일은 +1day 00:00
-			: LocalDateTime.of(dto.endDate(), dto.endTime());
+			? endDate.plusDays(1).atStartOfDay()       // ★ 전일은 +1day 00:00
+			: LocalDateTime.of(endDate, endTime);
 
 		// ---------- 2) 현재 값 가져오기 ----------
 		boolean currentAllDay = apiEvent.getStart().getDate() != null;
@@ -110,6 +165,17 @@ public class GoogleEventPatcher {
 		}
 
 		// ---------- 4) EventDateTime 새로 만들어 교체 ----------
+		replaceDateTime(apiEvent, wantedAllDay, wantedStart, wantedEnd);
+
+		return true;
+	}
+
+	/**
+	 * start/end 를 새 값으로 교체 - 기존 이벤트에 덮어쓰는 PATCH 라 반대쪽 필드(date <-> dateTime)는 명시적으로 NULL
+	 */
+	private void replaceDateTime(Event apiEvent, boolean wantedAllDay, LocalDateTime wantedStart,
+		LocalDateTime wantedEnd) {
+		ZoneId zone = ZoneId.of(DEFAULT_TIME_ZONE);
 		// 하루종일 일정으로 변경하고싶다 -> 새로운날의 하루종일 일정으로 변경
 		if (wantedAllDay) {
 
@@ -148,7 +214,5 @@ public class GoogleEventPatcher {
 				.setDateTime(endDt)
 				.setTimeZone(zone.getId()));
 		}
-
-		return true;
 	}
 }
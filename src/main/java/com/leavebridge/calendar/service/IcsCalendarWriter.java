@@ -0,0 +1,131 @@
+package com.leavebridge.calendar.service;
+
+import static com.leavebridge.calendar.service.GoogleCalendarAPIService.*;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import com.leavebridge.calendar.dto.IcsEventRow;
+
+/**
+ * RFC 5545 iCalendar 를 한 일정씩 바로 스트림에 쓰는 작성기
+ * - 줄 끝 CRLF, 75 옥텟 초과 줄은 접기(folding), 텍스트 값 이스케이프
+ */
+class IcsCalendarWriter implements Closeable {
+
+	private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+	private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+	private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+	private static final ZoneId ZONE = ZoneId.of(DEFAULT_TIME_ZONE);
+	private static final int MAX_LINE_OCTETS = 75;
+
+	private final Writer writer;
+
+	IcsCalendarWriter(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	void begin(String calendarName) throws IOException {
+		line("BEGIN:VCALENDAR");
+		line("VERSION:2.0");
+		line("PRODID:-//LeaveBridge//Leave Calendar//KO");
+		line("CALSCALE:GREGORIAN");
+		line("METHOD:PUBLISH");
+		line("X-WR-CALNAME:" + escape(calendarName));
+		line("X-WR-TIMEZONE:" + DEFAULT_TIME_ZONE);
+		// 한국 표준시는 서머타임이 없어 STANDARD 하나로 충분
+		line("BEGIN:VTIMEZONE");
+		line("TZID:" + DEFAULT_TIME_ZONE);
+		line("BEGIN:STANDARD");
+		line("DTSTART:19700101T000000");
+		line("TZOFFSETFROM:+0900");
+		line("TZOFFSETTO:+0900");
+		line("TZNAME:KST");
+		line("END:STANDARD");
+		line("END:VTIMEZONE");
+	}
+
+	void event(IcsEventRow row) throws IOException {
+		line("BEGIN:VEVENT");
+		line("UID:" + row.id() + "@leavebridge");
+		line("DTSTAMP:" + utc(row.updatedDate() != null ? row.updatedDate() : row.createdDate()));
+
+		boolean allDay = Boolean.TRUE.equals(row.isAllDay()) || row.startTime() == null || row.endTime() == null;
+		if (allDay) {
+			// 하루 종일 일정은 종료일 exclusive
+			line("DTSTART;VALUE=DATE:" + DATE.format(row.startDate()));
+			line("DTEND;VALUE=DATE:" + DATE.format(row.endDate().plusDays(1)));
+		} else {
+			line("DTSTART;TZID=" + DEFAULT_TIME_ZONE + ":" + LOCAL_DATE_TIME.format(row.startDate().atTime(row.startTime())));
+			line("DTEND;TZID=" + DEFAULT_TIME_ZONE + ":" + LOCAL_DATE_TIME.format(row.endDate().atTime(row.endTime())));
+		}
+		line("SUMMARY:" + escape(row.title() != null ? row.title() : ""));
+		if (row.leaveType() != null) {
+			line("CATEGORIES:" + escape(row.leaveType().getType()));
+		}
+		// 휴일은 바쁨으로 표시하지 않음
+		line("TRANSP:" + (Boolean.TRUE.equals(row.isHoliday()) ? "TRANSPARENT" : "OPAQUE"));
+		line("END:VEVENT");
+	}
+
+	void end() throws IOException {
+		line("END:VCALENDAR");
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private String utc(LocalDateTime localDateTime) {
+		LocalDateTime value = localDateTime != null ? localDateTime : LocalDateTime.of(1970, 1, 1, 0, 0);
+		return UTC_DATE_TIME.format(value.atZone(ZONE).withZoneSameInstant(ZoneOffset.UTC));
+	}
+
+	/**
+	 * 한 줄 쓰기, 75 옥텟 넘으면 CRLF + 공백으로 접음 (멀티바이트 문자는 쪼개지 않음)
+	 */
+	private void line(String content) throws IOException {
+		int octets = 0;
+		for (int i = 0; i < content.length(); ) {
+			int codePoint = content.codePointAt(i);
+			int size = utf8Length(codePoint);
+			if (octets + size > MAX_LINE_OCTETS) {
+				writer.write("\r\n ");
+				octets = 1;
+			}
+			writer.write(Character.toChars(codePoint));
+			octets += size;
+			i += Character.charCount(codePoint);
+		}
+		writer.write("\r\n");
+	}
+
+	private static int utf8Length(int codePoint) {
+		if (codePoint < 0x80) {
+			return 1;
+		}
+		if (codePoint < 0x800) {
+			return 2;
+		}
+		return codePoint < 0x10000 ? 3 : 4;
+	}
+
+	private static String escape(String text) {
+		return text.replace("\\", "\\\\")
+			.replace(";", "\\;")
+			.replace(",", "\\,")
+			.replace("\r\n", "\\n")
+			.replace("\n", "\\n");
+	}
+}
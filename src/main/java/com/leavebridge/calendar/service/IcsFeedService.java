@@ -0,0 +1,140 @@
+package com.leavebridge.calendar.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.leavebridge.calendar.dto.CalendarVersion;
+import com.leavebridge.calendar.dto.IcsEventRow;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+import com.leavebridge.calendar.repository.LeaveQueryRepository;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팀 / 개인 iCalendar 구독 피드
+ * - 피드별로 만든 바이트를 일정 데이터 버전(CalendarVersion)과 함께 캐싱, 버전이 같으면 그대로 재사용
+ * - 생성 시 DB 커서에서 한 건씩 읽어 바로 바이트로 씀 (큰 문자열을 만들지 않음)
+ * - ETag 는 바이트 해시라 노드가 달라도 같은 내용이면 같은 값
+ */
+@Service
+@Slf4j
+public class IcsFeedService {
+
+	public record IcsFeed(byte[] body, String etag, LocalDateTime lastModified) {
+	}
+
+	private record CachedFeed(CalendarVersion version, IcsFeed feed) {
+	}
+
+	private static final String TEAM_FEED_KEY = "team";
+
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final LeaveQueryRepository leaveQueryRepository;
+	private final MemberRepository memberRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final int yearsBack;
+	private final int fetchSize;
+
+	private final ConcurrentHashMap<String, CachedFeed> cache = new ConcurrentHashMap<>();
+	private final ReentrantLock renderLock = new ReentrantLock();
+
+	public IcsFeedService(LeaveAndHolidayRepository leaveAndHolidayRepository,
+		LeaveQueryRepository leaveQueryRepository, MemberRepository memberRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${ics.feed.years-back:3}") int yearsBack,
+		@Value("${ics.feed.fetch-size:500}") int fetchSize) {
+		this.leaveAndHolidayRepository = leaveAndHolidayRepository;
+		this.leaveQueryRepository = leaveQueryRepository;
+		this.memberRepository = memberRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.yearsBack = yearsBack;
+		this.fetchSize = fetchSize;
+	}
+
+	public IcsFeed teamFeed() {
+		return feed(TEAM_FEED_KEY, null, "LeaveBridge 팀 일정");
+	}
+
+	public IcsFeed memberFeed(String token) {
+		Member member = memberRepository.findByIcsToken(token)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 구독 주소입니다."));
+		return feed("member:" + member.getId(), member.getId(), member.getName() + " 일정");
+	}
+
+	private IcsFeed feed(String key, Long memberId, String calendarName) {
+		CalendarVersion version = leaveAndHolidayRepository.findCalendarVersion();
+		CachedFeed cached = cache.get(key);
+		if (cached != null && cached.version().equals(version)) {
+			return cached.feed();
+		}
+
+		// 동시에 여러 구독 클라이언트가 몰려도 한 번만 생성
+		renderLock.lock();
+		try {
+			cached = cache.get(key);
+			if (cached != null && cached.version().equals(version)) {
+				return cached.feed();
+			}
+			IcsFeed feed = render(memberId, calendarName, version, cached);
+			cache.put(key, new CachedFeed(version, feed));
+			return feed;
+		} finally {
+			renderLock.unlock();
+		}
+	}
+
+	private IcsFeed render(Long memberId, String calendarName, CalendarVersion version, CachedFeed previous) {
+		long begin = System.nanoTime();
+		LocalDate from = LocalDate.now().minusYears(yearsBack).withDayOfYear(1);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+
+		readOnlyTransaction.executeWithoutResult(status -> {
+			try (Stream<IcsEventRow> rows = leaveQueryRepository.streamIcsEvents(from, memberId, fetchSize);
+				 IcsCalendarWriter writer = new IcsCalendarWriter(out)) {
+				writer.begin(calendarName);
+				for (Iterator<IcsEventRow> it = rows.iterator(); it.hasNext(); ) {
+					writer.event(it.next());
+				}
+				writer.end();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		byte[] body = out.toByteArray();
+		String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+		if (previous != null && previous.feed().etag().equals(etag)) {
+			// 다른 피드 쪽 변경이라 내용이 같으면 이전 Last-Modified 유지
+			return previous.feed();
+		}
+
+		// 삭제는 등록/수정 시각에 안 잡히므로 이전보다 앞서면 생성 시각 사용
+		LocalDateTime lastModified = version.lastModified();
+		if (lastModified == null
+			|| previous != null && !lastModified.isAfter(previous.feed().lastModified())) {
+			lastModified = LocalDateTime.now();
+		}
+
+		log.info("IcsFeedService :: {} 피드 생성 {} bytes, {}ms", calendarName, body.length,
+			(System.nanoTime() - begin) / 1_000_000);
+		return new IcsFeed(body, etag, lastModified);
+	}
+}
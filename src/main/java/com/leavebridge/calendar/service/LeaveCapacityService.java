@@ -0,0 +1,226 @@
+package com.leavebridge.calendar.service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.leavebridge.calendar.dto.LeaveSpanRow;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.CapacityPool;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+import com.leavebridge.calendar.repository.LeaveDayCapacityRepository;
+import com.leavebridge.calendar.repository.LeaveQueryRepository;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하루 부재 인원 한도 ("같은 날 3명 이상 부재 불가" 등)
+ * - 날짜 x 풀 카운터에 "그 날 부재 일정이 하나라도 있는 회원 수" 를 유지 (같은 회원의 반차 두 건은 1명)
+ * - 일정 하나가 바뀔 때 그 회원의 나머지 부재 일정과 비교해 새로 부재가 된 날은 +1, 부재가 풀린 날은 -1
+ * - 카운터는 휴일과 무관하게 달력 날짜 기준이라 휴일 등록/삭제에 따른 연차 재계산으로는 바뀌지 않고,
+ *   휴일에 완전히 포함되어 삭제되는 연차만 -1 된다 (한도 검사만 근무일에 한해 적용)
+ * - 회원 행을 잠근 뒤 비교하므로 같은 회원의 변경은 한 건씩 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LeaveCapacityService {
+
+	private final LeaveAndHolidayRepository leaveAndHolidayRepository;
+	private final LeaveDayCapacityRepository leaveDayCapacityRepository;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final MemberRepository memberRepository;
+	private final LeaveQueryRepository leaveQueryRepository;
+
+	@Value("${leave.rebuild.page-size:500}")
+	private int pageSize;
+
+	@Value("${leave.capacity.total-limit:0}")
+	private int totalLimit;
+
+	@Value("${leave.capacity.regular-limit:0}")
+	private int regularLimit;
+
+	@Value("${leave.capacity.dispatched-limit:0}")
+	private int dispatchedLimit;
+
+	/**
+	 * 부재 일정 등록 - 한도를 넘는 날이 있으면 409 (트랜잭션 롤백으로 앞서 올린 카운터도 원복)
+	 */
+	@Transactional
+	public void onCreated(LeaveAndHoliday leave) {
+		if (isCounted(leave.getLeaveType(), leave.getIsHoliday())) {
+			reconcile(leave.getMember(), leave.getId(), null, null, leave.getStartDate(), leave.getEndDate(), true);
+		}
+	}
+
+	/**
+	 * 부재 일정 기간/종류 수정 - 늘어난 날만 한도 검사
+	 */
+	@Transactional
+	public void onUpdated(LeaveAndHoliday leave, LeaveType previousType, LocalDate previousStartDate,
+		LocalDate previousEndDate) {
+		boolean wasCounted = isCounted(previousType, leave.getIsHoliday());
+		boolean nowCounted = isCounted(leave.getLeaveType(), leave.getIsHoliday());
+		if (wasCounted || nowCounted) {
+			reconcile(leave.getMember(), leave.getId(),
+				wasCounted ? previousStartDate : null, wasCounted ? previousEndDate : null,
+				nowCounted ? leave.getStartDate() : null, nowCounted ? leave.getEndDate() : null, true);
+		}
+	}
+
+	/**
+	 * 부재 일정 삭제 (직접 삭제, 합치기, 휴일에 완전히 포함되어 삭제)
+	 */
+	@Transactional
+	public void onDeleted(LeaveAndHoliday leave) {
+		if (isCounted(leave.getLeaveType(), leave.getIsHoliday())) {
+			reconcile(leave.getMember(), leave.getId(), leave.getStartDate(), leave.getEndDate(), null, null, false);
+		}
+	}
+
+	/**
+	 * [from, to] 카운터를 일정 테이블 기준으로 다시 집계 (일괄 등록 후, 한도 도입 시 과거분 채우기)
+	 * - 일정은 id 순 페이지 단위 컬럼 프로젝션으로 읽어, 메모리에는 한 페이지와 (날짜 x 풀) 별 회원 id 만 유지
+	 */
+	@Transactional
+	public void rebuild(LocalDate from, LocalDate to) {
+		Set<Long> germanMemberIds = memberRepository.findAll().stream()
+			.filter(Member::isGermany)
+			.map(Member::getId)
+			.collect(Collectors.toSet());
+
+		Map<LocalDate, Map<CapacityPool, Set<Long>>> members = new HashMap<>();
+		long afterId = 0;
+		while (true) {
+			List<LeaveSpanRow> page = leaveQueryRepository.findAbsenceSpans(from, to, afterId, pageSize);
+			if (page.isEmpty()) {
+				break;
+			}
+			for (LeaveSpanRow leave : page) {
+				List<CapacityPool> pools = CapacityPool.of(germanMemberIds.contains(leave.memberId()));
+				LocalDate start = leave.startDate().isBefore(from) ? from : leave.startDate();
+				LocalDate end = leave.endDate().isAfter(to) ? to : leave.endDate();
+				for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+					for (CapacityPool pool : pools) {
+						members.computeIfAbsent(day, d -> new EnumMap<>(CapacityPool.class))
+							.computeIfAbsent(pool, p -> new HashSet<>())
+							.add(leave.memberId());
+					}
+				}
+			}
+			afterId = page.getLast().leaveId();
+		}
+
+		Map<LocalDate, Map<CapacityPool, Integer>> counts = new HashMap<>();
+		members.forEach((day, byPool) -> {
+			Map<CapacityPool, Integer> countByPool = new EnumMap<>(CapacityPool.class);
+			byPool.forEach((pool, ids) -> countByPool.put(pool, ids.size()));
+			counts.put(day, countByPool);
+		});
+		leaveDayCapacityRepository.replaceRange(from, to, counts);
+		log.info("부재 인원 카운터 재집계 {} ~ {}, {}일", from, to, counts.size());
+	}
+
+	private void reconcile(Member owner, Long leaveId, LocalDate beforeStart, LocalDate beforeEnd,
+		LocalDate afterStart, LocalDate afterEnd, boolean enforce) {
+		LocalDate from = min(beforeStart, afterStart);
+		LocalDate to = max(beforeEnd, afterEnd);
+
+		// 이 일정을 뺀 같은 회원의 부재 일정이 덮는 날 (변경 전후 공통)
+		memberRepository.findByIdForUpdate(owner.getId());
+		Set<LocalDate> others = new HashSet<>();
+		for (LeaveAndHoliday other : leaveAndHolidayRepository.findAllAbsencesOfMemberForUpdate(owner.getId(), from,
+			to, LeaveType.absenceTypes())) {
+			if (!other.getId().equals(leaveId)) {
+				addDays(others, other.getStartDate(), other.getEndDate(), from, to);
+			}
+		}
+
+		Set<LocalDate> before = new HashSet<>(others);
+		addDays(before, beforeStart, beforeEnd, from, to);
+		Set<LocalDate> after = new HashSet<>(others);
+		addDays(after, afterStart, afterEnd, from, to);
+
+		// 날짜순으로 한 번에 반영 - 모든 요청이 같은 순서로 행을 잠가 서로 기다리는 순환이 생기지 않음
+		TreeSet<LocalDate> changed = new TreeSet<>();
+		after.stream().filter(day -> !before.contains(day)).forEach(changed::add);
+		before.stream().filter(day -> !after.contains(day)).forEach(changed::add);
+		if (changed.isEmpty()) {
+			return;
+		}
+
+		boolean isGermany = owner.isGermany();
+		List<CapacityPool> pools = CapacityPool.of(isGermany);
+		List<LocalDate> added = changed.stream().filter(after::contains).toList();
+		leaveDayCapacityRepository.ensureRows(added, pools);
+
+		WorkingMinutesLedger.Snapshot snapshot = enforce ? workingMinutesLedger.snapshot() : null;
+		for (LocalDate day : changed) {
+			for (CapacityPool pool : pools) {
+				if (!after.contains(day)) {
+					leaveDayCapacityRepository.decrement(day, pool);
+					continue;
+				}
+				int limit = limitOf(pool);
+				boolean checked = enforce && limit > 0 && workingMinutesLedger.isWorkingDay(snapshot, day, isGermany);
+				if (!leaveDayCapacityRepository.tryIncrement(day, pool, checked ? limit : Integer.MAX_VALUE)) {
+					log.info("부재 인원 한도 초과 loginId = {}, day = {}, pool = {}, limit = {}", owner.getLoginId(), day,
+						pool, limit);
+					throw new ResponseStatusException(HttpStatus.CONFLICT,
+						"%s 은(는) %s 부재 인원이 한도(%d명)에 도달해 등록할 수 없습니다.".formatted(day,
+							pool.getDescription(), limit));
+				}
+			}
+		}
+	}
+
+	private int limitOf(CapacityPool pool) {
+		return switch (pool) {
+			case TOTAL -> totalLimit;
+			case REGULAR -> regularLimit;
+			case DISPATCHED -> dispatchedLimit;
+		};
+	}
+
+	private static boolean isCounted(LeaveType leaveType, Boolean isHoliday) {
+		return leaveType.isAbsence() && !Boolean.TRUE.equals(isHoliday);
+	}
+
+	private static void addDays(Set<LocalDate> days, LocalDate start, LocalDate end, LocalDate from, LocalDate to) {
+		if (start == null) {
+			return;
+		}
+		LocalDate day = start.isBefore(from) ? from : start;
+		LocalDate last = end.isAfter(to) ? to : end;
+		for (; !day.isAfter(last); day = day.plusDays(1)) {
+			days.add(day);
+		}
+	}
+
+	private static LocalDate min(LocalDate a, LocalDate b) {
+		return a == null ? b : b == null || a.isBefore(b) ? a : b;
+	}
+
+	private static LocalDate max(LocalDate a, LocalDate b) {
+		return a == null ? b : b == null || a.isAfter(b) ? a : b;
+	}
+}
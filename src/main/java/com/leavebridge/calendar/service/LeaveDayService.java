@@ -0,0 +1,158 @@
+package com.leavebridge.calendar.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leavebridge.calendar.dto.DailyAbsence;
+import com.leavebridge.calendar.dto.LeaveSpanRow;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.entity.LeaveDay;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.repository.LeaveDayRepository;
+import com.leavebridge.calendar.repository.LeaveQueryRepository;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부재 일정의 근무일 단위 파생 행 (LEAVE_DAY) 유지와 날짜 조회
+ * - 일정 등록/수정은 그 일정의 행만 다시 만들고, 삭제는 지움
+ * - 휴일 등록/삭제는 근무일 자체가 바뀌므로 휴일 기간과 겹치는 부재 일정을 모두 다시 펼침
+ * - 일정과 같은 트랜잭션에서 갱신되어 커밋된 일정과 항상 일치 (일괄 등록은 배치마다 같은 트랜잭션에서 추가)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LeaveDayService {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO LEAVE_DAY (LEAVE_ID, MEMBER_ID, DAY, MINUTES, LEAVE_TYPE) VALUES (?, ?, ?, ?, ?)";
+
+	private final LeaveDayRepository leaveDayRepository;
+	private final LeaveQueryRepository leaveQueryRepository;
+	private final MemberRepository memberRepository;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${leave.rebuild.page-size:500}")
+	private int pageSize;
+
+	/**
+	 * 일정 등록/수정 후 그 일정의 행을 다시 만듦 (부재 일정이 아니면 지우기만)
+	 */
+	@Transactional
+	public void sync(LeaveAndHoliday leave) {
+		leaveDayRepository.deleteAllByLeaveId(leave.getId());
+		if (leave.getLeaveType().isAbsence() && !Boolean.TRUE.equals(leave.getIsHoliday())) {
+			insertRows(List.of(LeaveSpanRow.from(leave)),
+				leave.getMember().isGermany() ? Set.of(leave.getMember().getId()) : Set.of(),
+				workingMinutesLedger.snapshot());
+		}
+	}
+
+	@Transactional
+	public void remove(LeaveAndHoliday leave) {
+		leaveDayRepository.deleteAllByLeaveId(leave.getId());
+	}
+
+	/**
+	 * [from, to] 와 겹치는 부재 일정을 모두 다시 펼침 (휴일 변경, 관리자 재집계)
+	 * - 기간 안에 남은 행 중 일정이 없어진 것도 함께 정리됨
+	 * - 일정은 id 순 페이지 단위 컬럼 프로젝션으로 읽고 행은 JDBC 배치로 넣어, 기간이 길어도 메모리에는 한 페이지만 유지
+	 */
+	@Transactional
+	public int rebuild(LocalDate from, LocalDate to) {
+		Set<Long> germanMemberIds = germanMemberIds();
+		WorkingMinutesLedger.Snapshot snapshot = workingMinutesLedger.snapshot();
+		leaveDayRepository.deleteAllByDayBetween(from, to);
+
+		int leaves = 0;
+		int rows = 0;
+		long afterId = 0;
+		while (true) {
+			List<LeaveSpanRow> page = leaveQueryRepository.findAbsenceSpans(from, to, afterId, pageSize);
+			if (page.isEmpty()) {
+				break;
+			}
+			// 기간 밖으로 이어지는 날의 행까지 일정 단위로 다시 만듦
+			leaveDayRepository.deleteAllByLeaveIdIn(page.stream().map(LeaveSpanRow::leaveId).toList());
+			rows += insertRows(page, germanMemberIds, snapshot);
+			leaves += page.size();
+			afterId = page.getLast().leaveId();
+		}
+
+		log.info("LeaveDayService :: 근무일 단위 부재 행 재생성 {} ~ {}, 일정 {}건, {}행", from, to, leaves, rows);
+		return rows;
+	}
+
+	/**
+	 * 부재 일정들의 근무일 행을 JDBC 배치로 추가 (현재 트랜잭션 안에서, 기존 행은 호출한 쪽에서 지움)
+	 * - 일괄 등록은 배치마다 방금 넣은 일정으로 바로 호출
+	 * @return 추가한 행 수
+	 */
+	@Transactional
+	public int insertRows(List<LeaveSpanRow> leaves, Set<Long> germanMemberIds, WorkingMinutesLedger.Snapshot snapshot) {
+		List<Object[]> rows = new ArrayList<>();
+		for (LeaveSpanRow leave : leaves) {
+			if (!leave.leaveType().isAbsence()) {
+				continue;
+			}
+			int[] minutes = workingMinutesLedger.dailyMinutes(snapshot, leave.startDate(), leave.startTime(),
+				leave.endDate(), leave.endTime(), germanMemberIds.contains(leave.memberId()));
+			for (int i = 0; i < minutes.length; i++) {
+				// 주말, 하루종일 휴일, 점심시간만 걸친 날은 행을 만들지 않음
+				if (minutes[i] > 0) {
+					rows.add(new Object[] {leave.leaveId(), leave.memberId(),
+						Date.valueOf(leave.startDate().plusDays(i)), minutes[i], leave.leaveType().name()});
+				}
+			}
+		}
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+		}
+		return rows.size();
+	}
+
+	/**
+	 * 독일 근무 회원 id (근무일 달력 선택용, 회원 수만큼만)
+	 */
+	private Set<Long> germanMemberIds() {
+		return memberRepository.findAll().stream()
+			.filter(Member::isGermany)
+			.map(Member::getId)
+			.collect(Collectors.toSet());
+	}
+
+	/**
+	 * 그 날 자리를 비운 회원 (같은 회원의 여러 일정은 분을 합쳐 한 명으로)
+	 */
+	public List<DailyAbsence> listAbsences(LocalDate day) {
+		Map<Long, List<LeaveDay>> byMember = new LinkedHashMap<>();
+		for (LeaveDay row : leaveDayRepository.findAllByDayWithMember(day)) {
+			byMember.computeIfAbsent(row.getMember().getId(), id -> new ArrayList<>()).add(row);
+		}
+
+		return byMember.values().stream()
+			.map(rows -> {
+				Member member = rows.getFirst().getMember();
+				return new DailyAbsence(member.getId(), member.getName(), member.isGermany(),
+					rows.stream().mapToInt(LeaveDay::getMinutes).sum(),
+					rows.stream().map(LeaveDay::getLeaveType).distinct().toList());
+			})
+			.toList();
+	}
+}
@@ -0,0 +1,94 @@
+package com.leavebridge.calendar.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.leavebridge.calendar.dto.LeaveExportRow;
+import com.leavebridge.calendar.enums.ExportFormat;
+import com.leavebridge.calendar.repository.LeaveQueryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연말 급여 정산용 연차 내보내기 (관리자)
+ * - DB 커서에서 한 행씩 읽어 바로 응답 스트림에 씀, 행 수와 무관하게 메모리 일정
+ * - 응답 스레드(StreamingResponseBody)에서 호출되므로 읽기 전용 트랜잭션을 직접 열어 사용
+ */
+@Service
+@Slf4j
+public class LeaveExportService {
+
+	private static final String[] CSV_HEADER = {"memberId", "memberName", "leaveType", "title", "startDate",
+		"startTime", "endDate", "endTime", "usedLeaveDays", "comment"};
+
+	private final LeaveQueryRepository leaveQueryRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ObjectWriter ndjsonWriter;
+	private final int fetchSize;
+
+	public LeaveExportService(LeaveQueryRepository leaveQueryRepository, PlatformTransactionManager transactionManager,
+		ObjectMapper objectMapper, @Value("${leave.export.fetch-size:500}") int fetchSize) {
+		this.leaveQueryRepository = leaveQueryRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.ndjsonWriter = objectMapper.writerFor(LeaveExportRow.class);
+		this.fetchSize = fetchSize;
+	}
+
+	public void export(int year, ExportFormat format, OutputStream outputStream) {
+		long begin = System.nanoTime();
+		Long written = readOnlyTransaction.execute(status -> {
+			try (Stream<LeaveExportRow> rows = leaveQueryRepository.streamMemberLeavesOfYear(year, fetchSize);
+				 Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+				return switch (format) {
+					case CSV -> writeCsv(rows, writer);
+					case NDJSON -> writeNdjson(rows, writer);
+				};
+			} catch (IOException e) {
+				// 클라이언트가 다운로드를 끊은 경우 등, 트랜잭션과 커서를 정리하도록 런타임 예외로 전환
+				throw new UncheckedIOException(e);
+			}
+		});
+		log.info("LeaveExportService :: year = {}, format = {}, rows = {}, {}ms", year, format, written,
+			(System.nanoTime() - begin) / 1_000_000);
+	}
+
+	private long writeCsv(Stream<LeaveExportRow> rows, Writer writer) throws IOException {
+		writer.write('\uFEFF');  // 엑셀에서 한글이 깨지지 않도록 BOM
+		CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(CSV_HEADER).build());
+		long count = 0;
+		for (LeaveExportRow row : (Iterable<LeaveExportRow>)rows::iterator) {
+			printer.printRecord(row.memberId(), row.memberName(), row.leaveType(), row.title(), row.startDate(),
+				row.startTime(), row.endDate(), row.endTime(), row.usedLeaveDays(), row.comment());
+			count++;
+		}
+		printer.flush();
+		return count;
+	}
+
+	private long writeNdjson(Stream<LeaveExportRow> rows, Writer writer) throws IOException {
+		long count = 0;
+		for (LeaveExportRow row : (Iterable<LeaveExportRow>)rows::iterator) {
+			writer.write(ndjsonWriter.writeValueAsString(row));
+			writer.write('\n');
+			count++;
+		}
+		writer.flush();
+		return count;
+	}
+}
@@ -0,0 +1,365 @@
+package com.leavebridge.calendar.service;
+
+import static com.leavebridge.util.TimeRuleUtils.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.leavebridge.calendar.dto.CreateLeaveRequestDto;
+import com.leavebridge.calendar.dto.LeaveImportResponseDto;
+import com.leavebridge.calendar.dto.LeaveImportResponseDto.RowError;
+import com.leavebridge.calendar.dto.LeaveSpanRow;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.calendar.ledger.LeaveUsage;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 연차 이력 CSV/TSV 일괄 등록 (관리자)
+ * - 파일을 한 행씩 읽어 CreateLeaveRequestDto → DtoAdjustService 로 일반 등록과 같은 값 보정
+ * - 연차 계산은 시작 시점의 휴일 스냅샷 하나로 처리, 저장은 batch-size 단위 JDBC 배치 (배치마다 커밋)
+ * - 근무일 단위 행(LEAVE_DAY)은 배치마다 같은 트랜잭션에서 추가, 부재 인원 카운터는 끝난 뒤 기간 재집계
+ * - 메모리에는 회원 목록, 현재 배치, 상한 있는 오류 목록만 유지
+ * - 과거 이력이라 Google Calendar 이벤트는 만들지 않음
+ *
+ * 헤더 : loginId, leaveType, startDate (필수) / endDate, startTime, endTime, title, description (선택)
+ * (startTime/endTime 은 외출, 비차감 휴가, 회의만 의미 있음, 없으면 근무시간 전체)
+ */
+@Service
+@Slf4j
+public class LeaveImportService {
+
+	private static final Set<LeaveType> IMPORTABLE_TYPES = EnumSet.of(
+		LeaveType.FULL_DAY_LEAVE, LeaveType.HALF_DAY_MORNING, LeaveType.HALF_DAY_AFTERNOON, LeaveType.OUTING,
+		LeaveType.SUMMER_VACATION, LeaveType.NON_DEDUCTIBLE, LeaveType.MEETING);
+
+	private static final String INSERT_SQL = """
+		INSERT INTO LEAVE_AND_HOLIDAYS
+		    (TITLE, START_DATE, START_TIME, END_DATE, END_TIME, IS_ALL_DAY, MEMBER_ID, LEAVE_TYPE,
+		     DESCRIPTION, CREATED_DATE, IS_HOLIDAY, USED_LEAVE_DAYS, COMMENT)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)
+		""";
+
+	private static final List<String> REQUIRED_COLUMNS = List.of("loginId", "leaveType", "startDate");
+
+	private record ImportRow(long rowNumber, Long memberId, CreateLeaveRequestDto dto, Double usedDays,
+							 String comment) {
+	}
+
+	private final MemberRepository memberRepository;
+	private final DtoAdjustService dtoAdjustService;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final LeaveCapacityService leaveCapacityService;
+	private final LeaveDayService leaveDayService;
+	private final int batchSize;
+	private final int maxReportedErrors;
+
+	public LeaveImportService(MemberRepository memberRepository, DtoAdjustService dtoAdjustService,
+		WorkingMinutesLedger workingMinutesLedger, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+		LeaveCapacityService leaveCapacityService, LeaveDayService leaveDayService,
+		@Value("${leave.import.batch-size:500}") int batchSize,
+		@Value("${leave.import.max-reported-errors:1000}") int maxReportedErrors) {
+		this.memberRepository = memberRepository;
+		this.dtoAdjustService = dtoAdjustService;
+		this.workingMinutesLedger = workingMinutesLedger;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.eventPublisher = eventPublisher;
+		this.leaveCapacityService = leaveCapacityService;
+		this.leaveDayService = leaveDayService;
+		this.batchSize = batchSize;
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	public LeaveImportResponseDto importLeaves(InputStream inputStream, char delimiter) throws IOException {
+		Map<String, Member> membersByLoginId = memberRepository.findAll().stream()
+			.collect(Collectors.toMap(Member::getLoginId, Function.identity()));
+		Set<Long> germanMemberIds = membersByLoginId.values().stream()
+			.filter(Member::isGermany)
+			.map(Member::getId)
+			.collect(Collectors.toSet());
+		WorkingMinutesLedger.Snapshot snapshot = workingMinutesLedger.snapshot();
+
+		CSVFormat format = CSVFormat.DEFAULT.builder()
+			.setDelimiter(delimiter)
+			.setHeader()
+			.setSkipHeaderRecord(true)
+			.setIgnoreEmptyLines(true)
+			.setTrim(true)
+			.build();
+
+		long totalRows = 0;
+		long importedRows = 0;
+		long failedRows = 0;
+		List<RowError> errors = new ArrayList<>();
+		List<ImportRow> batch = new ArrayList<>(batchSize);
+		LocalDate minDate = null;
+		LocalDate maxDate = null;
+
+		try (CSVParser parser = format.parse(skipBom(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+			for (String required : REQUIRED_COLUMNS) {
+				if (!parser.getHeaderMap().containsKey(required)) {
+					throw new IllegalArgumentException("헤더에 " + required + " 컬럼이 없습니다.");
+				}
+			}
+			for (CSVRecord record : parser) {
+				totalRows++;
+				long rowNumber = totalRows + 1;  // 헤더가 1행
+				try {
+					ImportRow row = toImportRow(record, rowNumber, membersByLoginId, snapshot);
+					batch.add(row);
+					minDate = minDate == null || row.dto().startDate().isBefore(minDate) ? row.dto().startDate() : minDate;
+					maxDate = maxDate == null || row.dto().endDate().isAfter(maxDate) ? row.dto().endDate() : maxDate;
+				} catch (IllegalArgumentException | DateTimeParseException e) {
+					failedRows++;
+					addError(errors, rowNumber, e.getMessage());
+				}
+
+				if (batch.size() >= batchSize) {
+					long saved = flush(batch, errors, germanMemberIds, snapshot);
+					importedRows += saved;
+					failedRows += batch.size() - saved;
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			long saved = flush(batch, errors, germanMemberIds, snapshot);
+			importedRows += saved;
+			failedRows += batch.size() - saved;
+			batch.clear();
+		}
+
+		log.info("LeaveImportService :: 일괄 등록 완료 total = {}, imported = {}, failed = {}", totalRows, importedRows,
+			failedRows);
+		if (importedRows > 0) {
+			// JDBC 배치로 넣은 행은 부재 인원 카운터를 거치지 않으므로 해당 기간 재집계 (날짜별 행은 배치마다 추가됨)
+			leaveCapacityService.rebuild(minDate, maxDate);
+			eventPublisher.publishEvent(CalendarChangeEvent.synced(minDate, maxDate, false));
+		}
+
+		return LeaveImportResponseDto.builder()
+			.totalRows(totalRows)
+			.importedRows(importedRows)
+			.failedRows(failedRows)
+			.errors(errors)
+			.errorsTruncated(failedRows > errors.size())
+			.build();
+	}
+
+	/**
+	 * 한 행 → 보정된 Dto + 연차 사용량
+	 * - 검증 규칙은 일반 등록(CalendarService.createTimedEvent)과 동일
+	 */
+	private ImportRow toImportRow(CSVRecord record, long rowNumber, Map<String, Member> membersByLoginId,
+		WorkingMinutesLedger.Snapshot snapshot) {
+		String loginId = column(record, "loginId");
+		Member member = membersByLoginId.get(loginId);
+		if (member == null) {
+			throw new IllegalArgumentException("존재하지 않는 회원입니다: " + loginId);
+		}
+		boolean isGermany = member.isGermany();
+
+		LeaveType leaveType;
+		try {
+			leaveType = LeaveType.valueOf(column(record, "leaveType"));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("알 수 없는 연차 종류입니다: " + column(record, "leaveType"));
+		}
+		if (!IMPORTABLE_TYPES.contains(leaveType)) {
+			throw new IllegalArgumentException(leaveType.getType() + "은 일괄 등록 대상이 아닙니다.");
+		}
+
+		LocalDate startDate = LocalDate.parse(column(record, "startDate"));
+		LocalDate endDate = StringUtils.hasText(column(record, "endDate"))
+			? LocalDate.parse(column(record, "endDate"))
+			: startDate;
+		LocalTime startTime = parseTime(column(record, "startTime"));
+		LocalTime endTime = parseTime(column(record, "endTime"));
+		if ((startTime == null) != (endTime == null)) {
+			throw new IllegalArgumentException("시작 시간과 종료 시간은 둘 다 입력하거나 둘 다 비워야 합니다.");
+		}
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+		}
+		if (startTime != null && !LocalDateTime.of(startDate, startTime).isBefore(LocalDateTime.of(endDate, endTime))) {
+			throw new IllegalArgumentException("종료 시각은 시작 시각보다 늦어야 합니다.");
+		}
+		boolean isAllDay = startTime == null && endTime == null;
+		if (isAllDay && leaveType != LeaveType.OUTING) {
+			// 시간 없으면 근무시간 전체 (연차류는 DtoAdjustService 에서 다시 맞춤)
+			startTime = getAdjustStartTime(isGermany);
+			endTime = getAdjustEndTime(isGermany);
+		}
+		String title = StringUtils.hasText(column(record, "title"))
+			? column(record, "title")
+			: member.getName() + " " + leaveType.getType();
+
+		CreateLeaveRequestDto dto = dtoAdjustService.processLeaveRequestDataForCreate(
+			new CreateLeaveRequestDto(title, isAllDay, leaveType, startDate, endDate, startTime, endTime,
+				column(record, "description"), false),
+			isGermany);
+		// 보정 후에도 시간이 비어 있으면 배치 저장(Time.valueOf)에서 배치 전체가 실패하므로 이 행만 거부
+		if (dto.startTime() == null || dto.endTime() == null) {
+			throw new IllegalArgumentException("시작 시간과 종료 시간을 입력해야 합니다.");
+		}
+
+		if (!leaveType.isConsumesLeave()) {
+			return new ImportRow(rowNumber, member.getId(), dto, null, null);
+		}
+
+		if (!workingMinutesLedger.isWorkingDay(snapshot, dto.startDate(), isGermany)) {
+			throw new IllegalArgumentException("연차 시작일로 주말 또는 휴일을 선택할 수 없습니다.");
+		}
+		LeaveUsage usage = workingMinutesLedger.calculate(snapshot, dto.startDate(), dto.startTime(), dto.endDate(),
+			dto.endTime(), isGermany);
+		if (usage.minutes() == 0) {
+			throw new IllegalArgumentException("해당 기간에 소진되는 연차가 없어 등록할 수 없습니다.");
+		}
+		return new ImportRow(rowNumber, member.getId(), dto, usage.usedDays(), usage.comment());
+	}
+
+	/**
+	 * 배치 저장, 실패 시 배치 전체를 오류로 기록하고 다음 배치 계속 진행
+	 * - 같은 트랜잭션에서 생성된 일정 id 로 근무일 단위 행(LEAVE_DAY)도 JDBC 배치로 추가
+	 * @return 저장된 행 수
+	 */
+	private long flush(List<ImportRow> batch, List<RowError> errors, Set<Long> germanMemberIds,
+		WorkingMinutesLedger.Snapshot snapshot) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				KeyHolder keyHolder = new GeneratedKeyHolder();
+				jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"ID"}),
+					new BatchPreparedStatementSetter() {
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							setInsertValues(ps, batch.get(i), now);
+						}
+
+						@Override
+						public int getBatchSize() {
+							return batch.size();
+						}
+					}, keyHolder);
+				leaveDayService.insertRows(spansOf(batch, keyHolder.getKeyList()), germanMemberIds, snapshot);
+			});
+			return batch.size();
+		} catch (RuntimeException e) {
+			log.error("LeaveImportService :: 배치 저장 실패 rows {} ~ {}", batch.getFirst().rowNumber(),
+				batch.getLast().rowNumber(), e);
+			for (ImportRow row : batch) {
+				addError(errors, row.rowNumber(), "저장 실패 (같은 배치 전체 롤백): "
+					+ (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+			}
+			return 0;
+		}
+	}
+
+	private void setInsertValues(PreparedStatement ps, ImportRow row, Timestamp now) throws SQLException {
+		CreateLeaveRequestDto dto = row.dto();
+		ps.setString(1, dto.title());
+		ps.setDate(2, Date.valueOf(dto.startDate()));
+		ps.setTime(3, Time.valueOf(dto.startTime()));
+		ps.setDate(4, Date.valueOf(dto.endDate()));
+		ps.setTime(5, Time.valueOf(dto.endTime()));
+		ps.setBoolean(6, Boolean.TRUE.equals(dto.isAllDay()));
+		ps.setLong(7, row.memberId());
+		ps.setString(8, dto.leaveType().name());
+		ps.setString(9, dto.description());
+		ps.setTimestamp(10, now);
+		if (row.usedDays() != null) {
+			ps.setDouble(11, row.usedDays());
+		} else {
+			ps.setNull(11, Types.DOUBLE);
+		}
+		ps.setString(12, row.comment());
+	}
+
+	/**
+	 * 배치 행 + 생성된 id (넣은 순서대로 돌려받음)
+	 */
+	private List<LeaveSpanRow> spansOf(List<ImportRow> batch, List<Map<String, Object>> keys) {
+		if (keys.size() != batch.size()) {
+			throw new IllegalStateException("생성된 일정 id 수가 배치 크기와 다릅니다: " + keys.size() + " / " + batch.size());
+		}
+		List<LeaveSpanRow> spans = new ArrayList<>(batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			CreateLeaveRequestDto dto = batch.get(i).dto();
+			long leaveId = ((Number) keys.get(i).values().iterator().next()).longValue();
+			spans.add(new LeaveSpanRow(leaveId, batch.get(i).memberId(), dto.leaveType(), dto.startDate(),
+				dto.startTime(), dto.endDate(), dto.endTime()));
+		}
+		return spans;
+	}
+
+	private void addError(List<RowError> errors, long rowNumber, String message) {
+		if (errors.size() < maxReportedErrors) {
+			errors.add(new RowError(rowNumber, message));
+		}
+	}
+
+	// 필수가 아닌 컬럼은 헤더에 없어도 빈 값으로 취급
+	private String column(CSVRecord record, String name) {
+		return record.isSet(name) ? record.get(name) : "";
+	}
+
+	private LocalTime parseTime(String value) {
+		return StringUtils.hasText(value) ? LocalTime.parse(value) : null;
+	}
+
+	/**
+	 * 엑셀에서 저장한 UTF-8 CSV 의 BOM 제거 (없으면 첫 헤더 이름에 BOM 이 붙음)
+	 */
+	private Reader skipBom(Reader reader) throws IOException {
+		PushbackReader pushbackReader = new PushbackReader(reader, 1);
+		int first = pushbackReader.read();
+		if (first != -1 && first != '\uFEFF') {
+			pushbackReader.unread(first);
+		}
+		return pushbackReader;
+	}
+}
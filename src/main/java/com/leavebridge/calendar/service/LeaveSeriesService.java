@@ -0,0 +1,229 @@
+package com.leavebridge.calendar.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leavebridge.calendar.dto.CreateLeaveSeriesRequestDto;
+import com.leavebridge.calendar.dto.LeaveSeriesDetailResponse;
+import com.leavebridge.calendar.dto.MonthlyEvent;
+import com.leavebridge.calendar.dto.PatchSeriesOccurrenceRequestDto;
+import com.leavebridge.calendar.entity.LeaveSeries;
+import com.leavebridge.calendar.entity.LeaveSeriesException;
+import com.leavebridge.calendar.enums.CalendarChangeType;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.calendar.ledger.WorkingMinutesCalendar;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.recurrence.RecurrenceRule;
+import com.leavebridge.calendar.recurrence.SeriesOccurrence;
+import com.leavebridge.calendar.repository.LeaveSeriesExceptionRepository;
+import com.leavebridge.calendar.repository.LeaveSeriesRepository;
+import com.leavebridge.member.entitiy.Member;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 반복 일정 (회의)
+ * - 시리즈 하나를 마스터 한 행으로 저장, 발생일은 조회 기간만큼만 전개
+ * - 연차를 소진하는 외출은 반복으로 등록할 수 없음 - 내보내기, iCalendar, 하루 한도 카운터, LEAVE_DAY, 중복 검사가
+ *   모두 일정 행(LEAVE_AND_HOLIDAY) 기준이라 시리즈 발생이 빠짐 (끝없는 규칙은 한도 카운터에 미리 올릴 수도 없음)
+ * - 그래서 시리즈는 연차 사용량, 부재 현황 집계에 들어가지 않음
+ * - 주말/하루종일 휴일은 근무 분 달력(휴일 인덱스)으로 건너뜀, 파견직은 기념일을 휴일로 보지 않음
+ * - 발생일 하나만 바꾸거나 취소하면 예외 행으로 저장
+ * - 구글 캘린더에는 등록하지 않음 (발생마다 API 호출이 생기는 것을 피하기 위함)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LeaveSeriesService {
+
+	private static final Set<LeaveType> RECURRING_TYPES = EnumSet.of(LeaveType.MEETING);
+
+	private final LeaveSeriesRepository leaveSeriesRepository;
+	private final LeaveSeriesExceptionRepository leaveSeriesExceptionRepository;
+	private final WorkingMinutesLedger workingMinutesLedger;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 기간 안의 모든 반복 일정 발생 (월별 달력 조회용)
+	 */
+	public List<MonthlyEvent> listOccurrences(LocalDate from, LocalDate to) {
+		List<LeaveSeries> seriesList = leaveSeriesRepository.findAllOverlapping(from, to);
+		return expand(seriesList, from, to).stream()
+			.map(MonthlyEvent::from)
+			.toList();
+	}
+
+	public LeaveSeriesDetailResponse getSeries(Long seriesId, Member member) {
+		LeaveSeries series = findSeries(seriesId);
+		boolean isOwner = member != null && (member.isAdmin() || series.isOwnedBy(member));
+		return LeaveSeriesDetailResponse.of(series, isOwner);
+	}
+
+	@Transactional
+	public Long createSeries(CreateLeaveSeriesRequestDto dto, Member member) {
+		if (!RECURRING_TYPES.contains(dto.leaveType())) {
+			throw new IllegalArgumentException("반복 일정은 회의만 등록할 수 있습니다. 외출은 날짜별로 등록해 주세요.");
+		}
+		RecurrenceRule rule = RecurrenceRule.parse(dto.recurrenceRule());
+
+		LeaveSeries series = leaveSeriesRepository.save(LeaveSeries.of(dto.title(), dto.description(), member,
+			dto.leaveType(), dto.startDate(), dto.startTime(), dto.endTime(), rule));
+		log.info("LeaveSeriesService :: createSeries id = {}, rule = {}, loginId = {}", series.getId(),
+			series.getRecurrenceRule(), member.getLoginId());
+
+		publish(series, CalendarChangeType.CREATED);
+		return series.getId();
+	}
+
+	/**
+	 * 발생일 하나만 시간/제목 변경
+	 */
+	@Transactional
+	public void patchOccurrence(Long seriesId, LocalDate occurrenceDate, PatchSeriesOccurrenceRequestDto dto,
+		Member member) {
+		LeaveSeries series = findSeriesForUpdate(seriesId, member);
+		validateOccurrence(series, occurrenceDate);
+
+		LocalTime startTime = dto.startTime() != null ? dto.startTime() : series.getStartTime();
+		LocalTime endTime = dto.endTime() != null ? dto.endTime() : series.getEndTime();
+		if (!endTime.isAfter(startTime)) {
+			throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야합니다.");
+		}
+
+		LeaveSeriesException exception = leaveSeriesExceptionRepository
+			.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+			.orElseGet(() -> LeaveSeriesException.builder().series(series).occurrenceDate(occurrenceDate).build());
+		exception.override(dto.title(), dto.startTime(), dto.endTime());
+		leaveSeriesExceptionRepository.save(exception);
+
+		publish(occurrenceDate, CalendarChangeType.UPDATED);
+	}
+
+	/**
+	 * 발생일 하나만 취소
+	 */
+	@Transactional
+	public void cancelOccurrence(Long seriesId, LocalDate occurrenceDate, Member member) {
+		LeaveSeries series = findSeriesForUpdate(seriesId, member);
+		validateOccurrence(series, occurrenceDate);
+
+		leaveSeriesExceptionRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+			.ifPresentOrElse(LeaveSeriesException::cancel,
+				() -> leaveSeriesExceptionRepository.save(LeaveSeriesException.cancelled(series, occurrenceDate)));
+
+		publish(occurrenceDate, CalendarChangeType.DELETED);
+	}
+
+	/**
+	 * 시리즈 전체 삭제 (예외 포함)
+	 */
+	@Transactional
+	public void deleteSeries(Long seriesId, Member member) {
+		LeaveSeries series = findSeriesForUpdate(seriesId, member);
+		leaveSeriesExceptionRepository.deleteAllBySeriesId(seriesId);
+		leaveSeriesRepository.delete(series);
+		publish(series, CalendarChangeType.DELETED);
+	}
+
+	private List<SeriesOccurrence> expand(List<LeaveSeries> seriesList, LocalDate from, LocalDate to) {
+		if (seriesList.isEmpty()) {
+			return List.of();
+		}
+		WorkingMinutesLedger.Snapshot snapshot = workingMinutesLedger.snapshot();
+		Map<Boolean, List<LeaveSeries>> byDispatch = seriesList.stream()
+			.collect(Collectors.partitioningBy(series -> series.getMember().isGermany()));
+
+		List<SeriesOccurrence> occurrences = new ArrayList<>();
+		byDispatch.forEach((isGermany, list) -> occurrences.addAll(expand(list, from, to, isGermany, snapshot)));
+		occurrences.sort(Comparator.comparing(SeriesOccurrence::date).thenComparing(SeriesOccurrence::startTime));
+		return occurrences;
+	}
+
+	/**
+	 * 같은 근무 형태(일반/파견) 시리즈들을 기간만큼 전개, 예외는 한 번에 조회
+	 */
+	private List<SeriesOccurrence> expand(List<LeaveSeries> seriesList, LocalDate from, LocalDate to,
+		boolean isGermany, WorkingMinutesLedger.Snapshot snapshot) {
+		if (seriesList.isEmpty()) {
+			return List.of();
+		}
+		WorkingMinutesCalendar calendar = workingMinutesLedger.calendarFor(snapshot, from, to, isGermany);
+
+		Map<Long, Map<LocalDate, LeaveSeriesException>> exceptions = new HashMap<>();
+		leaveSeriesExceptionRepository.findAllBySeriesIdInAndOccurrenceDateBetween(
+				seriesList.stream().map(LeaveSeries::getId).toList(), from, to)
+			.forEach(e -> exceptions.computeIfAbsent(e.getSeries().getId(), id -> new HashMap<>())
+				.put(e.getOccurrenceDate(), e));
+
+		List<SeriesOccurrence> occurrences = new ArrayList<>();
+		for (LeaveSeries series : seriesList) {
+			Map<LocalDate, LeaveSeriesException> seriesExceptions = exceptions.getOrDefault(series.getId(), Map.of());
+			for (LocalDate date : series.rule().occurrences(series.getStartDate(), from, to)) {
+				if (!calendar.isWorkingDay(date)) {
+					continue;
+				}
+				LeaveSeriesException exception = seriesExceptions.get(date);
+				if (exception != null && exception.isCancelled()) {
+					continue;
+				}
+				occurrences.add(toOccurrence(series, date, exception));
+			}
+		}
+		return occurrences;
+	}
+
+	private SeriesOccurrence toOccurrence(LeaveSeries series, LocalDate date, LeaveSeriesException exception) {
+		if (exception == null) {
+			return new SeriesOccurrence(series.getId(), series.getMember().getId(), series.getMember().isGermany(),
+				series.getTitle(), series.getLeaveType(), date, series.getStartTime(), series.getEndTime());
+		}
+		return new SeriesOccurrence(series.getId(), series.getMember().getId(), series.getMember().isGermany(),
+			exception.getTitle() != null ? exception.getTitle() : series.getTitle(),
+			series.getLeaveType(), date,
+			exception.getStartTime() != null ? exception.getStartTime() : series.getStartTime(),
+			exception.getEndTime() != null ? exception.getEndTime() : series.getEndTime());
+	}
+
+	private void validateOccurrence(LeaveSeries series, LocalDate occurrenceDate) {
+		if (!series.rule().occurrences(series.getStartDate(), occurrenceDate, occurrenceDate).contains(occurrenceDate)) {
+			throw new IllegalArgumentException("해당 날짜는 반복 일정의 발생일이 아닙니다.");
+		}
+	}
+
+	private LeaveSeries findSeries(Long seriesId) {
+		return leaveSeriesRepository.findById(seriesId)
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반복 일정 Id입니다."));
+	}
+
+	private LeaveSeries findSeriesForUpdate(Long seriesId, Member member) {
+		LeaveSeries series = findSeries(seriesId);
+		if (!member.isAdmin() && !series.isOwnedBy(member)) {
+			log.info("login Id = {} 가 관리자도 아닌데 다른 반복 일정 수정하려 시도 (비정상 접근)", member.getLoginId());
+			throw new IllegalArgumentException("해당 일정 작성자 혹은 관리자만 일정을 수정할 수 있습니다.");
+		}
+		return series;
+	}
+
+	private void publish(LeaveSeries series, CalendarChangeType type) {
+		eventPublisher.publishEvent(CalendarChangeEvent.series(series.getStartDate(), series.affectedEndDate(), type));
+	}
+
+	private void publish(LocalDate occurrenceDate, CalendarChangeType type) {
+		eventPublisher.publishEvent(CalendarChangeEvent.series(occurrenceDate, occurrenceDate, type));
+	}
+}
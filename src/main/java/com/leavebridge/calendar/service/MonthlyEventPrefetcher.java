@@ -0,0 +1,64 @@
+package com.leavebridge.calendar.service;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Component;
+
+import com.leavebridge.calendar.snapshot.MonthlyEventSnapshotStore;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 화면에 보이는 달 앞뒤 달 일정을 백그라운드에서 월 캐시에 미리 적재
+ * - 달력에서 이전/다음 달로 넘기면 API 가 DB 를 거치지 않고 캐시에서 응답
+ * - 마감된 달은 API 가 디스크 스냅샷으로 응답하므로 월 캐시 대신 스냅샷을 준비 (이미 최신이면 바로 끝남)
+ * - 이미 캐시에 있거나 적재 중인 달은 건너뜀, 실패해도 다음 조회 때 평소처럼 읽으므로 로그만 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyEventPrefetcher {
+
+	private final CalendarService calendarService;
+	private final MonthlyEventSnapshotStore monthlyEventSnapshotStore;
+
+	private final Set<YearMonth> inFlight = ConcurrentHashMap.newKeySet();
+	private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("monthly-event-prefetch-", 0).factory());
+
+	public void prefetchAdjacent(YearMonth month) {
+		prefetch(month.minusMonths(1));
+		prefetch(month.plusMonths(1));
+	}
+
+	private void prefetch(YearMonth month) {
+		boolean closed = monthlyEventSnapshotStore.isClosed(month);
+		if ((!closed && calendarService.isMonthlyEventsCached(month)) || !inFlight.add(month)) {
+			return;
+		}
+		executor.execute(() -> {
+			try {
+				if (closed) {
+					monthlyEventSnapshotStore.get(month);
+				} else {
+					calendarService.listMonthlyEvents(month.getYear(), month.getMonthValue());
+				}
+			} catch (Exception e) {
+				log.warn("MonthlyEventPrefetcher :: {} 일정 미리 읽기 실패 :: {}", month, e.getMessage());
+			} finally {
+				inFlight.remove(month);
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,14 @@
+package com.leavebridge.calendar.snapshot;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+/**
+ * 디스크에 저장된 월 일정 JSON 한 버전
+ * @param version 내용 해시 (파일 이름, ETag 에 사용 - 노드가 달라도 내용이 같으면 같은 값)
+ * @param json    API 응답과 같은 JSON
+ * @param gzip    같은 내용을 gzip 으로 압축한 파일
+ */
+public record MonthlyEventSnapshot(YearMonth month, String version, Path json, long jsonSize, Path gzip,
+								   long gzipSize, long createdAtMillis) {
+}
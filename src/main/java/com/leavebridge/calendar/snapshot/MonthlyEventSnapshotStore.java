@@ -0,0 +1,283 @@
+package com.leavebridge.calendar.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leavebridge.calendar.dto.MonthlyEvent;
+import com.leavebridge.calendar.event.CalendarChangeEvent;
+import com.leavebridge.calendar.service.CalendarService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 달(마감된 달) 일정 JSON 을 디스크 파일로 저장해 두고 그대로 응답 (DB, 힙을 거치지 않음)
+ * - 파일 이름은 {yyyy-MM}.{내용 해시}.json(.gz), 내용이 바뀌면 새 이름으로 쓰고 예전 파일은 다음 정리 때 삭제
+ *   -> 응답 중인 파일을 덮어쓰거나 지우지 않음
+ * - 이 노드의 일정 변경이 커밋되면 걸친 달의 스냅샷만 다시 만듦
+ * - 파일은 revalidate-after 동안 그대로 응답하므로 월 캐시(다른 요청이 채운 값)를 거치지 않고 Primary 에서 바로 읽어 만듦
+ * - 다른 노드의 변경은 알 수 없으므로 revalidate-after 가 지난 스냅샷은 다시 읽어 내용이 같으면 그대로 사용
+ * - 기동 시 디렉토리를 훑어 달마다 최신 파일만 남김
+ */
+@Component
+@Slf4j
+public class MonthlyEventSnapshotStore {
+
+	private static final Pattern FILE_NAME = Pattern.compile("(\\d{4}-\\d{2})\\.([0-9a-f]{32})\\.json");
+
+	private final CalendarService calendarService;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Path directory;
+	private final int openMonths;
+	private final Duration revalidateAfter;
+
+	private final ConcurrentHashMap<YearMonth, MonthlyEventSnapshot> snapshots = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<YearMonth, ReentrantLock> locks = new ConcurrentHashMap<>();
+	private final Set<YearMonth> rebuilding = ConcurrentHashMap.newKeySet();
+
+	public MonthlyEventSnapshotStore(CalendarService calendarService, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${calendar.snapshot.enabled:true}") boolean enabled,
+		@Value("${calendar.snapshot.dir:snapshots/monthly-events}") String directory,
+		@Value("${calendar.snapshot.open-months:1}") int openMonths,
+		@Value("${calendar.snapshot.revalidate-after:1h}") Duration revalidateAfter) {
+		this.calendarService = calendarService;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.directory = Paths.get(directory);
+		this.openMonths = Math.max(1, openMonths);
+		this.revalidateAfter = revalidateAfter;
+	}
+
+	@PostConstruct
+	void loadExisting() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			Files.createDirectories(directory);
+			// 쓰다가 종료된 임시 파일
+			try (DirectoryStream<Path> temps = Files.newDirectoryStream(directory, "*.tmp")) {
+				temps.forEach(this::deleteQuietly);
+			}
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+				for (Path file : files) {
+					Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+					if (!matcher.matches()) {
+						continue;
+					}
+					MonthlyEventSnapshot loaded = describe(YearMonth.parse(matcher.group(1)), matcher.group(2));
+					snapshots.merge(loaded.month(), loaded,
+						(a, b) -> a.createdAtMillis() >= b.createdAtMillis() ? a : b);
+				}
+			}
+			snapshots.values().forEach(this::deleteOtherVersions);
+			log.info("MonthlyEventSnapshotStore :: 스냅샷 {}개 로드 ({})", snapshots.size(), directory.toAbsolutePath());
+		} catch (IOException | RuntimeException e) {
+			// 읽지 못한 달은 조회 때 새로 만듦
+			log.warn("MonthlyEventSnapshotStore :: 기존 스냅샷 로드 실패 :: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 스냅샷으로 응답할 달인지 - 이번 달부터 open-months 달 전까지는 수정이 잦아 평소처럼 조회
+	 */
+	public boolean isClosed(YearMonth month) {
+		return enabled && month.isBefore(YearMonth.now().minusMonths(openMonths - 1L));
+	}
+
+	/**
+	 * 변경 커밋 후 스냅샷을 다시 만드는 중인 달 - 그동안의 조회는 스냅샷 잠금을 기다리지 않고 평소 경로(월 캐시 -> DB)로
+	 */
+	public boolean isRebuilding(YearMonth month) {
+		return rebuilding.contains(month);
+	}
+
+	/**
+	 * 마감된 달의 스냅샷, 없거나 다시 확인할 때가 됐으면 만들어서 반환
+	 */
+	public MonthlyEventSnapshot get(YearMonth month) {
+		MonthlyEventSnapshot current = snapshots.get(month);
+		if (current != null && isFresh(current)) {
+			meterRegistry.counter("leavebridge.calendar.snapshot", "result", "hit").increment();
+			return current;
+		}
+		return refresh(month);
+	}
+
+	/**
+	 * 커밋된 변경이 걸친 달 중 스냅샷이 있던 달만 다시 만듦 (월 캐시가 먼저 비워진 뒤 실행, 캐시는 거치지 않음)
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCalendarChanged(CalendarChangeEvent event) {
+		List<YearMonth> touched = snapshots.keySet().stream()
+			.filter(month -> event.overlaps(month.atDay(1), month.atEndOfMonth()))
+			.toList();
+		if (touched.isEmpty()) {
+			return;
+		}
+		// 다시 만드는 동안의 조회는 예전 스냅샷 대신 평소 경로(월 캐시 -> DB)로 가도록 먼저 표시하고 뺌 (isRebuilding)
+		rebuilding.addAll(touched);
+		touched.forEach(snapshots::remove);
+		Thread.ofVirtual().name("monthly-event-snapshot").start(() -> {
+			for (YearMonth month : touched) {
+				try {
+					refresh(month);
+				} catch (RuntimeException e) {
+					log.warn("MonthlyEventSnapshotStore :: {} 스냅샷 재생성 실패, 다음 조회 때 다시 만듦 :: {}", month,
+						e.getMessage());
+				} finally {
+					rebuilding.remove(month);
+				}
+			}
+		});
+	}
+
+	private boolean isFresh(MonthlyEventSnapshot snapshot) {
+		return revalidateAfter.isZero()
+			|| System.currentTimeMillis() - snapshot.createdAtMillis() < revalidateAfter.toMillis();
+	}
+
+	/**
+	 * 같은 달은 한 번에 하나만 만듦, 내용이 그대로면 파일은 두고 확인 시각만 갱신
+	 * - 커밋 직후 실행되므로 복제 지연이 있는 Replica 대신 Primary 에서 읽음
+	 */
+	private MonthlyEventSnapshot refresh(YearMonth month) {
+		ReentrantLock lock = locks.computeIfAbsent(month, key -> new ReentrantLock());
+		lock.lock();
+		try {
+			MonthlyEventSnapshot current = snapshots.get(month);
+			if (current != null && isFresh(current)) {
+				return current;
+			}
+			List<MonthlyEvent> events = calendarService.loadMonthlyEventsFromPrimary(month);
+			byte[] body = objectMapper.writeValueAsBytes(events);
+			String version = DigestUtils.md5DigestAsHex(body);
+
+			MonthlyEventSnapshot snapshot;
+			if (current != null && current.version().equals(version)) {
+				Files.setLastModifiedTime(current.json(), FileTime.fromMillis(System.currentTimeMillis()));
+				snapshot = describe(month, version);
+				meterRegistry.counter("leavebridge.calendar.snapshot", "result", "revalidated").increment();
+			} else {
+				snapshot = write(month, version, body);
+				meterRegistry.counter("leavebridge.calendar.snapshot", "result", "written").increment();
+				log.info("MonthlyEventSnapshotStore :: {} 스냅샷 저장 version = {}, {}건", month, version, events.size());
+			}
+			snapshots.put(month, snapshot);
+			deleteOtherVersions(snapshot);
+			return snapshot;
+		} catch (IOException e) {
+			throw new UncheckedIOException(month + " 스냅샷 저장 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 임시 파일에 다 쓴 뒤 이름을 바꿔서, 읽는 쪽이 덜 쓴 파일을 보지 않게 함 (gz 먼저, json 이 있으면 완성된 버전)
+	 */
+	private MonthlyEventSnapshot write(YearMonth month, String version, byte[] body) throws IOException {
+		Files.createDirectories(directory);
+		Path gzipTemp = Files.createTempFile(directory, month.toString(), ".tmp");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipTemp))) {
+			out.write(body);
+		}
+		Files.move(gzipTemp, gzipPath(month, version), StandardCopyOption.ATOMIC_MOVE,
+			StandardCopyOption.REPLACE_EXISTING);
+
+		Path jsonTemp = Files.createTempFile(directory, month.toString(), ".tmp");
+		Files.write(jsonTemp, body);
+		Files.move(jsonTemp, jsonPath(month, version), StandardCopyOption.ATOMIC_MOVE,
+			StandardCopyOption.REPLACE_EXISTING);
+		return describe(month, version);
+	}
+
+	private MonthlyEventSnapshot describe(YearMonth month, String version) throws IOException {
+		Path json = jsonPath(month, version);
+		Path gzip = gzipPath(month, version);
+		if (!Files.exists(gzip)) {
+			// 압축 파일이 없으면 압축하지 않은 파일로만 응답
+			gzip = null;
+		}
+		return new MonthlyEventSnapshot(month, version, json, Files.size(json), gzip,
+			gzip != null ? Files.size(gzip) : 0, Files.getLastModifiedTime(json).toMillis());
+	}
+
+	/**
+	 * 같은 달의 예전 버전 파일 삭제 - 방금 교체된 버전은 응답 중일 수 있어 한 번 늦게(다음 교체 때) 지움
+	 */
+	private void deleteOtherVersions(MonthlyEventSnapshot keep) {
+		String prefix = keep.month() + ".";
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+			List<Path> others = new ArrayList<>();
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				if (!name.startsWith(prefix + keep.version() + ".")) {
+					others.add(file);
+				}
+			}
+			others.sort(Comparator.comparing(this::lastModified).reversed());
+			// 가장 최근 예전 버전(json, gz)은 남김
+			others.stream().skip(2).forEach(this::deleteQuietly);
+		} catch (IOException e) {
+			log.warn("MonthlyEventSnapshotStore :: {} 예전 스냅샷 정리 실패 :: {}", keep.month(), e.getMessage());
+		}
+	}
+
+	private long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("MonthlyEventSnapshotStore :: 파일 삭제 실패 {} :: {}", file, e.getMessage());
+		}
+	}
+
+	private Path jsonPath(YearMonth month, String version) {
+		return directory.resolve(month + "." + version + ".json");
+	}
+
+	private Path gzipPath(YearMonth month, String version) {
+		return directory.resolve(month + "." + version + ".json.gz");
+	}
+}
@@ -0,0 +1,49 @@
+package com.leavebridge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class CircuitBreakerMetricsConfig {
+
+	/**
+	 * 서킷 브레이커 상태 전이 기록
+	 * - 현재 상태, 호출 결과 게이지는 resilience4j-micrometer 가 resilience4j.circuitbreaker.* 로 내보냄
+	 * - 전이 횟수는 leavebridge.circuitbreaker.transition{name, from, to} 카운터로 (열림 -> 반열림 -> 닫힘 흐름 추적용)
+	 */
+	@Bean
+	public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionRecorder(MeterRegistry meterRegistry) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+				CircuitBreaker circuitBreaker = entryAddedEvent.getAddedEntry();
+				circuitBreaker.getEventPublisher().onStateTransition(event -> {
+					CircuitBreaker.StateTransition transition = event.getStateTransition();
+					meterRegistry.counter("leavebridge.circuitbreaker.transition",
+						"name", event.getCircuitBreakerName(),
+						"from", transition.getFromState().name(),
+						"to", transition.getToState().name()).increment();
+					log.warn("서킷 브레이커 상태 전이 name = {}, {} -> {}", event.getCircuitBreakerName(),
+						transition.getFromState(), transition.getToState());
+				});
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+			}
+		};
+	}
+}
@@ -0,0 +1,131 @@
+package com.leavebridge.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.leavebridge.global.http.MeteredPoolingConnectionManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.ObservationExecChainHandler;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구글 캘린더(GoogleCalendarClientProvider)와 공휴일 API(Feign)가 같이 쓰는 커넥션 풀
+ * - 호스트별 최대 연결 수를 두고, 연결을 keep-alive 로 재사용해 호출마다 TLS 핸드셰이크를 하지 않음
+ * - 응답 gzip 은 HttpClient 가 Accept-Encoding 을 붙이고 풀어서 넘김
+ * - 지표: 호스트별 요청 지연 httpcomponents.httpclient.request{target.host},
+ *   커넥션 대기 leavebridge.http.pool.lease{host}, 풀 상태 httpcomponents.httpclient.pool.*
+ * - Feign 은 CloseableHttpClient 빈이 있으면 자체 풀을 만들지 않고 이 빈을 씀 (feign-hc5)
+ */
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+	static final HttpHost GOOGLE_API_HOST = new HttpHost("https", "www.googleapis.com", 443);
+	static final HttpHost GOOGLE_OAUTH_HOST = new HttpHost("https", "oauth2.googleapis.com", 443);
+	static final HttpHost HOLIDAY_API_HOST = new HttpHost("http", "apis.data.go.kr", 80);
+
+	@Value("${http.client.max-total:50}")
+	private int maxTotal;
+
+	@Value("${http.client.max-per-host:5}")
+	private int maxPerHost;
+
+	@Value("${http.client.google-max-per-host:20}")
+	private int googleMaxPerHost;
+
+	@Value("${http.client.holiday-api-max-per-host:5}")
+	private int holidayApiMaxPerHost;
+
+	@Value("${http.client.connect-timeout:3s}")
+	private Duration connectTimeout;
+
+	@Value("${http.client.read-timeout:20s}")
+	private Duration readTimeout;
+
+	@Value("${http.client.lease-timeout:2s}")
+	private Duration leaseTimeout;
+
+	@Value("${http.client.keep-alive:60s}")
+	private Duration keepAlive;
+
+	@Value("${http.client.idle-timeout:30s}")
+	private Duration idleTimeout;
+
+	@Value("${http.client.time-to-live:10m}")
+	private Duration timeToLive;
+
+	@Bean
+	public PoolingHttpClientConnectionManager httpClientConnectionManager(MeterRegistry meterRegistry) {
+		MeteredPoolingConnectionManager connectionManager = new MeteredPoolingConnectionManager(meterRegistry);
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerHost);
+		connectionManager.setMaxPerRoute(routeOf(GOOGLE_API_HOST), googleMaxPerHost);
+		connectionManager.setMaxPerRoute(routeOf(GOOGLE_OAUTH_HOST), Math.max(1, maxPerHost));
+		connectionManager.setMaxPerRoute(routeOf(HOLIDAY_API_HOST), holidayApiMaxPerHost);
+		connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.of(connectTimeout))
+			.setSocketTimeout(Timeout.of(readTimeout))
+			.setTimeToLive(TimeValue.of(timeToLive))
+			// 오래 쉰 연결은 빌려주기 전에 끊겼는지 확인
+			.setValidateAfterInactivity(TimeValue.ofSeconds(5))
+			.build());
+		connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+			.setSoKeepAlive(true)
+			.setTcpNoDelay(true)
+			.build());
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "shared").bindTo(meterRegistry);
+		log.info("HttpClientConfig :: 공용 커넥션 풀 전체 {}, 호스트별 {}, googleapis {}, 공휴일 API {}", maxTotal, maxPerHost,
+			googleMaxPerHost, holidayApiMaxPerHost);
+		return connectionManager;
+	}
+
+	/**
+	 * 프록시 없이 직접 연결할 때 요청이 실제로 쓰는 경로 (DefaultRoutePlanner 와 같게)
+	 * - 풀은 경로 단위로 연결 수를 세고 https 여부도 경로에 포함되므로, new HttpRoute(host) 처럼 secure 를 빼면
+	 *   https 호스트에 정한 한도가 적용되지 않고 기본값(max-per-host)으로 동작함
+	 */
+	static HttpRoute routeOf(HttpHost host) {
+		return new HttpRoute(host, null, URIScheme.HTTPS.same(host.getSchemeName()));
+	}
+
+	@Bean
+	public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager,
+		ObservationRegistry observationRegistry) {
+		TimeValue keepAliveCap = TimeValue.of(keepAlive);
+		return HttpClients.custom()
+			.setConnectionManager(httpClientConnectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(leaseTimeout))
+				.setResponseTimeout(Timeout.of(readTimeout))
+				.build())
+			// 서버가 알려준 keep-alive 를 따르되 상한을 둠 (방화벽/LB 가 먼저 끊은 연결을 쓰지 않도록)
+			.setKeepAliveStrategy((response, context) -> {
+				TimeValue suggested = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+					context);
+				return suggested.compareTo(keepAliveCap) < 0 ? suggested : keepAliveCap;
+			})
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(idleTimeout))
+			.addExecInterceptorLast("micrometer", new ObservationExecChainHandler(observationRegistry))
+			.build();
+	}
+}
@@ -0,0 +1,101 @@
+package com.leavebridge.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.leavebridge.global.datasource.ReadYourWritesTracker;
+import com.leavebridge.global.datasource.ReplicaRoutingDataSource;
+import com.leavebridge.member.entitiy.CustomMemberDetails;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * spring.datasource.replica.enabled=true 일 때 Primary/Replica 두 개의 Hikari 풀을 만들고 라우팅
+ * - 풀 이름(primary/replica)이 hikaricp_* 메트릭의 pool 태그로 노출되어 대상별 풀 상태 확인 가능
+ * - 꺼져 있으면 기존처럼 Spring Boot 기본 DataSource 하나만 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+		return createPool(properties, "primary", environment, "spring.datasource.hikari");
+	}
+
+	@Bean
+	public HikariDataSource replicaDataSource(Environment environment) {
+		// Replica 접속 정보는 spring.datasource.replica.url/username/password 로 지정
+		DataSourceProperties properties = Binder.get(environment)
+			.bind("spring.datasource.replica", DataSourceProperties.class)
+			.orElseThrow(() -> new IllegalStateException("spring.datasource.replica 설정이 없습니다."));
+		// 풀 설정은 Primary(spring.datasource.hikari) 값을 기본으로, replica.hikari 로 덮어쓰기
+		return createPool(properties, "replica", environment,
+			"spring.datasource.hikari", "spring.datasource.replica.hikari");
+	}
+
+	@Bean
+	public ReadYourWritesTracker readYourWritesTracker(
+		@Value("${spring.datasource.replica.read-your-writes-window:5s}") Duration window) {
+		return new ReadYourWritesTracker(window);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+		ReadYourWritesTracker readYourWritesTracker, ObjectProvider<MeterRegistry> meterRegistry) {
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource,
+			replicaDataSource, readYourWritesTracker, ReplicaDataSourceConfig::currentMemberId,
+			meterRegistry.getIfAvailable());
+
+		// readOnly 플래그가 세팅된 뒤 첫 쿼리 시점에 실제 커넥션을 얻도록 지연
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	/**
+	 * OSIV 로 요청 내내 같은 EntityManager 를 쓰므로 트랜잭션이 끝나면 커넥션을 반납하도록 변경
+	 * - 기본값(HOLD)이면 먼저 연 readOnly 트랜잭션의 Replica 커넥션을 이후 쓰기 트랜잭션이 재사용함
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+		return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+			"DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+	}
+
+	private HikariDataSource createPool(DataSourceProperties properties, String poolName, Environment environment,
+		String... hikariPrefixes) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		Binder binder = Binder.get(environment);
+		for (String prefix : hikariPrefixes) {
+			binder.bind(prefix, Bindable.ofInstance(dataSource));
+		}
+		dataSource.setPoolName(poolName);
+		return dataSource;
+	}
+
+	private static Long currentMemberId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof CustomMemberDetails details) {
+			return details.getMember().getId();
+		}
+		return null;
+	}
+}
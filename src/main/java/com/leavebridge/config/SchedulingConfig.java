@@ -0,0 +1,30 @@
+package com.leavebridge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+	/**
+	 * @Scheduled 전용 스케줄러
+	 * - 기본 스케줄러는 스레드 1개라 Google, 공공데이터 API 호출이 느리면 다른 잡까지 밀림
+	 * - 트리거만 단일 스레드가 담당하고, 실제 잡은 실행마다 새로운 가상 스레드에서 돌아간다
+	 */
+	@Bean
+	public TaskScheduler taskScheduler() {
+		SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+		scheduler.setVirtualThreads(true);
+		scheduler.setThreadNamePrefix("leave-scheduler-");
+		return scheduler;
+	}
+
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+		taskRegistrar.setTaskScheduler(taskScheduler());
+	}
+}
@@ -1,30 +1,46 @@
 package com.leavebridge.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import com.leavebridge.member.entitiy.CustomMemberDetails;
+import com.leavebridge.member.token.TokenAuthenticationFilter;
+import com.leavebridge.member.token.TokenService;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)  // @PreAuthorize 사용하기 위해 필요
 public class SecurityConfig {
 
+	// true 면 세션 대신 서명된 토큰(쿠키/Bearer)으로 인증
+	@Value("${auth.token.enabled:false}")
+	private boolean tokenEnabled;
+
 	@Bean
 	public PasswordEncoder passwordEncoder() {
 		return new BCryptPasswordEncoder();
 	}
 
 	@Bean
-	SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+	SecurityFilterChain filterChain(HttpSecurity http, ObjectProvider<TokenService> tokenServiceProvider)
+		throws Exception {
 		http
 			.cors(cors -> cors.disable())
 			.authorizeHttpRequests((authorizeHttpRequests) -> authorizeHttpRequests
@@ -32,7 +48,15 @@ public class SecurityConfig {
 				.requestMatchers("/", "/members/login", "/css/**", "/js/**").permitAll()
 				.requestMatchers("/api/*/calendar/events/*").permitAll() // 일정 상세 조회 누구나 가능
 				.requestMatchers("/api/*/calendar/events/*/*").permitAll() // 일정 조회 누구나 가능
+				.requestMatchers("/api/*/calendar/stream").permitAll() // 일정 변경 알림 구독 누구나 가능
+				.requestMatchers(HttpMethod.GET, "/api/*/calendar/series/*").permitAll() // 반복 일정 상세 누구나 가능
+				.requestMatchers("/api/*/auth/**").permitAll() // 토큰 발급/재발급
+				.requestMatchers("/ics/**").permitAll() // iCalendar 구독 (개인 피드는 추측 불가능한 토큰 경로)
 				.requestMatchers("/health").permitAll() // 헬스 체크 열어두기
+				.requestMatchers("/actuator/health").permitAll()
+				.requestMatchers("/actuator/health/google").permitAll() // 구글 캘린더 준비 여부 (상태만)
+				.requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭은 관리자만
+				.requestMatchers("/api/*/admin/**").hasRole("ADMIN") // 관리자 전용 API (일괄 등록 등)
 				.requestMatchers("/members/login").permitAll() // 메인 페이지 누구나 가능
 				.requestMatchers("api/*/members/check-loginId").permitAll() // 메인 페이지 누구나 가능
 				.requestMatchers("/api/*/calendar/events/{eventId}").permitAll() // 상세까지는 누구나 가능
@@ -67,6 +91,44 @@ public class SecurityConfig {
 					new LoginUrlAuthenticationEntryPoint("/members/login"),
 					new AntPathRequestMatcher("/**"))
 			);
+
+		if (tokenEnabled) {
+			applyTokenMode(http, tokenServiceProvider.getObject());
+		}
 		return http.build();
 	}
+
+	/**
+	 * 토큰 모드 - 세션을 만들지 않고 요청마다 토큰으로 인증
+	 * - 폼 로그인 성공 시 HttpOnly 쿠키로 토큰 발급, 로그아웃 시 쿠키 삭제
+	 * - 세션이 없으니 CSRF 토큰은 쿠키에 보관 (Bearer 헤더 요청은 CSRF 대상 아님)
+	 */
+	private void applyTokenMode(HttpSecurity http, TokenService tokenService) throws Exception {
+		http
+			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+			.csrf(csrf -> csrf
+				.csrfTokenRepository(new CookieCsrfTokenRepository())
+				.ignoringRequestMatchers(new AntPathRequestMatcher("/api/*/auth/**"))
+				.ignoringRequestMatchers(request -> {
+					String header = request.getHeader("Authorization");
+					return header != null && header.startsWith("Bearer ");
+				}))
+			.formLogin(formLogin -> formLogin
+				.successHandler((request, response, authentication) -> {
+					CustomMemberDetails details = (CustomMemberDetails)authentication.getPrincipal();
+					tokenService.writeCookies(response, tokenService.issue(details.getMember()));
+					response.sendRedirect(request.getContextPath() + "/");
+				}))
+			.logout(logout -> logout
+				.addLogoutHandler((request, response, authentication) -> {
+					if (authentication != null
+						&& authentication.getPrincipal() instanceof CustomMemberDetails details) {
+						tokenService.logout(details.getMember().getId(), response);
+					} else {
+						tokenService.clearCookies(response);
+					}
+				}))
+			.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+	}
 }
\ No newline at end of file
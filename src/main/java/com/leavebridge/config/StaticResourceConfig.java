@@ -0,0 +1,40 @@
+package com.leavebridge.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * 화면 스크립트/스타일 (static/css, static/js)
+ * - 템플릿의 @{/js/home.js} 가 내용 해시가 붙은 주소(/js/home-{md5}.js)로 바뀌므로 내용이 같으면 주소도 같음
+ *   -> 1년 + immutable 로 캐시, 배포로 내용이 바뀌면 주소가 바뀌어 새로 받음
+ * - 빌드 때 만든 .br/.gz 가 있으면 Accept-Encoding 에 맞춰 압축본을 그대로 보냄 (요청마다 압축하지 않음)
+ * - 주소 변환은 spring.web.resources.chain.enabled 로 등록되는 ResourceUrlEncodingFilter 가 담당
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+	@Value("${static-resources.max-age:365d}")
+	private Duration maxAge;
+
+	@Override
+	public void addResourceHandlers(ResourceHandlerRegistry registry) {
+		addVersionedResources(registry, "css");
+		addVersionedResources(registry, "js");
+	}
+
+	private void addVersionedResources(ResourceHandlerRegistry registry, String directory) {
+		registry.addResourceHandler("/" + directory + "/**")
+			.addResourceLocations("classpath:/static/" + directory + "/")
+			.setCacheControl(CacheControl.maxAge(maxAge).cachePublic().immutable())
+			.resourceChain(true)
+			.addResolver(new EncodedResourceResolver())
+			.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+	}
+}
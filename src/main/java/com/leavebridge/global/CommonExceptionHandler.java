@@ -4,10 +4,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.leavebridge.calendar.dto.LeaveConflictResponse;
+import com.leavebridge.calendar.exception.GoogleCalendarUnavailableException;
+import com.leavebridge.calendar.exception.LeaveConflictException;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -20,6 +25,18 @@ public class CommonExceptionHandler {
 		return ResponseEntity.status(exception.getStatusCode()).body(exception.getReason());
 	}
 
+	@ExceptionHandler(LeaveConflictException.class)
+	public ResponseEntity<LeaveConflictResponse> handleLeaveConflict(LeaveConflictException exception) {
+		log.warn("일정 중복 :: {}", exception.getResponse());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getResponse());
+	}
+
+	@ExceptionHandler(GoogleCalendarUnavailableException.class)
+	public ResponseEntity<String> handleGoogleUnavailable(GoogleCalendarUnavailableException exception) {
+		log.warn("구글 캘린더 사용 불가 :: {}", exception.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exception.getMessage());
+	}
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException exception) {
 		log.error("익셉션 발생 :: ", exception);
@@ -32,6 +49,12 @@ public class CommonExceptionHandler {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다.");
 	}
 
+	@ExceptionHandler(AuthenticationException.class)
+	public ResponseEntity<String> handleAuthentication(AuthenticationException exception) {
+		log.warn("인증 실패 :: {}", exception.getMessage());
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(exception.getMessage());
+	}
+
 	@ExceptionHandler(HttpMessageNotReadableException.class)
 	public ResponseEntity<String> handleParseError(HttpMessageNotReadableException exception) {
 		log.error("익셉션 발생 :: ", exception);
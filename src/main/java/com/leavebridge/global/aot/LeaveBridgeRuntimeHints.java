@@ -0,0 +1,84 @@
+package com.leavebridge.global.aot;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import com.leavebridge.calendar.entity.GoogleEventSnapshot;
+import com.querydsl.core.types.Expression;
+
+/**
+ * AOT 빌드(./gradlew bootJar -PfastStart)용 리플렉션 힌트
+ * - processAot 때 한 번 클래스패스를 훑어 등록하므로 클래스가 늘어도 여기를 고칠 필요 없음
+ * - QueryDSL Q 클래스: 필드/생성자
+ * - Feign 클라이언트: 인터페이스 프록시, 메서드 애너테이션, 요청/응답 타입 Jackson 바인딩
+ * - *.dto 패키지 (Lombok 생성 getter/생성자 포함)와 JSON 컬럼 값(GoogleEventSnapshot): Jackson 바인딩
+ */
+public class LeaveBridgeRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String BASE_PACKAGE = "com.leavebridge";
+	private static final Pattern DTO_PACKAGE = Pattern.compile("com\\.leavebridge\\..*\\.dto\\..*");
+
+	private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (Class<?> queryType : scan(classLoader, new AssignableTypeFilter(Expression.class))) {
+			hints.reflection().registerType(queryType, MemberCategory.DECLARED_FIELDS,
+				MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+		}
+
+		for (Class<?> client : scan(classLoader, new AnnotationTypeFilter(FeignClient.class))) {
+			hints.proxies().registerJdkProxy(client);
+			hints.reflection().registerType(client, MemberCategory.INVOKE_PUBLIC_METHODS);
+			for (Method method : client.getMethods()) {
+				bindingRegistrar.registerReflectionHints(hints.reflection(), method.getGenericReturnType());
+				bindingRegistrar.registerReflectionHints(hints.reflection(), method.getGenericParameterTypes());
+			}
+		}
+
+		for (Class<?> dto : scan(classLoader, new RegexPatternTypeFilter(DTO_PACKAGE))) {
+			bindingRegistrar.registerReflectionHints(hints.reflection(), dto);
+		}
+		bindingRegistrar.registerReflectionHints(hints.reflection(), GoogleEventSnapshot.class);
+
+		// 구글 OAuth 클라이언트 정보 (GoogleCalendarClientProvider)
+		hints.resources().registerPattern("credentials.json");
+	}
+
+	/**
+	 * 인터페이스, 중첩 클래스까지 후보로 보는 스캔 (기본 스캐너는 구체 클래스만)
+	 */
+	private static List<Class<?>> scan(ClassLoader classLoader, TypeFilter filter) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isIndependent();
+			}
+		};
+		scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+		scanner.addIncludeFilter(filter);
+
+		List<Class<?>> types = new ArrayList<>();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+			types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+		}
+		return types;
+	}
+}
@@ -0,0 +1,95 @@
+package com.leavebridge.global.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 한 번만 실행하고 결과를 나눠 받음 (single-flight)
+ * - 먼저 온 호출이 자기 스레드에서 loader 를 실행, 그동안 같은 키로 온 호출은 그 결과(또는 예외)를 기다림
+ * - 끝나면 바로 빠지므로 결과를 보관하지 않음 - 캐시가 아니라 캐시가 비었을 때 몰리는 같은 쿼리를 줄이는 용도
+ * - 기다려서 받은 횟수는 leavebridge.singleflight.coalesced{name}
+ * - 결과 객체를 여러 호출이 같이 받으므로 받은 쪽에서 고치지 말 것
+ */
+public final class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Counter coalesced;
+
+	public SingleFlight(String name, MeterRegistry meterRegistry) {
+		this.coalesced = Counter.builder("leavebridge.singleflight.coalesced")
+			.description("진행 중인 같은 조회의 결과를 받아 쿼리를 생략한 횟수")
+			.tag("name", name)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 같은 키로 진행 중인 조회가 있으면 그 결과를, 없으면 loader 를 직접 실행
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> mine = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			coalesced.increment();
+			return await(running);
+		}
+		run(key, mine, loader);
+		return await(mine);
+	}
+
+	/**
+	 * 같은 키로 진행 중인 조회가 없을 때만 executor 에서 loader 실행 (미리 갱신용) - 시작했으면 true
+	 * - 실행 중에 같은 키로 execute 가 오면 이 결과를 기다림
+	 */
+	public boolean executeAsync(K key, Supplier<V> loader, Executor executor) {
+		CompletableFuture<V> mine = new CompletableFuture<>();
+		if (inFlight.putIfAbsent(key, mine) != null) {
+			return false;
+		}
+		try {
+			executor.execute(() -> run(key, mine, loader));
+		} catch (RuntimeException e) {
+			inFlight.remove(key, mine);
+			mine.completeExceptionally(e);
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * 진행 중인 키 수 (지표/테스트용)
+	 */
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private void run(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+		try {
+			mine.complete(loader.get());
+		} catch (Throwable e) {
+			mine.completeExceptionally(e);
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	private static <V> V await(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("조회 중 오류가 발생했습니다.", cause);
+		}
+	}
+}
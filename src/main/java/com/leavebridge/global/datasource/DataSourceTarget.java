@@ -0,0 +1,6 @@
+package com.leavebridge.global.datasource;
+
+public enum DataSourceTarget {
+	PRIMARY,
+	REPLICA
+}
@@ -0,0 +1,42 @@
+package com.leavebridge.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이어도 Primary 에서 읽도록 고정
+ * - 커밋 직후 바로 다시 읽는 백그라운드 작업(검색 색인 갱신, 공유 캐시/스냅샷 적재)은 Replica 에서 읽으면
+ *   복제 지연으로 커밋 전 상태를 읽을 수 있음 (회원 id 가 없어 read-your-writes 도 적용되지 않음)
+ * - 커넥션은 첫 쿼리 시점에 정해지므로(LazyConnectionDataSourceProxy) 이 안에서 새로 시작한 트랜잭션에만 효과가 있음
+ */
+public final class PrimaryReads {
+
+	private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+	private PrimaryReads() {
+	}
+
+	public static <T> T call(Supplier<T> action) {
+		Boolean previous = PINNED.get();
+		PINNED.set(Boolean.TRUE);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				PINNED.remove();
+			} else {
+				PINNED.set(previous);
+			}
+		}
+	}
+
+	public static void run(Runnable action) {
+		call(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	static boolean isPinned() {
+		return Boolean.TRUE.equals(PINNED.get());
+	}
+}
@@ -0,0 +1,38 @@
+package com.leavebridge.global.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 일정 시간 동안 해당 회원의 읽기를 Primary 로 고정
+ * - 연차 등록 직후 목록 조회가 복제 지연으로 비어 보이는 문제 방지
+ * - 노드별 메모리에만 기록하므로 여러 노드면 같은 노드로 들어온 요청에만 적용
+ */
+public class ReadYourWritesTracker {
+
+	private final long windowNanos;
+	private final ConcurrentHashMap<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+	public ReadYourWritesTracker(Duration window) {
+		this.windowNanos = window.toNanos();
+	}
+
+	public void markWrite(Long memberId) {
+		if (memberId == null || windowNanos <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		pinnedUntil.put(memberId, now + windowNanos);
+
+		// 만료 항목은 쓰기 시점에 가볍게 정리 (사내 인원 규모라 전체 순회 부담 없음)
+		pinnedUntil.values().removeIf(until -> now - until >= 0);
+	}
+
+	public boolean isPinned(Long memberId) {
+		if (memberId == null) {
+			return false;
+		}
+		Long until = pinnedUntil.get(memberId);
+		return until != null && System.nanoTime() - until < 0;
+	}
+}
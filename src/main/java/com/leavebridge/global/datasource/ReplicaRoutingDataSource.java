@@ -0,0 +1,79 @@
+package com.leavebridge.global.datasource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * readOnly 트랜잭션은 Replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 Primary 로 라우팅
+ * - JPA 는 트랜잭션 시작 시 커넥션을 먼저 얻고 readOnly 플래그를 나중에 세팅하므로
+ *   반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 결정되도록 사용
+ * - 쓰기 트랜잭션 커밋 시 현재 회원을 ReadYourWritesTracker 에 기록, 창 안의 읽기는 Primary 로
+ * - PrimaryReads 안에서 시작한 읽기 전용 트랜잭션도 Primary 로
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	private static final String ROUTING_METRIC = "leavebridge.datasource.routing";
+
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final Supplier<Long> currentMemberId;
+	private final MeterRegistry meterRegistry;
+
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+		ReadYourWritesTracker readYourWritesTracker, Supplier<Long> currentMemberId, MeterRegistry meterRegistry) {
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.currentMemberId = currentMemberId;
+		this.meterRegistry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+		setTargetDataSources(Map.of(DataSourceTarget.PRIMARY, primary, DataSourceTarget.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			recordWriteOnCommit();
+			return count(DataSourceTarget.PRIMARY, "write");
+		}
+		if (PrimaryReads.isPinned()) {
+			return count(DataSourceTarget.PRIMARY, "pinned");
+		}
+		if (readYourWritesTracker.isPinned(currentMemberId.get())) {
+			return count(DataSourceTarget.PRIMARY, "read-your-writes");
+		}
+		return count(DataSourceTarget.REPLICA, "read-only");
+	}
+
+	/**
+	 * 쓰기 트랜잭션이면 커밋 이후 현재 회원을 read-your-writes 대상으로 기록
+	 * - 트랜잭션 밖(스케줄러 등 회원 없음)이면 기록하지 않음
+	 */
+	private void recordWriteOnCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		Long memberId = currentMemberId.get();
+		if (memberId == null) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				readYourWritesTracker.markWrite(memberId);
+			}
+		});
+	}
+
+	private DataSourceTarget count(DataSourceTarget target, String reason) {
+		meterRegistry.counter(ROUTING_METRIC, "target", target.name().toLowerCase(), "reason", reason).increment();
+		return target;
+	}
+}
@@ -0,0 +1,62 @@
+package com.leavebridge.global.http;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 커넥션을 빌리기까지 기다린 시간을 호스트별로 기록하는 풀
+ * - leavebridge.http.pool.lease{host, outcome} : 풀이 모자라면 여기서 먼저 늘어남 (요청 지연과 구분하기 위함)
+ * - 풀 크기/사용 중/대기 수는 PoolingHttpClientConnectionManagerMetricsBinder 가 따로 내보냄
+ */
+public class MeteredPoolingConnectionManager extends PoolingHttpClientConnectionManager {
+
+	private final MeterRegistry meterRegistry;
+
+	public MeteredPoolingConnectionManager(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+		LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+		String host = route.getTargetHost().getHostName();
+		return new LeaseRequest() {
+			@Override
+			public ConnectionEndpoint get(Timeout timeout)
+				throws InterruptedException, ExecutionException, TimeoutException {
+				long startedAt = System.nanoTime();
+				String outcome = "success";
+				try {
+					return delegate.get(timeout);
+				} catch (TimeoutException e) {
+					outcome = "timeout";
+					throw e;
+				} catch (InterruptedException | ExecutionException e) {
+					outcome = "error";
+					throw e;
+				} finally {
+					Timer.builder("leavebridge.http.pool.lease")
+						.tag("host", host)
+						.tag("outcome", outcome)
+						.register(meterRegistry)
+						.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return delegate.cancel();
+			}
+		};
+	}
+}
@@ -0,0 +1,93 @@
+package com.leavebridge.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 permitsPerSecond 개씩 채워지고 최대 burst 개까지 쌓이는 토큰 버킷
+ * - 토큰이 없으면 다음 토큰이 생길 시각까지 미리 예약(잔량을 음수로)하고 그만큼 기다림 -> 대기 순서대로 나감
+ * - 예약 대기가 maxWait 를 넘으면 예약하지 않고 바로 실패
+ * - pause 는 서버가 Retry-After 로 알려준 시간 동안 아무도 나가지 못하게 잔량을 깎음
+ */
+public class TokenBucket {
+
+	private final double permitsPerNano;
+	private final double burst;
+	private final LongSupplier nanoClock;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private double tokens;
+	private long refilledAt;
+
+	public TokenBucket(double permitsPerSecond, int burst) {
+		this(permitsPerSecond, burst, System::nanoTime);
+	}
+
+	TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+		if (permitsPerSecond <= 0 || burst < 1) {
+			throw new IllegalArgumentException("permitsPerSecond, burst 는 양수여야 합니다.");
+		}
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.burst = burst;
+		this.nanoClock = nanoClock;
+		this.tokens = burst;
+		this.refilledAt = nanoClock.getAsLong();
+	}
+
+	/**
+	 * 토큰 하나를 얻을 때까지 최대 maxWait 대기 - 얻으면 true
+	 */
+	public boolean acquire(Duration maxWait) throws InterruptedException {
+		long waitNanos = reserve(maxWait);
+		if (waitNanos < 0) {
+			return false;
+		}
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+		return true;
+	}
+
+	/**
+	 * 토큰 하나를 예약하고 기다려야 하는 나노초 반환, maxWait 안에 못 얻으면 -1 (예약 안 함)
+	 */
+	long reserve(Duration maxWait) {
+		lock.lock();
+		try {
+			refill();
+			if (tokens >= 1) {
+				tokens -= 1;
+				return 0;
+			}
+			long waitNanos = (long)Math.ceil((1 - tokens) / permitsPerNano);
+			if (waitNanos > maxWait.toNanos()) {
+				return -1;
+			}
+			tokens -= 1;
+			return waitNanos;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지금부터 duration 동안 토큰이 생기지 않도록 잔량을 깎음 (이미 더 길게 막혀 있으면 그대로)
+	 */
+	public void pause(Duration duration) {
+		lock.lock();
+		try {
+			refill();
+			tokens = Math.min(tokens, -duration.toNanos() * permitsPerNano);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refill() {
+		long now = nanoClock.getAsLong();
+		tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+		refilledAt = now;
+	}
+}
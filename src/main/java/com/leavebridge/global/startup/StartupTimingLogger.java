@@ -0,0 +1,63 @@
+package com.leavebridge.global.startup;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 소요 시간과 오래 걸린 빈 생성 단계를 로그로 남김
+ * - BufferingApplicationStartup(LeaveBridgeApplication) 이 기록한 단계에서 spring.beans.instantiate 만 골라 느린 순으로
+ * - 전체 단계는 /actuator/startup (관리자) 으로 확인, 그 endpoint 가 가져가면 버퍼가 비워지므로 여기서는 읽기만 함
+ */
+@Component
+@Slf4j
+public class StartupTimingLogger {
+
+	private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+	private final ApplicationStartup applicationStartup;
+	private final int topBeans;
+
+	public StartupTimingLogger(ApplicationStartup applicationStartup,
+		@Value("${startup.log.top-beans:10}") int topBeans) {
+		this.applicationStartup = applicationStartup;
+		this.topBeans = topBeans;
+	}
+
+	@EventListener
+	public void onReady(ApplicationReadyEvent event) {
+		Duration timeTaken = event.getTimeTaken();
+		log.info("StartupTimingLogger :: 기동 완료 {}ms", timeTaken != null ? timeTaken.toMillis() : -1);
+
+		if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+			return;
+		}
+		List<StartupTimeline.TimelineEvent> slowest = buffering.getBufferedTimeline().getEvents().stream()
+			.filter(e -> BEAN_INSTANTIATE_STEP.equals(e.getStartupStep().getName()))
+			.sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+			.limit(topBeans)
+			.toList();
+		for (StartupTimeline.TimelineEvent e : slowest) {
+			log.info("StartupTimingLogger :: 빈 생성 {}ms - {}", e.getDuration().toMillis(), beanName(e));
+		}
+	}
+
+	private static String beanName(StartupTimeline.TimelineEvent event) {
+		for (var tag : event.getStartupStep().getTags()) {
+			if ("beanName".equals(tag.getKey())) {
+				return tag.getValue();
+			}
+		}
+		return "?";
+	}
+}
@@ -1,5 +1,8 @@
 package com.leavebridge.home;
 
+import java.time.YearMonth;
+import java.util.List;
+
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -7,11 +10,24 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leavebridge.calendar.dto.MonthlyEvent;
+import com.leavebridge.calendar.service.CalendarService;
+import com.leavebridge.calendar.service.MonthlyEventPrefetcher;
 import com.leavebridge.member.entitiy.MemberRole;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
 @Controller
+@RequiredArgsConstructor
+@Slf4j
 public class HomeController {
 
+	private final CalendarService calendarService;
+	private final MonthlyEventPrefetcher monthlyEventPrefetcher;
+	private final ObjectMapper objectMapper;
+
 	@GetMapping("/")
 	public String home(Model model, Authentication authentication) {
 		boolean isAuthenticated = authentication != null && authentication.isAuthenticated()
@@ -27,9 +43,27 @@ public class HomeController {
 
 		model.addAttribute("isGermany", isGermany);
 		model.addAttribute("isAdmin", isAdmin);
+
+		addInitialMonthEvents(model, YearMonth.now());
 		return "calendar/home";
 	}
 
+	/**
+	 * 이번 달 일정을 페이지에 같이 실어 보냄 (API 와 같은 JSON) -> 달력이 추가 요청 없이 바로 그림
+	 * - 월 캐시에서 읽고, 앞뒤 달은 백그라운드에서 캐시에 미리 적재
+	 * - 실패하면 싣지 않음 (화면이 평소처럼 API 로 조회)
+	 */
+	private void addInitialMonthEvents(Model model, YearMonth month) {
+		try {
+			List<MonthlyEvent> events = calendarService.listMonthlyEvents(month.getYear(), month.getMonthValue());
+			model.addAttribute("initialMonth", month.toString());
+			model.addAttribute("initialEventsJson", objectMapper.writeValueAsString(events));
+		} catch (Exception e) {
+			log.warn("HomeController :: {} 일정을 페이지에 싣지 못함, 화면에서 API 로 조회 :: {}", month, e.getMessage());
+		}
+		monthlyEventPrefetcher.prefetchAdjacent(month);
+	}
+
 	@GetMapping("/health")
 	@ResponseBody
 	public String health() {
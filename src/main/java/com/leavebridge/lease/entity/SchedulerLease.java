@@ -0,0 +1,39 @@
+package com.leavebridge.lease.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 잡 실행 권한(리스)
+ * - 여러 인스턴스 중 리스를 가진 노드만 잡을 실행한다
+ * - DDL : resources/db/scheduler_lease.sql
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "SCHEDULER_LEASE")
+public class SchedulerLease {
+
+	@Id
+	@Column(name = "JOB_NAME", length = 100)
+	private String jobName;
+
+	@Column(name = "LOCKED_UNTIL")
+	private LocalDateTime lockedUntil;  // 이 시각까지 LOCKED_BY 노드가 점유
+
+	@Column(name = "LOCKED_AT")
+	private LocalDateTime lockedAt;
+
+	@Column(name = "LOCKED_BY")
+	private String lockedBy;  // 점유 노드 (hostname:pid)
+}
@@ -0,0 +1,50 @@
+package com.leavebridge.lease.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leavebridge.lease.entity.SchedulerLease;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+	/**
+	 * 잡 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO SCHEDULER_LEASE (JOB_NAME, LOCKED_UNTIL, LOCKED_AT, LOCKED_BY)
+		VALUES (:jobName, :now, :now, :owner)
+		""", nativeQuery = true)
+	void insertIfAbsent(@Param("jobName") String jobName, @Param("now") LocalDateTime now,
+		@Param("owner") String owner);
+
+	/**
+	 * 만료된 리스만 가져감 - 행 단위 원자적 UPDATE 라 동시에 시도해도 한 노드만 1을 반환받는다
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SchedulerLease l
+		   SET l.lockedUntil = :lockUntil, l.lockedAt = :now, l.lockedBy = :owner
+		 WHERE l.jobName = :jobName
+		   AND l.lockedUntil <= :now
+		""")
+	int tryAcquire(@Param("jobName") String jobName, @Param("now") LocalDateTime now,
+		@Param("lockUntil") LocalDateTime lockUntil, @Param("owner") String owner);
+
+	/**
+	 * 내가 가진 리스만 해제 (releaseAt 이후부터 다른 노드가 가져갈 수 있음)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SchedulerLease l
+		   SET l.lockedUntil = :releaseAt
+		 WHERE l.jobName = :jobName
+		   AND l.lockedBy = :owner
+		""")
+	int release(@Param("jobName") String jobName, @Param("releaseAt") LocalDateTime releaseAt,
+		@Param("owner") String owner);
+}
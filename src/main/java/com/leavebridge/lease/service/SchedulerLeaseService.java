@@ -0,0 +1,131 @@
+package com.leavebridge.lease.service;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.leavebridge.lease.repository.SchedulerLeaseRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 리스 기반 스케줄 잡 단일 실행 보장
+ * - 리스 획득/해제는 잡 트랜잭션과 분리(REQUIRES_NEW)해서 즉시 커밋 → 다른 노드가 바로 볼 수 있음
+ * - 노드가 잡 도중 죽으면 lockAtMostFor 가 지난 뒤 다른 노드가 가져감
+ * - 시각 비교는 각 노드의 시계를 사용하므로 노드 간 시간 동기화(NTP)가 전제
+ */
+@Service
+@Slf4j
+public class SchedulerLeaseService {
+
+	private final SchedulerLeaseRepository schedulerLeaseRepository;
+	private final TransactionTemplate leaseTransaction;
+	private final MeterRegistry meterRegistry;
+	private final String nodeId;
+
+	@FunctionalInterface
+	public interface LeaseTask {
+		void run() throws Exception;
+	}
+
+	public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${scheduler.lease.node-id:}") String nodeId) {
+		this.schedulerLeaseRepository = schedulerLeaseRepository;
+		this.leaseTransaction = new TransactionTemplate(transactionManager);
+		this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.meterRegistry = meterRegistry;
+		this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+	}
+
+	/**
+	 * 리스를 얻은 경우에만 task 실행
+	 *
+	 * @param jobName        잡 이름 (리스 키)
+	 * @param lockAtMostFor  노드가 죽었을 때 리스가 자동 만료되기까지 시간 (잡 최대 소요시간보다 길게)
+	 * @param lockAtLeastFor 잡이 빨리 끝나도 이 시간 동안은 리스 유지 (노드 간 시계 오차로 같은 cron 이 중복 실행되는 것 방지)
+	 * @return 실행했으면 true, 다른 노드가 리스를 가지고 있어 건너뛰었으면 false
+	 */
+	public boolean runWithLease(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, LeaseTask task)
+		throws Exception {
+		LocalDateTime lockedAt = LocalDateTime.now();
+		boolean acquired = tryAcquire(jobName, lockedAt, lockAtMostFor);
+		acquisitionCounter(jobName, acquired).increment();
+
+		if (!acquired) {
+			log.info("SchedulerLeaseService :: 다른 노드가 실행 중이라 건너뜀 job = {}, node = {}", jobName, nodeId);
+			return false;
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			task.run();
+			release(jobName, max(LocalDateTime.now(), lockedAt.plus(lockAtLeastFor)));
+			return true;
+		} catch (Exception e) {
+			outcome = "failure";
+			// 실패 시 즉시 해제해서 @Retryable 재시도나 다른 노드가 바로 다시 시도할 수 있게
+			release(jobName, LocalDateTime.now());
+			throw e;
+		} finally {
+			sample.stop(Timer.builder("leavebridge.scheduler.job.duration")
+				.description("리스를 얻은 스케줄 잡 실행 시간")
+				.tag("job", jobName)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	private boolean tryAcquire(String jobName, LocalDateTime now, Duration lockAtMostFor) {
+		Integer updated = leaseTransaction.execute(status -> {
+			schedulerLeaseRepository.insertIfAbsent(jobName, now, nodeId);
+			return schedulerLeaseRepository.tryAcquire(jobName, now, now.plus(lockAtMostFor), nodeId);
+		});
+		return updated != null && updated == 1;
+	}
+
+	private void release(String jobName, LocalDateTime releaseAt) {
+		try {
+			leaseTransaction.executeWithoutResult(
+				status -> schedulerLeaseRepository.release(jobName, releaseAt, nodeId));
+		} catch (RuntimeException e) {
+			// 해제 실패해도 lockAtMostFor 이후 자동 만료되므로 잡 결과에는 영향 주지 않음
+			log.warn("SchedulerLeaseService :: 리스 해제 실패 job = {}, cause = {}", jobName, e.toString());
+		}
+	}
+
+	private Counter acquisitionCounter(String jobName, boolean acquired) {
+		return Counter.builder("leavebridge.scheduler.lease.acquisitions")
+			.description("스케줄 잡 리스 획득 시도 결과")
+			.tag("job", jobName)
+			.tag("result", acquired ? "acquired" : "skipped")
+			.register(meterRegistry);
+	}
+
+	private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+		return a.isAfter(b) ? a : b;
+	}
+
+	private static String defaultNodeId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown-host";
+		}
+		return host + ":" + ManagementFactory.getRuntimeMXBean().getPid();
+	}
+}
@@ -0,0 +1,49 @@
+package com.leavebridge.member.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.leavebridge.member.dto.TokenIssueRequestDto;
+import com.leavebridge.member.dto.TokenRefreshRequestDto;
+import com.leavebridge.member.dto.TokenResponseDto;
+import com.leavebridge.member.token.TokenService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "auth.token", name = "enabled", havingValue = "true")
+public class AuthTokenController {
+
+	private final TokenService tokenService;
+
+	@PostMapping("/token")
+	public ResponseEntity<TokenResponseDto> issueToken(@RequestBody @Valid TokenIssueRequestDto requestDto) {
+		log.info("AuthTokenController :: issueToken loginId = {}", requestDto.loginId());
+		return ResponseEntity.ok(tokenService.issue(requestDto.loginId(), requestDto.password()));
+	}
+
+	@PostMapping("/refresh")
+	public ResponseEntity<TokenResponseDto> refreshToken(
+		@RequestBody(required = false) TokenRefreshRequestDto requestDto,
+		HttpServletRequest request, HttpServletResponse response) {
+		// 바디에 없으면 브라우저 리프레시 쿠키 사용, 이 경우 쿠키도 함께 갱신
+		if (requestDto != null && StringUtils.hasText(requestDto.refreshToken())) {
+			return ResponseEntity.ok(tokenService.refresh(requestDto.refreshToken()));
+		}
+		TokenResponseDto renewed = tokenService.refresh(tokenService.readRefreshCookie(request).orElse(null));
+		tokenService.writeCookies(response, renewed);
+		return ResponseEntity.ok(renewed);
+	}
+}
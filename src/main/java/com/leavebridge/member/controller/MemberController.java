@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.leavebridge.member.dto.FindMemberListReponseDto;
+import com.leavebridge.member.dto.IcsFeedResponseDto;
 import com.leavebridge.member.dto.MemberUsedLeavesResponseDto;
 import com.leavebridge.member.dto.RequestChangePasswordRequest;
 import com.leavebridge.member.dto.SignupRequestDto;
@@ -69,4 +70,14 @@ public class MemberController {
 		memberService.changePassword(customMemberDetails.getMember(), requestChangePasswordRequest);
 		return ResponseEntity.ok().build();
 	}
+
+	@GetMapping("/me/ics-feed")
+	public ResponseEntity<IcsFeedResponseDto> getIcsFeed(@AuthenticationPrincipal CustomMemberDetails customMemberDetails) {
+		return ResponseEntity.ok(memberService.getOrIssueIcsFeed(customMemberDetails.getMember()));
+	}
+
+	@PostMapping("/me/ics-feed/reset")
+	public ResponseEntity<IcsFeedResponseDto> resetIcsFeed(@AuthenticationPrincipal CustomMemberDetails customMemberDetails) {
+		return ResponseEntity.ok(memberService.reissueIcsFeed(customMemberDetails.getMember()));
+	}
 }
@@ -0,0 +1,14 @@
+package com.leavebridge.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record IcsFeedResponseDto(
+	@Schema(description = "개인 일정 구독 경로", example = "/ics/member/3q2-7wKx....ics")
+	String memberFeedPath,
+	@Schema(description = "팀 일정 구독 경로", example = "/ics/team.ics")
+	String teamFeedPath
+) {
+	public static IcsFeedResponseDto of(String token) {
+		return new IcsFeedResponseDto("/ics/member/" + token + ".ics", "/ics/team.ics");
+	}
+}
@@ -0,0 +1,9 @@
+package com.leavebridge.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 리프레시 토큰 버전과 마지막 재발급 시각 (컬럼 프로젝션 - 영속성 컨텍스트의 회원 엔티티와 무관하게 최신 값)
+ */
+public record MemberTokenState(int tokenVersion, LocalDateTime rotatedAt) {
+}
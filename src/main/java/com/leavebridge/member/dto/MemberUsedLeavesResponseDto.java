@@ -1,5 +1,7 @@
 package com.leavebridge.member.dto;
 
+import java.util.Map;
+
 import org.springframework.data.web.PagedModel;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -23,11 +25,17 @@ public class MemberUsedLeavesResponseDto {
 	double totalUsedDays;
 	@Schema(description = "총 남은 연차", example = "3.5")
 	double remainingDays;
+	@Schema(description = "월별 사용 연차, 사용한 달만", example = "{\"3\": 1.5, \"7\": 3.0}")
+	Map<Integer, Double> monthlyUsedDays;
 	@Schema(description = "개인별 연차 사용 현황 목록")
 	PagedModel<LeaveDetailDto> leaveDetails;
 
 	public MemberUsedLeavesResponseDto(Long memberId, String memberName, double totalCount, double totalUsedDays) {
-		this(memberId, memberName, totalCount, totalUsedDays, totalCount - totalUsedDays, null);
+		this(memberId, memberName, totalCount, totalUsedDays, totalCount - totalUsedDays, Map.of(), null);
+	}
+
+	public void updateMonthlyUsedDays(Map<Integer, Double> monthlyUsedDays) {
+		this.monthlyUsedDays = monthlyUsedDays;
 	}
 
 	public void updateLeaveDetails(PagedModel<LeaveDetailDto> leaveDetails) {
@@ -0,0 +1,14 @@
+package com.leavebridge.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenIssueRequestDto(
+	@Schema(description = "로그인 Id", example = "puar12")
+	@NotBlank(message = "로그인 Id는 필수입니다")
+	String loginId,
+	@Schema(description = "비밀번호", example = "qwer1234")
+	@NotBlank(message = "비밀번호는 필수입니다")
+	String password
+) {
+}
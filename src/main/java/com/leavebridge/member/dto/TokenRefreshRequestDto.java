@@ -0,0 +1,9 @@
+package com.leavebridge.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TokenRefreshRequestDto(
+	@Schema(description = "리프레시 토큰 (브라우저는 쿠키로 대체 가능)", example = "eyJhbGciOiJIUzI1NiJ9...")
+	String refreshToken
+) {
+}
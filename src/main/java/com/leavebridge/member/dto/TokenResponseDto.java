@@ -0,0 +1,15 @@
+package com.leavebridge.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record TokenResponseDto(
+	@Schema(description = "액세스 토큰 (Authorization: Bearer)", example = "eyJhbGciOiJIUzI1NiJ9...")
+	String accessToken,
+	@Schema(description = "리프레시 토큰", example = "eyJhbGciOiJIUzI1NiJ9...")
+	String refreshToken,
+	@Schema(description = "액세스 토큰 만료까지 남은 초", example = "900")
+	long expiresIn
+) {
+}
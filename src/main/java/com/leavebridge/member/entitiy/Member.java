@@ -65,6 +65,19 @@ public class Member {
 	@Builder.Default
 	private List<MemberRole> memberRoleList = new ArrayList<>();
 
+	// 개인 iCalendar 구독 주소용 비밀 토큰 (/ics/member/{token}.ics)
+	@Column(name = "ICS_TOKEN", length = 64)
+	@ToString.Exclude
+	private String icsToken;
+
+	// 리프레시 토큰 버전 - 재발급(쓴 토큰 무효화), 로그아웃 때 1 증가
+	@Column(name = "TOKEN_VERSION")
+	private int tokenVersion;
+
+	// 마지막 재발급 시각 (직전 버전 토큰을 잠깐 허용하는 기준), 로그아웃하면 null
+	@Column(name = "TOKEN_ROTATED_AT")
+	private LocalDateTime tokenRotatedAt;
+
 	@Column(name = "CREATED_DATE")
 	@CreatedDate
 	private LocalDateTime createdDate;
@@ -83,6 +96,10 @@ public class Member {
 		this.updatedDate = null;
 	}
 
+	public void updateIcsToken(String icsToken) {
+		this.icsToken = icsToken;
+	}
+
 	public boolean isAdmin() {
 		return this.memberRoleList.contains(MemberRole.ROLE_ADMIN);
 	}
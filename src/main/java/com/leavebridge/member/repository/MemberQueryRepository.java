@@ -1,22 +1,32 @@
 package com.leavebridge.member.repository;
 
 import static com.leavebridge.calendar.entity.QLeaveAndHoliday.*;
+import static com.leavebridge.calendar.entity.QLeaveDay.*;
 import static com.leavebridge.member.entitiy.Member.*;
 import static com.leavebridge.member.entitiy.QMember.*;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Repository;
 
+import com.leavebridge.calendar.entity.QLeaveDay;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.ledger.LeaveUsage;
 import com.leavebridge.member.dto.FindMemberListReponseDto;
 import com.leavebridge.member.dto.LeaveDetailDto;
 import com.leavebridge.member.dto.MemberUsedLeavesResponseDto;
 import com.leavebridge.member.entitiy.Member;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -26,25 +36,73 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MemberQueryRepository {
 
+	private static final List<LeaveType> CONSUMES_LEAVE_TYPES = Arrays.stream(LeaveType.values())
+		.filter(LeaveType::isConsumesLeave)
+		.toList();
+
 	private final JPAQueryFactory queryFactory;
 
 	/**
-	 * 1) 전체 통계용 DTO(MemberUsedLeavesResponseDto) Projections
+	 * 1) 전체 통계용 DTO(MemberUsedLeavesResponseDto) - 해당 연도 근무일의 차감 분을 월별로 합산
+	 * - LEAVE_DAY (회원, 날짜) 인덱스 범위 조회라 연도를 넘는 연차도 그 해에 쓴 날만 집계됨
+	 * - LEAVE_DAY 가 아직 채워지지 않은 일정(테이블 도입 전, 재생성 전)은 일정의 차감 일수를 시작 월에 더함
 	 */
 	public MemberUsedLeavesResponseDto fetchMemberStats(Member targetMember, int year) {
+		NumberExpression<Integer> month = leaveDay.day.month();
+		NumberExpression<Long> minutes = leaveDay.minutes.sum().longValue();
+		List<Tuple> rows = queryFactory
+			.select(month, minutes)
+			.from(leaveDay)
+			.where(
+				leaveDay.member.id.eq(targetMember.getId()),
+				leaveDay.day.between(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)),
+				leaveDay.leaveType.in(CONSUMES_LEAVE_TYPES)
+			)
+			.groupBy(month)
+			.orderBy(month.asc())
+			.fetch();
+
+		Map<Integer, Double> monthlyUsedDays = new TreeMap<>();
+		double totalUsedDays = 0.0;
+		for (Tuple row : rows) {
+			double monthUsedDays = LeaveUsage.toDays(row.get(minutes));
+			monthlyUsedDays.put(row.get(month), monthUsedDays);
+			totalUsedDays += monthUsedDays;
+		}
+		for (Tuple row : fetchUsedDaysWithoutLeaveDays(targetMember, year)) {
+			double monthUsedDays = row.get(1, Double.class);
+			monthlyUsedDays.merge(row.get(0, Integer.class), monthUsedDays, Double::sum);
+			totalUsedDays += monthUsedDays;
+		}
+
+		MemberUsedLeavesResponseDto stats = new MemberUsedLeavesResponseDto(targetMember.getId(),
+			targetMember.getName(), 15.0, totalUsedDays);
+		stats.updateMonthlyUsedDays(monthlyUsedDays);
+		return stats;
+	}
+
+	/**
+	 * 해당 연도에 시작한 연차 소진 일정 중 LEAVE_DAY 행이 하나도 없는 것의 차감 일수 (시작 월별)
+	 * - 차감 일수가 0 인 일정(근무일 없음)은 원래 행이 없으므로 제외
+	 */
+	private List<Tuple> fetchUsedDaysWithoutLeaveDays(Member targetMember, int year) {
+		QLeaveDay expanded = new QLeaveDay("expanded");
+		NumberExpression<Integer> month = leaveAndHoliday.startDate.month();
 		return queryFactory
-			.select(Projections.constructor(MemberUsedLeavesResponseDto.class,
-				Expressions.constant(targetMember.getId()),
-				Expressions.constant(targetMember.getName()),
-				Expressions.constant(15.0),
-				leaveAndHoliday.usedLeaveDays.sum()
-			))
+			.select(month, leaveAndHoliday.usedLeaveDays.sum())
 			.from(leaveAndHoliday)
 			.where(
-				leaveAndHoliday.member.id.eq(targetMember.getId())
-					.and(leaveAndHoliday.startDate.year().eq(year))
+				leaveAndHoliday.member.id.eq(targetMember.getId()),
+				leaveAndHoliday.startDate.between(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)),
+				leaveAndHoliday.leaveType.in(CONSUMES_LEAVE_TYPES),
+				leaveAndHoliday.usedLeaveDays.gt(0.0),
+				JPAExpressions.selectOne()
+					.from(expanded)
+					.where(expanded.leaveId.eq(leaveAndHoliday.id))
+					.notExists()
 			)
-			.fetchOne();
+			.groupBy(month)
+			.fetch();
 	}
 
 	/**
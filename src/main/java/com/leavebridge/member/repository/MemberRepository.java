@@ -1,14 +1,20 @@
 package com.leavebridge.member.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.leavebridge.member.dto.MemberTokenState;
 import com.leavebridge.member.entitiy.Member;
 
+import jakarta.persistence.LockModeType;
+
 public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByLoginId(String username);
 
@@ -17,4 +23,35 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	void updatePassword(@Param("memberId") Long memberId, @Param("newPassword") String newPassword);
 
 	boolean existsByLoginId(String loginId);
+
+	Optional<Member> findByIcsToken(String icsToken);
+
+	/**
+	 * 리프레시 토큰 버전이 그대로일 때만 1 증가 - 같은 토큰으로 동시에 재발급하면 한 요청만 1 을 받음
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Member m SET m.tokenVersion = m.tokenVersion + 1, m.tokenRotatedAt = :rotatedAt "
+		+ "WHERE m.id = :memberId AND m.tokenVersion = :tokenVersion")
+	int rotateTokenVersion(@Param("memberId") Long memberId, @Param("tokenVersion") int tokenVersion,
+		@Param("rotatedAt") LocalDateTime rotatedAt);
+
+	/**
+	 * 발급된 리프레시 토큰 전부 무효화 (로그아웃, 비밀번호 변경)
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Member m SET m.tokenVersion = m.tokenVersion + 1, m.tokenRotatedAt = NULL WHERE m.id = :memberId")
+	void revokeTokens(@Param("memberId") Long memberId);
+
+	@Query("SELECT new com.leavebridge.member.dto.MemberTokenState(m.tokenVersion, m.tokenRotatedAt) "
+		+ "FROM Member m WHERE m.id = :memberId")
+	Optional<MemberTokenState> findTokenState(@Param("memberId") Long memberId);
+
+	/**
+	 * 회원 행 잠금 - 같은 회원의 일정 등록/수정을 직렬화
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM Member m WHERE m.id = :memberId")
+	Optional<Member> findByIdForUpdate(@Param("memberId") Long memberId);
 }
@@ -1,7 +1,10 @@
 package com.leavebridge.member.service;
 
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedModel;
@@ -12,7 +15,10 @@ import org.springframework.security.web.authentication.logout.SecurityContextLog
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.leavebridge.calendar.cache.MonthKeyedCacheRegistry;
+import com.leavebridge.global.cache.SingleFlight;
 import com.leavebridge.member.dto.FindMemberListReponseDto;
+import com.leavebridge.member.dto.IcsFeedResponseDto;
 import com.leavebridge.member.dto.LeaveDetailDto;
 import com.leavebridge.member.dto.MemberUsedLeavesResponseDto;
 import com.leavebridge.member.dto.RequestChangePasswordRequest;
@@ -21,7 +27,10 @@ import com.leavebridge.member.entitiy.Member;
 import com.leavebridge.member.entitiy.MemberRole;
 import com.leavebridge.member.repository.MemberQueryRepository;
 import com.leavebridge.member.repository.MemberRepository;
+import com.leavebridge.member.token.TokenService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +42,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MemberService {
 
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	/**
+	 * 사용 현황 조회 묶음 키 - 일정 변경이 커밋되면 changeGeneration 이 바뀌어 이후 요청은 새로 읽음
+	 */
+	private record UsedLeavesKey(Long memberId, Integer year, Pageable pageable, long changeGeneration) {
+	}
+
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
 
@@ -42,6 +59,16 @@ public class MemberService {
 	private HttpServletResponse response;
 
 	private final MemberQueryRepository memberQueryRepository;
+	private final ObjectProvider<TokenService> tokenServiceProvider;  // 토큰 모드일 때만 존재
+	private final MonthKeyedCacheRegistry monthKeyedCacheRegistry;
+	private final MeterRegistry meterRegistry;
+
+	private SingleFlight<UsedLeavesKey, MemberUsedLeavesResponseDto> usedLeavesLoads;
+
+	@PostConstruct
+	void initSingleFlight() {
+		usedLeavesLoads = new SingleFlight<>("member-used-leaves", meterRegistry);
+	}
 
 	/**
 	 * 연차 사용 현황 조회 시 회원 목록 반환
@@ -52,8 +79,14 @@ public class MemberService {
 
 	/**
 	 * 회원의 연차 사용 현황 조회
+	 * - 같은 회원/연도/페이지를 동시에 조회하면 쿼리는 한 번만 실행하고 결과를 같이 받음
 	 */
 	public MemberUsedLeavesResponseDto getMemberUsedLeaves(Long memberId, Integer year, Pageable pageable) {
+		UsedLeavesKey key = new UsedLeavesKey(memberId, year, pageable, monthKeyedCacheRegistry.changeGeneration());
+		return usedLeavesLoads.execute(key, () -> loadMemberUsedLeaves(memberId, year, pageable));
+	}
+
+	private MemberUsedLeavesResponseDto loadMemberUsedLeaves(Long memberId, Integer year, Pageable pageable) {
 
 		// 0. 사용자 조회
 		Member member = memberRepository.findById(memberId).orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
@@ -88,6 +121,40 @@ public class MemberService {
 		// 4) 세션 초기화 - SecurityContextLogoutHandler 로 세션/컨텍스트 무효화
 		LogoutHandler logoutHandler = new SecurityContextLogoutHandler();
 		logoutHandler.logout(request, response, SecurityContextHolder.getContext().getAuthentication());
+
+		// 5) 토큰 모드면 캐시된 회원 정보와 토큰 쿠키도 정리 (기존 리프레시 토큰은 비밀번호 지문 불일치로 거부됨)
+		tokenServiceProvider.ifAvailable(tokenService -> tokenService.logout(member.getId(), response));
+	}
+
+	/**
+	 * 개인 iCalendar 구독 주소 조회, 없으면 발급
+	 */
+	@Transactional
+	public IcsFeedResponseDto getOrIssueIcsFeed(Member member) {
+		Member persisted = memberRepository.findById(member.getId())
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		if (persisted.getIcsToken() == null) {
+			persisted.updateIcsToken(newIcsToken());
+		}
+		return IcsFeedResponseDto.of(persisted.getIcsToken());
+	}
+
+	/**
+	 * 구독 주소 재발급 - 기존 주소는 바로 404
+	 */
+	@Transactional
+	public IcsFeedResponseDto reissueIcsFeed(Member member) {
+		Member persisted = memberRepository.findById(member.getId())
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		persisted.updateIcsToken(newIcsToken());
+		log.info("MemberService :: reissueIcsFeed memberId = {}", persisted.getId());
+		return IcsFeedResponseDto.of(persisted.getIcsToken());
+	}
+
+	private static String newIcsToken() {
+		byte[] bytes = new byte[32];
+		SECURE_RANDOM.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
 	}
 
 	public void checkMemberName(String loginId) {
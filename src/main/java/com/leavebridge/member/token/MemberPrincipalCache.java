@@ -0,0 +1,70 @@
+package com.leavebridge.member.token;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.leavebridge.member.entitiy.CustomMemberDetails;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 모드에서 @AuthenticationPrincipal(expression = "member") 용 회원 캐시
+ * - 세션 역직렬화 대신 회원 id 로 짧게(기본 5분) 캐싱, 노드마다 독립적으로 가짐
+ * - 비밀번호 변경 등 회원 정보 변경 시 evict
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.token", name = "enabled", havingValue = "true")
+@Slf4j
+public class MemberPrincipalCache {
+
+	private record CachedPrincipal(CustomMemberDetails details, long expiresAtNanos) {
+		boolean isExpired(long now) {
+			return now - expiresAtNanos >= 0;
+		}
+	}
+
+	private final MemberRepository memberRepository;
+	private final long ttlNanos;
+	private final int maxSize;
+	private final ConcurrentHashMap<Long, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+	public MemberPrincipalCache(MemberRepository memberRepository,
+		@Value("${auth.token.principal-cache.ttl:5m}") Duration ttl,
+		@Value("${auth.token.principal-cache.max-size:1000}") int maxSize) {
+		this.memberRepository = memberRepository;
+		this.ttlNanos = ttl.toNanos();
+		this.maxSize = maxSize;
+	}
+
+	public CustomMemberDetails get(Long memberId) {
+		long now = System.nanoTime();
+		CachedPrincipal cached = cache.get(memberId);
+		if (cached != null && !cached.isExpired(now)) {
+			return cached.details();
+		}
+
+		Member member = memberRepository.findById(memberId)
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		CustomMemberDetails details = new CustomMemberDetails(member);
+
+		// 사내 인원 규모라 정교한 LRU 대신 상한 초과 시 만료 항목 정리, 그래도 넘치면 비움
+		if (cache.size() >= maxSize) {
+			cache.values().removeIf(c -> c.isExpired(now));
+			if (cache.size() >= maxSize) {
+				cache.clear();
+			}
+		}
+		cache.put(memberId, new CachedPrincipal(details, now + ttlNanos));
+		return details;
+	}
+
+	public void evict(Long memberId) {
+		cache.remove(memberId);
+	}
+}
@@ -0,0 +1,35 @@
+package com.leavebridge.member.token;
+
+import java.io.IOException;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 모드 인증 필터
+ * - 서블릿 필터로 중복 등록되지 않도록 @Component 없이 SecurityConfig 에서 직접 생성
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 통과 → 기존 EntryPoint 가 401/302 처리
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+	private final TokenService tokenService;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		tokenService.authenticate(request, response).ifPresent(authentication -> {
+			SecurityContext context = SecurityContextHolder.createEmptyContext();
+			context.setAuthentication(authentication);
+			SecurityContextHolder.setContext(context);
+		});
+		filterChain.doFilter(request, response);
+	}
+}
@@ -0,0 +1,128 @@
+package com.leavebridge.member.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.entitiy.MemberRole;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+import lombok.Getter;
+
+/**
+ * HS256 서명 토큰 발급/검증
+ * - sub : 회원 id, roles : ROLE_ADMIN, ROLE_GERMANY 등 → 요청마다 세션/DB 없이 권한 판단 가능
+ * - pwd : 비밀번호 해시 지문, 비밀번호 변경 시 기존 리프레시 토큰 무효화 용도
+ * - ver : 리프레시 토큰 버전 (MEMBER.TOKEN_VERSION), 재발급/로그아웃 시 이전 리프레시 토큰 무효화 용도
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.token", name = "enabled", havingValue = "true")
+public class TokenProvider {
+
+	public static final String ACCESS_TOKEN_TYPE = "access";
+	public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+	private static final String ISSUER = "LeaveBridge";
+	private static final int MIN_SECRET_BYTES = 32;  // HS256 최소 키 길이
+
+	private final JwtEncoder jwtEncoder;
+	private final JwtDecoder jwtDecoder;
+
+	@Getter
+	private final Duration accessTokenTtl;
+	@Getter
+	private final Duration refreshTokenTtl;
+
+	public record TokenClaims(Long memberId, List<MemberRole> roles, String passwordFingerprint, int tokenVersion) { }
+
+	public TokenProvider(@Value("${auth.token.secret}") String secret,
+		@Value("${auth.token.access-ttl:15m}") Duration accessTokenTtl,
+		@Value("${auth.token.refresh-ttl:14d}") Duration refreshTokenTtl) {
+		byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+		if (keyBytes.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException("auth.token.secret 은 32바이트 이상이어야 합니다.");
+		}
+		SecretKey key = new SecretKeySpec(keyBytes, "HmacSHA256");
+		this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+		this.jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
+	}
+
+	public String createAccessToken(Member member) {
+		return createToken(member, ACCESS_TOKEN_TYPE, accessTokenTtl, member.getTokenVersion());
+	}
+
+	public String createRefreshToken(Member member, int tokenVersion) {
+		return createToken(member, REFRESH_TOKEN_TYPE, refreshTokenTtl, tokenVersion);
+	}
+
+	/**
+	 * 서명, 만료, 토큰 종류 검증 후 클레임 반환
+	 * @throws JwtException 위조, 만료, 종류 불일치
+	 */
+	public TokenClaims parse(String token, String expectedType) {
+		Jwt jwt = jwtDecoder.decode(token);  // 서명 + exp 검증
+		if (!expectedType.equals(jwt.getClaimAsString("typ"))) {
+			throw new JwtException("토큰 종류가 올바르지 않습니다.");
+		}
+		List<MemberRole> roles = jwt.getClaimAsStringList("roles").stream()
+			.map(MemberRole::valueOf)
+			.toList();
+		// 버전 클레임 도입 전 토큰은 -1 (리프레시 거부)
+		Number version = jwt.getClaim("ver");
+		return new TokenClaims(Long.valueOf(jwt.getSubject()), roles, jwt.getClaimAsString("pwd"),
+			version != null ? version.intValue() : -1);
+	}
+
+	/**
+	 * 비밀번호 해시 지문 (해시 앞 16자리) - 토큰에 비밀번호 해시를 그대로 싣지 않기 위함
+	 */
+	public static String passwordFingerprint(String passwordHash) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(passwordHash.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest).substring(0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String createToken(Member member, String type, Duration ttl, int tokenVersion) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+			.issuer(ISSUER)
+			.subject(String.valueOf(member.getId()))
+			.issuedAt(now)
+			.expiresAt(now.plus(ttl))
+			.claim("typ", type)
+			.claim("roles", member.getMemberRoleList().stream().map(MemberRole::name).toList())
+			.claim("pwd", passwordFingerprint(member.getPassword()))
+			.claim("ver", tokenVersion)
+			.build();
+		JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+		return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+	}
+}
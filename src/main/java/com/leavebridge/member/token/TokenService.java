@@ -0,0 +1,208 @@
+package com.leavebridge.member.token;
+
+import static com.leavebridge.member.token.TokenProvider.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.leavebridge.global.datasource.PrimaryReads;
+import com.leavebridge.member.dto.MemberTokenState;
+import com.leavebridge.member.dto.TokenResponseDto;
+import com.leavebridge.member.entitiy.CustomMemberDetails;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 모드 인증 처리
+ * - API 클라이언트 : Authorization: Bearer {accessToken}, 만료 시 /api/v1/auth/refresh
+ * - 브라우저 : HttpOnly 쿠키, 액세스 토큰 만료 시 리프레시 쿠키로 필터에서 자동 재발급
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "auth.token", name = "enabled", havingValue = "true")
+public class TokenService {
+
+	public static final String ACCESS_TOKEN_COOKIE = "LB_ACCESS";
+	public static final String REFRESH_TOKEN_COOKIE = "LB_REFRESH";
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final TokenProvider tokenProvider;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final MemberRepository memberRepository;
+	private final PasswordEncoder passwordEncoder;
+
+	@Value("${auth.token.cookie-secure:true}")
+	private boolean cookieSecure;
+
+	@Value("${auth.token.rotation-grace:10s}")
+	private Duration rotationGrace;
+
+	/**
+	 * 아이디/비밀번호로 토큰 발급
+	 */
+	public TokenResponseDto issue(String loginId, String password) {
+		Member member = memberRepository.findByLoginId(loginId)
+			.filter(m -> passwordEncoder.matches(password, m.getPassword()))
+			.orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."));
+		return issue(member);
+	}
+
+	public TokenResponseDto issue(Member member) {
+		return issue(member, member.getTokenVersion());
+	}
+
+	private TokenResponseDto issue(Member member, int tokenVersion) {
+		return TokenResponseDto.builder()
+			.accessToken(tokenProvider.createAccessToken(member))
+			.refreshToken(tokenProvider.createRefreshToken(member, tokenVersion))
+			.expiresIn(tokenProvider.getAccessTokenTtl().toSeconds())
+			.build();
+	}
+
+	/**
+	 * 리프레시 토큰으로 재발급 (리프레시 토큰도 함께 교체)
+	 * - 비밀번호가 바뀐 뒤의 리프레시 토큰은 거부
+	 * - 회원의 토큰 버전을 올려 쓴 리프레시 토큰은 다시 쓸 수 없음 (유출된 토큰도 정상 사용자가 한 번 재발급하면 무효)
+	 * - 방금 교체된 직전 버전은 rotation-grace 동안만 허용 (브라우저가 만료된 쿠키로 동시에 여러 요청을 보낸 경우)
+	 */
+	public TokenResponseDto refresh(String refreshToken) {
+		if (!StringUtils.hasText(refreshToken)) {
+			throw new BadCredentialsException("리프레시 토큰이 없습니다.");
+		}
+		TokenClaims claims;
+		try {
+			claims = tokenProvider.parse(refreshToken, REFRESH_TOKEN_TYPE);
+		} catch (JwtException e) {
+			throw new BadCredentialsException("유효하지 않은 리프레시 토큰입니다.", e);
+		}
+
+		Member member = memberRepository.findById(claims.memberId())
+			.orElseThrow(() -> new BadCredentialsException("존재하지 않는 회원입니다."));
+		if (!passwordFingerprint(member.getPassword()).equals(claims.passwordFingerprint())) {
+			throw new BadCredentialsException("비밀번호가 변경되어 다시 로그인해야 합니다.");
+		}
+		memberPrincipalCache.evict(member.getId());  // 재발급 시점엔 최신 회원 정보로
+
+		if (memberRepository.rotateTokenVersion(member.getId(), claims.tokenVersion(), LocalDateTime.now()) == 1) {
+			return issue(member, claims.tokenVersion() + 1);
+		}
+		// 버전이 이미 바뀜 - 엔티티는 요청 안에서 캐시됐을 수 있어 Primary 에서 컬럼만 다시 읽음
+		MemberTokenState state = PrimaryReads.call(() -> memberRepository.findTokenState(member.getId()))
+			.orElseThrow(() -> new BadCredentialsException("존재하지 않는 회원입니다."));
+		boolean justRotated = claims.tokenVersion() == state.tokenVersion() - 1 && state.rotatedAt() != null
+			&& state.rotatedAt().plus(rotationGrace).isAfter(LocalDateTime.now());
+		if (!justRotated) {
+			log.info("TokenService :: 이미 쓰였거나 로그아웃된 리프레시 토큰 memberId = {}, version = {}/{}", member.getId(),
+				claims.tokenVersion(), state.tokenVersion());
+			throw new BadCredentialsException("만료된 리프레시 토큰입니다. 다시 로그인해주세요.");
+		}
+		return issue(member, state.tokenVersion());
+	}
+
+	/**
+	 * 요청의 액세스 토큰(헤더 → 쿠키 순)으로 인증 객체 생성
+	 * - 브라우저 쿠키의 액세스 토큰이 만료됐으면 리프레시 쿠키로 재발급 후 응답 쿠키 갱신
+	 */
+	public Optional<UsernamePasswordAuthenticationToken> authenticate(HttpServletRequest request,
+		HttpServletResponse response) {
+		String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (header != null && header.startsWith(BEARER_PREFIX)) {
+			// API 클라이언트는 자동 재발급 없이 401 → /refresh 호출
+			return parseAccessToken(header.substring(BEARER_PREFIX.length()));
+		}
+
+		Optional<UsernamePasswordAuthenticationToken> fromCookie = readCookie(request, ACCESS_TOKEN_COOKIE)
+			.flatMap(this::parseAccessToken);
+		if (fromCookie.isPresent()) {
+			return fromCookie;
+		}
+
+		return readCookie(request, REFRESH_TOKEN_COOKIE).flatMap(refreshToken -> {
+			try {
+				TokenResponseDto renewed = refresh(refreshToken);
+				writeCookies(response, renewed);
+				return parseAccessToken(renewed.accessToken());
+			} catch (BadCredentialsException e) {
+				log.info("TokenService :: 리프레시 실패로 쿠키 삭제 cause = {}", e.getMessage());
+				clearCookies(response);
+				return Optional.empty();
+			}
+		});
+	}
+
+	public void writeCookies(HttpServletResponse response, TokenResponseDto tokens) {
+		addCookie(response, ACCESS_TOKEN_COOKIE, tokens.accessToken(), tokenProvider.getAccessTokenTtl());
+		addCookie(response, REFRESH_TOKEN_COOKIE, tokens.refreshToken(), tokenProvider.getRefreshTokenTtl());
+	}
+
+	public void clearCookies(HttpServletResponse response) {
+		addCookie(response, ACCESS_TOKEN_COOKIE, "", Duration.ZERO);
+		addCookie(response, REFRESH_TOKEN_COOKIE, "", Duration.ZERO);
+	}
+
+	/**
+	 * 로그아웃, 비밀번호 변경 시 발급된 리프레시 토큰 무효화, 쿠키와 캐시 정리
+	 */
+	public void logout(Long memberId, HttpServletResponse response) {
+		memberRepository.revokeTokens(memberId);
+		memberPrincipalCache.evict(memberId);
+		clearCookies(response);
+	}
+
+	public Optional<String> readRefreshCookie(HttpServletRequest request) {
+		return readCookie(request, REFRESH_TOKEN_COOKIE);
+	}
+
+	private Optional<UsernamePasswordAuthenticationToken> parseAccessToken(String token) {
+		try {
+			TokenClaims claims = tokenProvider.parse(token, ACCESS_TOKEN_TYPE);
+			CustomMemberDetails principal = memberPrincipalCache.get(claims.memberId());
+			// 권한은 토큰 값 그대로 사용 (MemberRole 이 GrantedAuthority 라 HomeController 의 contains 비교도 동일하게 동작)
+			return Optional.of(UsernamePasswordAuthenticationToken.authenticated(principal, null, claims.roles()));
+		} catch (JwtException | IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	private Optional<String> readCookie(HttpServletRequest request, String name) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return Optional.empty();
+		}
+		return Arrays.stream(cookies)
+			.filter(c -> name.equals(c.getName()) && StringUtils.hasText(c.getValue()))
+			.map(Cookie::getValue)
+			.findFirst();
+	}
+
+	private void addCookie(HttpServletResponse response, String name, String value, Duration maxAge) {
+		ResponseCookie cookie = ResponseCookie.from(name, value)
+			.httpOnly(true)
+			.secure(cookieSecure)
+			.sameSite("Lax")
+			.path("/")
+			.maxAge(maxAge)
+			.build();
+		response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+	}
+}
@@ -1,6 +1,7 @@
 // package com.leavebridge.slack.scheduler;
 //
 // import java.io.IOException;
+// import java.time.Duration;
 // import java.time.LocalDate;
 // import java.time.format.DateTimeFormatter;
 // import java.util.Locale;
@@ -10,6 +11,7 @@
 // import org.springframework.stereotype.Component;
 // import org.springframework.transaction.annotation.Transactional;
 //
+// import com.leavebridge.lease.service.SchedulerLeaseService;
 // import com.leavebridge.slack.client.SlackApiClient;
 // import com.leavebridge.slack.service.BusinessDayService;
 // import com.leavebridge.slack.service.ReminderSkipService;
@@ -27,11 +29,18 @@
 // 	private final SlackApiClient slackApiClient;
 // 	private final BusinessDayService businessDayService;
 // 	private final ReminderSkipService skipService;
+// 	private final SchedulerLeaseService schedulerLeaseService;
 //
 // 	private static final DateTimeFormatter KOR = DateTimeFormatter.ofPattern("yyyy년 M월 d일(E)", Locale.KOREAN);
 //
 // 	@Scheduled(cron = "0 0 8 * * *", zone = "Asia/Seoul")
-// 	public void morningReminder() {
+// 	public void morningReminder() throws Exception {
+// 		// 여러 인스턴스 중 한 노드만 슬랙 메시지 전송 (중복 알림 방지)
+// 		schedulerLeaseService.runWithLease("morningReminder", Duration.ofMinutes(10), Duration.ofMinutes(5),
+// 			this::sendMorningReminder);
+// 	}
+//
+// 	private void sendMorningReminder() {
 // 		LocalDate today = LocalDate.now();
 //
 // 		/**
@@ -71,9 +80,9 @@
 // 	 * 이전 날짜들의 스킵 날짜 DB 정리
 // 	 **/
 // 	@Scheduled(cron = "0 0 1 * * *", zone = "Asia/Seoul")
-// 	@Transactional
-// 	public void midnightClean() {
-// 		skipService.cleanupOldSkipDate(LocalDate.now());
+// 	public void midnightClean() throws Exception {
+// 		schedulerLeaseService.runWithLease("midnightClean", Duration.ofMinutes(10), Duration.ofMinutes(5),
+// 			() -> skipService.cleanupOldSkipDate(LocalDate.now()));
 // 	}
 //
 // 	/**
@@ -82,7 +91,13 @@
 // 	@Scheduled(cron = "0 0 16 * * *", zone = "Asia/Seoul")
 // 	// @Scheduled(cron = "0 */1 * * * *") //1분마다 적용 확인을 위해 일단 달아둠
 // 	@Transactional(rollbackFor = {Exception.class})
-// 	public void preHolidayReminder() throws SlackApiException, IOException {
+// 	public void preHolidayReminder() throws Exception {
+// 		// 여러 인스턴스 중 한 노드만 슬랙 메시지 전송 (중복 알림 방지)
+// 		schedulerLeaseService.runWithLease("preHolidayReminder", Duration.ofMinutes(10), Duration.ofMinutes(5),
+// 			this::sendPreHolidayReminder);
+// 	}
+//
+// 	private void sendPreHolidayReminder() throws SlackApiException, IOException {
 // 		LocalDate today = LocalDate.now();
 //
 // 		/**
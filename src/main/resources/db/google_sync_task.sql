@@ -0,0 +1,12 @@
+-- 구글 캘린더 장애(서킷 브레이커 열림) 동안 DB 에만 반영된 일정 변경, 브레이커가 닫히면 ID 순서대로 재생 후 삭제
+CREATE TABLE IF NOT EXISTS GOOGLE_SYNC_TASK
+(
+    ID              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    LEAVE_ID        BIGINT       NULL,
+    GOOGLE_EVENT_ID VARCHAR(255) NULL,
+    OPERATION       VARCHAR(10)  NOT NULL,
+    ATTEMPTS        INT          NOT NULL DEFAULT 0,
+    LAST_ERROR      VARCHAR(500) NULL,
+    CREATED_DATE    DATETIME     NULL,
+    INDEX IDX_GOOGLE_SYNC_TASK_LEAVE (LEAVE_ID)
+);
@@ -0,0 +1,14 @@
+-- 부재 일정의 근무일 단위 파생 행 (LeaveDayService 가 일정 등록/수정/삭제, 휴일 변경 시 갱신)
+-- 기존 데이터는 POST /api/v1/admin/leaves/days/rebuild?from=&to= 로 채움
+CREATE TABLE IF NOT EXISTS LEAVE_DAY
+(
+    ID         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    LEAVE_ID   BIGINT      NOT NULL,
+    MEMBER_ID  BIGINT      NOT NULL,
+    DAY        DATE        NOT NULL,
+    MINUTES    INT         NOT NULL,
+    LEAVE_TYPE VARCHAR(50) NOT NULL,
+    UNIQUE INDEX UK_LEAVE_DAY_LEAVE (LEAVE_ID, DAY),
+    INDEX IDX_LEAVE_DAY_MEMBER (MEMBER_ID, DAY),
+    INDEX IDX_LEAVE_DAY_DAY (DAY, MEMBER_ID)
+);
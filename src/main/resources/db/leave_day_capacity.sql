@@ -0,0 +1,9 @@
+-- 날짜별 부재 인원 카운터 (LeaveCapacityService)
+-- 날짜 x 풀 당 한 행, 한도 검사는 이 행 하나에 대한 조건부 UPDATE 로 원자적으로 이뤄진다
+CREATE TABLE IF NOT EXISTS LEAVE_DAY_CAPACITY
+(
+    DAY          DATE        NOT NULL,
+    POOL         VARCHAR(20) NOT NULL,
+    ABSENT_COUNT INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (DAY, POOL)
+);
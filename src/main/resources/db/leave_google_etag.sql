@@ -0,0 +1,5 @@
+-- 구글 이벤트 etag 와 마지막으로 반영한 관리 필드 스냅샷 (수정 시 조회 없이 If-Match PATCH 한 번)
+-- 기존 일정은 비어 있어도 되고, 첫 수정 때 구글 조회 후 채워짐
+ALTER TABLE LEAVE_AND_HOLIDAYS
+    ADD COLUMN GOOGLE_ETAG     VARCHAR(100)  NULL,
+    ADD COLUMN GOOGLE_SNAPSHOT VARCHAR(2000) NULL;
@@ -0,0 +1,2 @@
+-- 같은 회원 일정 기간 중복 검사용 인덱스 (MEMBER_ID 동등 + START_DATE 범위 탐색)
+CREATE INDEX IDX_LEAVE_MEMBER_PERIOD ON LEAVE_AND_HOLIDAYS (MEMBER_ID, START_DATE, END_DATE);
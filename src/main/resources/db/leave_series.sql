@@ -0,0 +1,32 @@
+-- 반복 일정(회의) 마스터, 발생일은 조회 기간만큼 전개
+-- END_DATE 는 UNTIL/COUNT 로 계산한 마지막 발생 가능일, 끝없는 규칙이면 NULL
+CREATE TABLE IF NOT EXISTS LEAVE_SERIES
+(
+    ID              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    TITLE           VARCHAR(100) NULL,
+    DESCRIPTION     VARCHAR(255) NULL,
+    MEMBER_ID       BIGINT       NOT NULL,
+    LEAVE_TYPE      VARCHAR(50)  NOT NULL,
+    START_DATE      DATE         NOT NULL,
+    END_DATE        DATE         NULL,
+    START_TIME      TIME         NOT NULL,
+    END_TIME        TIME         NOT NULL,
+    RECURRENCE_RULE VARCHAR(200) NOT NULL,
+    CREATED_DATE    DATETIME(6)  NULL,
+    UPDATED_DATE    DATETIME(6)  NULL,
+    INDEX IDX_LEAVE_SERIES_PERIOD (START_DATE, END_DATE),
+    INDEX IDX_LEAVE_SERIES_MEMBER (MEMBER_ID, START_DATE)
+);
+
+-- 발생일 단위 예외 (취소, 시간/제목 변경)
+CREATE TABLE IF NOT EXISTS LEAVE_SERIES_EXCEPTION
+(
+    ID              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    SERIES_ID       BIGINT       NOT NULL,
+    OCCURRENCE_DATE DATE         NOT NULL,
+    CANCELLED       BIT          NOT NULL DEFAULT 0,
+    TITLE           VARCHAR(100) NULL,
+    START_TIME      TIME         NULL,
+    END_TIME        TIME         NULL,
+    UNIQUE INDEX UK_LEAVE_SERIES_EXCEPTION (SERIES_ID, OCCURRENCE_DATE)
+);
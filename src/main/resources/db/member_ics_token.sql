@@ -0,0 +1,5 @@
+-- 개인 iCalendar 구독 주소용 비밀 토큰
+-- 토큰을 재발급하면 이전 구독 주소는 404 가 된다
+ALTER TABLE MEMBER
+    ADD COLUMN ICS_TOKEN VARCHAR(64) NULL,
+    ADD UNIQUE INDEX UK_MEMBER_ICS_TOKEN (ICS_TOKEN);
@@ -0,0 +1,6 @@
+-- 리프레시 토큰 버전 (토큰 모드)
+-- 재발급하면 1 증가해 쓴 리프레시 토큰은 다시 쓸 수 없고, 로그아웃하면 1 증가해 발급된 토큰이 모두 거부된다
+-- 이 컬럼이 생기기 전에 발급된 리프레시 토큰에는 버전이 없어 한 번 다시 로그인해야 한다
+ALTER TABLE MEMBER
+    ADD COLUMN TOKEN_VERSION    INT         NOT NULL DEFAULT 0,
+    ADD COLUMN TOKEN_ROTATED_AT DATETIME(6) NULL;
@@ -0,0 +1,9 @@
+-- 스케줄 잡 분산 락(리스) 테이블
+-- 잡 이름당 한 행, LOCKED_UNTIL 이 지나면 다른 노드가 가져갈 수 있다 (노드가 죽어도 만료 후 자동 해제)
+CREATE TABLE IF NOT EXISTS SCHEDULER_LEASE
+(
+    JOB_NAME     VARCHAR(100) NOT NULL PRIMARY KEY,
+    LOCKED_UNTIL DATETIME(3)  NOT NULL,
+    LOCKED_AT    DATETIME(3)  NOT NULL,
+    LOCKED_BY    VARCHAR(255) NOT NULL
+);
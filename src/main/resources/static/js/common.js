@@ -0,0 +1,153 @@
+/*
+    좀 더 친숙한 시간 표현대로 변경하는 함수
+*/
+function formatKoreanDateTime(dateStr, timeStr) {
+    // ISO 문자열로 합치기
+    // timeStr이 초(sec)까지 포함하지 않을 수도 있어서 pad 보장
+    const normalizedTime = timeStr.length === 5
+        ? `${timeStr}:00`
+        : timeStr;
+    const isoString = `${dateStr}T${normalizedTime}`;
+
+    // Date 객체 생성 (로컬 타임존 기반)
+    const dt = new Date(isoString);
+
+    // Intl.DateTimeFormat 으로 한 번에 포맷
+    return new Intl.DateTimeFormat('ko-KR', {
+        year: 'numeric',
+        month: 'long',
+        day: 'numeric',
+        hour: 'numeric',
+        minute: 'numeric',
+        hour12: true
+    }).format(dt);
+}
+
+
+// fetch 요청 리다이렉트 적용되도록 오버라이드
+(() => {
+    const _fetch = window.fetch;
+    window.fetch = function(input, init = {}) {
+        init.credentials = init.credentials || 'include';
+        return _fetch(input, init)
+            .then(response => {
+                // 1) 인증 실패나 리다이렉트
+                if (response.status === 401) {
+                    // 리다이렉트 처리
+                    if (typeof showToast === 'function') {
+                        showToast('로그인이 필요한 기능입니다.', 'info');
+                    }
+
+                    // 즉시 리다이렉트
+                    window.location.replace('/members/login');
+
+                    // 빈 응답을 반환하여 본문에서 안전하게 처리되도록
+                    return new Response(null, { status: 401, statusText: 'Unauthorized' });
+                }
+
+                // 2) 400~499 클라이언트 에러
+                if (response.status >= 400 && response.status < 500) {
+                    response.clone().text().then(text => {
+                        showToast(`요청 오류 (${response.status}): ${text || response.statusText}`, 'error');
+                    });
+                    // 필요에 따라 에러를 던지거나, 응답 객체를 그대로 반환할 수도 있음
+                }
+                // 3) 500~599 서버 에러
+                else if (response.status >= 500) {
+                    showToast(`서버 오류 (${response.status}): 잠시 후 다시 시도해주세요.`, 'error');
+                }
+
+                return response;
+            })
+            .catch(err => {
+                console.error('Global fetch error:', err);
+                // 로그인 필요 에러는 다시 던지기 (본문에서 처리하지 않도록)
+                if (err.message === '로그인 필요') {
+                    throw err;
+                }
+                // 다른 네트워크 에러만 토스트 표시
+                if (typeof showToast === 'function') {
+                    showToast(`네트워크 오류: ${err.message}`, 'error');
+                }
+                throw err;
+            });
+    };
+})();
+
+
+// Vanilla JS로 CSRF 메타 태그를 꺼내되, 없으면 빈 문자열('')
+const header = document
+        .querySelector("meta[name='_csrf_header']")
+        ?.getAttribute("content")
+    ?? "";
+
+const token = document
+        .querySelector("meta[name='_csrf']")
+        ?.getAttribute("content")
+    ?? "";
+
+// 1) 기본 헤더
+const requestHeaders = {
+    'Content-Type': 'application/json'
+};
+
+// 2) CSRF 헤더가 유효하면 추가
+if (header && token) {
+    requestHeaders[header] = token;
+}
+
+document.addEventListener('DOMContentLoaded', () => {
+    const toastEl = document.getElementById('liveToast');
+    if (!toastEl) {
+        return console.error('Toast element not found!');
+    }
+
+    // Bootstrap Toast 인스턴스 생성 (3초 후 자동 숨김)
+    const bsToast = new bootstrap.Toast(toastEl, {
+        delay: 3000,
+        autohide: true
+    });
+
+    // 토스트 클릭 시 자동으로 숨기기
+    toastEl.addEventListener('click', () => {
+        bsToast.hide();
+    });
+
+    // 메시지 및 스타일 설정 함수
+    window.showToast = (message, type = 'info') => {
+        const iconEl = document.getElementById('toastIcon');
+        const bodyEl = document.getElementById('toastBody');
+
+        // (1) 타입별 설정
+        const types = {
+            success: {bg: 'bg-success', text: 'text-white', icon: '✔️'},
+            error: {bg: 'bg-danger', text: 'text-white', icon: '❌'},
+            info: {bg: 'bg-info', text: 'text-white', icon: 'ℹ️'},
+            warning: {bg: 'bg-warning', text: 'text-dark', icon: '⚠️'}
+        };
+        const cfg = types[type] || types.info;
+
+        // (2) 기존 색상 클래스 제거
+        Object.values(types).forEach(t => {
+            toastEl.classList.remove(t.bg, t.text);
+        });
+
+        // (3) 새 배경·텍스트 색상 클래스 추가
+        toastEl.classList.add(cfg.bg, cfg.text);
+
+        // (4) 아이콘·메시지 설정
+        iconEl.textContent = cfg.icon;
+        bodyEl.textContent = message;
+
+        // (5) 진행 바 리셋 및 애니메이션 재실행
+        const prog = toastEl.querySelector('.toast-progress');
+        prog.style.transition = 'none';
+        prog.style.width = '100%';
+        // void prog.offsetWidth;
+        prog.style.transition = 'width 3s linear';
+        prog.style.width = '0%';
+
+        // (6) 토스트 표시
+        bsToast.show();
+    };
+});
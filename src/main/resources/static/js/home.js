@@ -0,0 +1,928 @@
+const leaveTypeEl = document.getElementById('leaveType');
+/**
+ * 오늘 날짜를 'YYYY-MM-DD' 형식의 문자열로 반환합니다.
+ * @returns {string} 포맷된 날짜 문자열
+ */
+function getFormattedDate() {
+    const today = new Date();   // 현재 날짜/시간을 담은 Date 객체 생성
+    const year = today.getFullYear();  // 4자리 연도 추출 (예: 2025)
+    const month = String(today.getMonth() + 1) // 월은 0~11로 반환하므로 +1 필요
+        .padStart(2, '0');                     // 한 자리일 때 앞에 '0' 추가
+    const day = String(today.getDate())    // 1~31 사이 일자 반환
+        .padStart(2, '0');                     // 한 자리일 때 앞에 '0' 추가
+
+    return `${year}-${month}-${day}`;  // 템플릿 리터럴로 최종 문자열 조합
+}
+
+
+function onModifyToggleAllDayChange() {
+    const allDayCheck = document.getElementById('allDayCheck');
+    const timeGroup = document.getElementById('timeGroup');
+    const startTime = document.getElementById('inputStartTime');
+    const endTime = document.getElementById('inputEndTime');
+    const currentType = leaveTypeEl.value;
+
+    // 권한에 따른 근무 시간 상수 설정
+    const workStartTime = isGermany ? '08:00' : '09:00';
+    const lunchBoundaryTime = isGermany ? '13:00' : '14:00';
+    const workEndTime = isGermany ? '17:00' : '18:00';
+
+    if (allDayCheck.checked) {
+        // 종일: 시간 입력 숨기기
+        timeGroup.style.display = 'none';
+        startTime.required = false;
+        endTime.required = false;
+
+        // 범위·값 모두 제거
+        startTime.value = '00:00';
+        endTime.value = '23:59';
+        startTime.removeAttribute('min');
+        startTime.removeAttribute('max');
+        endTime.removeAttribute('min');
+        endTime.removeAttribute('max');
+    } else {
+        // 시간 지정: 시간 입력 보이기
+        timeGroup.style.display = '';
+        startTime.required = true;
+        endTime.required = true;
+
+
+        // 현재 휴가 유형에 따라 기본값 설정
+        switch (currentType) {
+            case 'OUTING':
+                startTime.value = workStartTime;
+                endTime.value = workEndTime;
+                startTime.min = workStartTime;
+                startTime.max = workEndTime;
+                endTime.min = workStartTime;
+                endTime.max = workEndTime;
+                break;
+
+            case 'NON_DEDUCTIBLE':
+            case 'MEETING':
+            case 'PUBLIC_HOLIDAY':
+            case 'ANNIVERSARY':
+                startTime.value = '00:00';
+                endTime.value = '23:59';
+                startTime.min = '00:00';
+                startTime.max = '23:59';
+                endTime.min = '00:00';
+                endTime.max = '23:59';
+                break;
+
+            default:
+                // 기본값 (연차, 여름휴가 등)
+                startTime.value = workStartTime;
+                endTime.value = workEndTime;
+                startTime.min = workStartTime;
+                startTime.max = workEndTime;
+                endTime.min = workStartTime;
+                endTime.max = workEndTime;
+                break;
+        }
+    }
+}
+
+// ➊ validateDateTime 함수를 전역으로 이동
+function validateDateTime() {
+    const startDateEl = document.getElementById('inputStartDate');
+    const endDateEl = document.getElementById('inputEndDate');
+    const startTimeEl = document.getElementById('inputStartTime');
+    const endTimeEl = document.getElementById('inputEndTime');
+    const allDayCheck = document.getElementById('allDayCheck');
+    const leaveTypeEl = document.getElementById('leaveType');
+
+    const sd = startDateEl.value;
+    const ed = endDateEl.value;
+    const st = startTimeEl.value;
+    const et = endTimeEl.value;
+    const currentType = leaveTypeEl.value;
+
+    // 1) 날짜 비교
+    if (sd && ed && sd > ed) {
+        startDateEl.setCustomValidity('invalid-date');
+        startDateEl.classList.add('is-invalid');
+        return false;
+    }
+    // 2) 하루종일이 아닌 경우 시간 검사
+    if (!allDayCheck.checked) {
+        // 공휴일, 공가, 기념일, 회의의 경우 시간 입력 필수
+        if (['NON_DEDUCTIBLE', 'MEETING', 'PUBLIC_HOLIDAY', 'ANNIVERSARY'].includes(currentType)) {
+            if (!st || !et) {
+                if (!st) {
+                    startTimeEl.setCustomValidity('시작 시간을 입력해주세요.');
+                    startTimeEl.classList.add('is-invalid');
+                }
+                if (!et) {
+                    endTimeEl.setCustomValidity('종료 시간을 입력해주세요.');
+                    endTimeEl.classList.add('is-invalid');
+                }
+                return false;
+            }
+        }
+
+        // 시간 비교 (시작시간이 종료시간보다 늦으면 안됨)
+        if (st && et && st >= et) {
+            startTimeEl.setCustomValidity('시작 시간은 종료 시간보다 빨라야 합니다.');
+            startTimeEl.classList.add('is-invalid');
+            return false;
+        }
+
+        /* 모두 통과 → 기존 오류 리셋 */
+        [startDateEl, startTimeEl, endTimeEl].forEach(el => {
+            el.setCustomValidity('');
+            el.classList.remove('is-invalid');
+        });
+    }
+    return true;
+}
+
+const allDayCheck = document.getElementById('allDayCheck');
+allDayCheck.addEventListener('change', onModifyToggleAllDayChange);
+
+document.addEventListener('DOMContentLoaded', () => {
+    // 1) 요소 조회
+
+    const timeGroup = document.getElementById('timeGroup');
+    const startTimeEl = document.getElementById('inputStartTime');
+    const endTimeEl = document.getElementById('inputEndTime');
+    const descriptionEl = document.getElementById('inputDescription');
+    const formModal = new bootstrap.Modal(document.getElementById('eventFormModal'));
+    const calendarEl = document.getElementById('calendar');
+    const submitBtn = document.getElementById('submitBtn');
+    const cancelBtn = document.getElementById('cancelBtn');
+    const modalEditBtn = document.getElementById('modalEditBtn');
+    const titleInput = document.getElementById('inputTitle');
+    const startDateEl = document.getElementById('inputStartDate');
+    const endDateEl = document.getElementById('inputEndDate');
+    const detailEventModal = new bootstrap.Modal(document.getElementById('eventDetailModal'));
+    const eventForm = document.getElementById('eventForm');
+    const modalDeleteBtn = document.getElementById('modalDeleteBtn');
+    const deleteConfirmModal = new bootstrap.Modal(document.getElementById('deleteConfirmModal'));
+    const confirmDeleteBtn = document.getElementById('confirmDeleteBtn');
+    const allDayCheck = document.getElementById('allDayCheck');
+    const holidayIncludeCheck = document.getElementById('holidayIncludeCheck');
+    const holidayIncludeGroup = holidayIncludeCheck?.closest('.form-check');
+    const holidayNotice = document.getElementById('holidayNotice');
+
+    if (holidayIncludeGroup) {
+        holidayIncludeGroup.style.display = 'none';
+    }
+
+    let currentEventId = null;  // 수정 중인 이벤트 ID 보관
+    let currentIsHoliday = false; // ← 전역 변수로 휴일 여부 저장
+
+    allDayCheck.addEventListener('change', onModifyToggleAllDayChange);
+
+    function resetValidation() {
+        // invalid 클래스를 모두 제거
+        eventForm.querySelectorAll('.is-invalid').forEach(el => {
+            el.classList.remove('is-invalid');
+        });
+
+        // 각 필드의 customValidity 도 초기화
+        [startDateEl, endDateEl, startTimeEl, endTimeEl].forEach(el => {
+            el.setCustomValidity('');
+        });
+    }
+
+    // 모달 DOM 요소
+    const eventFormModalEl = document.getElementById('eventFormModal');
+    // 폼 모달 닫기 버튼 눌렀을때도 validation 초기화
+    eventFormModalEl.addEventListener('hidden.bs.modal', resetValidation);
+
+    let anchorDate = null;         // 폼이 열릴 때 클릭한 날짜 기억
+
+    function toggleHolidayIncludeUI(isHoliday) {
+        if (typeof holidayIncludeCheck !== 'undefined' && holidayIncludeCheck !== null) {
+            // 1) 공휴일/기념일일 때만 보이기
+            holidayIncludeGroup.style.display = isHoliday ? '' : 'none';
+            holidayNotice.style.display = isHoliday ? '' : 'none';
+
+            // 2) 해당 일정이 휴일 여부에 따라 체크(최초 등록때는 안됨, 상세 조회 시에는 체크 여부 변경되게)
+            holidayIncludeCheck.checked = currentIsHoliday;
+        }
+    }
+
+    function onLeaveTypeChange() {
+        // 권한에 따른 근무 시간 상수 설정
+        const workStartTime = isGermany ? '08:00' : '09:00';
+        const lunchBoundaryTime = isGermany ? '13:00' : '14:00';
+        const workEndTime = isGermany ? '17:00' : '18:00';
+
+        const isHoliday = ['PUBLIC_HOLIDAY', 'ANNIVERSARY'].includes(leaveTypeEl.value);
+        const currentType = leaveTypeEl.value;
+
+        // holidayIncludeCheck 요소가 실제로 존재할 때만 동작
+        toggleHolidayIncludeUI(isHoliday);
+
+        // 기본 리셋
+        resetToDefaults();
+
+        // ✅ 반차·외출 3종은 "클릭한 날" 하루로 고정
+        const isHalfOrOuting = ['HALF_DAY_MORNING', 'HALF_DAY_AFTERNOON', 'OUTING'].includes(currentType);
+
+        if (isHalfOrOuting && anchorDate) {     // dateClick 으로 열린 경우에만
+            setFixedDate(anchorDate);
+        }
+
+        // 타입별 고유 설정
+        switch (currentType) {
+            case 'FULL_DAY_LEAVE':
+            case 'SUMMER_VACATION':
+                setAllDayMode(true, '00:00', '23:59');
+                break;
+
+            case 'HALF_DAY_MORNING':
+                setTimeBasedMode(workStartTime, lunchBoundaryTime, true);
+                return;  // 범위 세팅도 필요 없으니 리턴
+
+            case 'HALF_DAY_AFTERNOON':
+                setTimeBasedMode(lunchBoundaryTime, workEndTime, true);
+                return;
+
+            case 'OUTING':
+                setTimeBasedMode(workStartTime, workEndTime, false, workStartTime, workEndTime);
+                break;
+
+            /* ④-1 공가·회의 → 근무시간 범위 */
+            case 'NON_DEDUCTIBLE':
+            case 'MEETING':
+                // allDay 체크박스 활성화하고 기본은 체크 해제
+                allDayCheck.disabled = false;
+                allDayCheck.checked = false;
+
+                // 시간 입력 필드 보이게 하고 필수로 설정
+                timeGroup.style.display = '';
+                startTimeEl.required = true;
+                endTimeEl.required = true;
+
+                // 공가, 회의는 알아서 입력
+                startTimeEl.min = '00:00';
+                startTimeEl.max = '23:59';
+                endTimeEl.min = '00:00';
+                endTimeEl.max = '23:59';
+
+                // 기본값을 근무시간으로 설정
+                startTimeEl.value = workStartTime;
+                endTimeEl.value = workEndTime;
+
+                /* 공가만 비고 필수 */
+                if (currentType === 'NON_DEDUCTIBLE') {
+                    descriptionEl.required = true;
+                }
+                break;
+
+            /* ④-2 공휴일·기념일 → 하루 종일 가능 */
+            case 'PUBLIC_HOLIDAY':
+            case 'ANNIVERSARY':
+                // allDay 체크박스 활성화하고 기본은 체크 해제
+                allDayCheck.disabled = false;
+                allDayCheck.checked = false;
+
+                // 시간 입력 필드 보이게 하고 필수로 설정
+                timeGroup.style.display = '';
+                startTimeEl.required = true;
+                endTimeEl.required = true;
+
+                // 하루 종일 범위 설정 (00:00~23:59)
+                startTimeEl.min = '00:00';
+                startTimeEl.max = '23:59';
+                endTimeEl.min = '00:00';
+                endTimeEl.max = '23:59';
+
+                // 기본값을 하루 종일로 설정
+                startTimeEl.value = '00:00';
+                endTimeEl.value = '23:59';
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    function resetToDefaults() {
+        allDayCheck.disabled = false;
+        allDayCheck.checked = true;
+        startTimeEl.required = false;
+        endTimeEl.required = false;
+        timeGroup.style.display = 'none';
+        startDateEl.readOnly = false;
+        endDateEl.readOnly = false;
+        startTimeEl.readOnly = false;
+        endTimeEl.readOnly = false;
+        descriptionEl.required = false;
+
+        // 시간 제한 초기화
+        startTimeEl.min = '';
+        startTimeEl.max = '';
+        endTimeEl.min = '';
+        endTimeEl.max = '';
+
+        // 유효성 검사 초기화
+        startTimeEl.setCustomValidity('');
+        endTimeEl.setCustomValidity('');
+        startTimeEl.classList.remove('is-invalid');
+        endTimeEl.classList.remove('is-invalid');
+    }
+
+    function setFixedDate(date) {
+        startDateEl.value = date;
+        endDateEl.value = date;
+        startDateEl.readOnly = true;
+        endDateEl.readOnly = true;
+    }
+
+    function setAllDayMode(disabled, startTime, endTime) {
+        allDayCheck.checked = true;
+        allDayCheck.disabled = disabled;
+        if (startTime) startTimeEl.value = startTime;
+        if (endTime) endTimeEl.value = endTime;
+    }
+
+    function setTimeBasedMode(startTime, endTime, readOnlyTime, minTime, maxTime) {
+        allDayCheck.checked = false;
+        allDayCheck.disabled = true;
+        timeGroup.style.display = '';
+
+        if (startTime) startTimeEl.value = startTime;
+        if (endTime) endTimeEl.value = endTime;
+
+        if (readOnlyTime) {
+            startTimeEl.readOnly = true;
+            endTimeEl.readOnly = true;
+        }
+
+        if (minTime && maxTime) {
+            startTimeEl.min = minTime;
+            startTimeEl.max = maxTime;
+            endTimeEl.min = minTime;
+            endTimeEl.max = maxTime;
+        }
+    }
+
+    leaveTypeEl.addEventListener('change', onLeaveTypeChange);
+
+
+    // “수정” 버튼 클릭 핸들러
+    modalEditBtn.addEventListener('click', (e) => {
+        // 상세 모달 닫기
+        detailEventModal.hide();
+        const eventId = e.currentTarget.getAttribute('data-event-id');
+
+        // 기존 입력 모달 초기화
+        document.getElementById('eventForm').reset();
+        resetValidation();
+        submitBtn.disabled = false;
+
+        // 모드 전환
+        document.getElementById('formModalTitle').textContent = '일정 수정';
+        submitBtn.textContent = '수정하기';
+        cancelBtn.textContent = '수정취소'
+
+        console.log('=== 5. 본문에서 fetch 호출 시작 ===');
+        fetch(`/api/v1/calendar/events/${eventId}`)
+            .then(res => {
+                if (res.status === 401) {
+                    // 이미 리다이렉트 처리됨, 조용히 종료
+                    return null;
+                }
+                if (!res.ok) {
+                    throw new Error(`HTTP ${res.status}`);
+                }
+                return res.json();
+            })
+            .then(evt => {
+                console.log('=== 7. 데이터 처리 ===', evt);
+                if (!evt) return;            // 에러 응답이거나 null인 경우 안전 탈출
+                // 전역 변수에 isHoliday 저장
+                currentIsHoliday = evt.isHoliday;
+
+                // 2) 폼 필드에 값 채우기
+                titleInput.value = evt.title;
+                leaveTypeEl.value = evt.leaveType;
+                startDateEl.value = evt.startDate;
+                endDateEl.value = evt.endDate;
+                startTimeEl.value = evt.startTime;
+                endTimeEl.value = evt.endTime;
+
+                if (!evt.isAllDay) {
+                    allDayCheck.checked = false;
+                    startTimeEl.value = evt.startDate;
+                    endTimeEl.value = evt.endDate;
+                } else {
+                    allDayCheck.checked = true;
+                }
+                // holidayIncludeCheck 엘리먼트가 있을 때만 접근
+                if (holidayIncludeCheck) {
+                    holidayIncludeCheck.checked = Boolean(evt.isHoliday);
+                    // 수정 불가 설정도 함께
+                    holidayIncludeCheck.disabled = currentIsHoliday;
+                }
+                descriptionEl.value = evt.description || '';
+
+                // isHoliday인 경우 → 수정 불가 필드 비활성화
+                if (currentIsHoliday) {
+                    // 날짜, 시간, all-day, 휴일 포함 체크박스 전부 비활성화
+                    startDateEl.readOnly = true;
+                    endDateEl.readOnly = true;
+                    allDayCheck.disabled = true;
+                    if (holidayIncludeCheck) holidayIncludeCheck.disabled = true;
+                    startTimeEl.readOnly = true;
+                    endTimeEl.readOnly = true;
+                    leaveTypeEl.disabled = true;
+                    toggleHolidayIncludeUI(currentIsHoliday)
+                    holidayNotice.textContent = '등록된 휴일의 일정을 조절할 수 없습니다. 조절이 필요하면 삭제 후 다시 일정을 생성하세요.';
+                    holidayNotice.style.display = '';  // 보이도록
+                } else {
+                    // 일반 일정이면 leaveType까지 편집 가능
+                    startDateEl.readOnly = false;
+                    endDateEl.readOnly = false;
+                    allDayCheck.disabled = false;
+                    if (holidayIncludeCheck) holidayIncludeCheck.disabled = false;
+                    startTimeEl.readOnly = false;
+                    endTimeEl.readOnly = false;
+                    leaveTypeEl.disabled = false;
+                    // 3) onLeaveTypeChange 등 UI 토글 함수 호출
+                    onLeaveTypeChange();
+                }
+
+                formModal.show();
+            })
+            .catch(err => {
+                console.error('Fetch error:', err);
+            });
+    });
+
+    // 페이지에 실려 온 이번 달 일정 - 첫 그리기에 한 번만 쓰고, 이후(다른 달, 수정 후 다시 읽기)는 API 조회
+    let initialMonthEvents = null;
+    if (calendarEl.dataset.initialMonth && calendarEl.dataset.initialEvents) {
+        try {
+            initialMonthEvents = {
+                month: calendarEl.dataset.initialMonth,
+                events: JSON.parse(calendarEl.dataset.initialEvents)
+            };
+        } catch (err) {
+            console.error(err);
+        }
+    }
+
+    function loadMonthlyEvents(y, m) {
+        const key = `${y}-${String(m).padStart(2, '0')}`;
+        if (initialMonthEvents && initialMonthEvents.month === key) {
+            const events = initialMonthEvents.events;
+            initialMonthEvents = null;
+            return Promise.resolve(events);
+        }
+        initialMonthEvents = null;
+        return fetch(`/api/v1/calendar/events/${y}/${m}`)
+            .then(res => {
+                if (!res.ok) throw new Error('네트워크 에러');
+                return res.json();
+            });
+    }
+
+    // 4) FullCalendar 초기화
+    let calendar = new FullCalendar.Calendar(calendarEl, {
+        themeSystem: 'bootstrap5',
+        // 여러 속성들
+        initialView: 'dayGridMonth',  // 초기 보기 설정, 기본값 dayGridMonth
+        initialDate: getFormattedDate(),  // 캘린더 로드 시 초기 날짜 설절, 기본값 오늘 날짜
+        // displayEventEnd: true,    // 종료 시간도 함께 표시
+        locale: 'ko',  // 언머 및 지역화 설정 변경
+        timeZone: 'Asia/Seoul', // IANA 시간대 설정(명명된 시간대)
+        weekends: true,  // 주말 포함 여부 기본값 true
+        height: '100%',   // 100%의 경우 부모 컨테이너 요소 높이와 일치
+        contentHeight: 'auto',  // 본문 영역 높이 auto시 뷰 높이 자연스럽고 스크롤바 사용 안함
+        aspectRatio: 1.5, // 너비: 높이 비율 1.5:1 (종횡비)
+        eventColor: '#3799d8',  // 기본 일정 배경색 설정 (파란색)
+        eventTextColor: '#ffffff',  // 글자 색상 변경
+        dayMaxEvents: false,  // 하루 최대 이벤트 표시(true 인경우 적절히)
+        eventOrder: 'duration, start',  // duration이 긴(다중일) 이벤트 우선 렌더
+        eventDisplay: 'block',        // 이벤트가 블록으로 렌더
+        // moreLinkClick: function (info) {
+        //     alert('더보기 클릭: ' + info.data);
+        //     // 여기서 팝업을 열거나 다른 행동 정의할 수 있음
+        //     return false; // 기본 팝업 열림 방지(false: 팝업 열림, true: 팝업 안열림)
+        // },
+        selectable: true,   // 사용자가 선택하고 취소되는 시점 모니터링
+        headerToolbar: {
+            left: 'prev next',
+            center: 'title',
+            right: 'dayGridMonth timeGridWeek timeGridDay'
+        },
+        views: {
+            dayGridMonth: {
+                titleFormat: {
+                    year: 'numeric',
+                    month: '2-digit'
+                }
+            }
+        },
+        buttonText: {
+            today: '현재날짜',
+            month: '월',
+            week: '주',
+            day: '일'
+        },
+
+        // 서버에서 일정 JSON 데이터 로드
+        events: (info) => {
+            // info.start : 화면에 표시된 달력 첫날
+            // 달력의 첫날은 매월 1일이 보장 안되기에(이전달의 30일 일수도) 10일정도 더해서 월 맞추기 위함
+            const tenDaysMs = 10 * 24 * 60 * 60 * 1000;  // 10일
+            const midDate = new Date(info.start.getTime() + tenDaysMs);
+
+            const y = midDate.getFullYear();      // 예: 2025
+            const m = midDate.getMonth() + 1;     // 1~12
+
+            return loadMonthlyEvents(y, m)
+                .then(events => {
+                    // events 는 MonthlyEvent DTO 배열이라고 가정
+                    return events.map(evt => ({
+                        // 반복 일정 발생은 id 가 없으므로 시리즈 id + 발생일로 구분
+                        id: evt.seriesId ? `series-${evt.seriesId}-${evt.occurrenceDate}` : evt.id,
+                        extendedProps: {seriesId: evt.seriesId, occurrenceDate: evt.occurrenceDate},
+                        title: evt.title,
+                        start: evt.start,
+                        end: evt.end,
+                        allDay: evt.allDay,
+                        // isHoliday 플래그에 따라 색상 지정
+                        backgroundColor: evt.isHoliday ? '#dc3545' : undefined,
+                        borderColor: evt.isHoliday ? '#dc3545' : undefined,
+                        textColor: evt.isHoliday ? '#ffffff' : undefined,
+                    }));
+                    successCallback(fcEvents);
+                })
+                .catch(err => {
+                    console.error(err);
+                    showToast('일정을 불러오는 중 오류가 발생했습니다.', 'error');
+                    // 실패 콜백에 빈 배열을 넘겨줘서 캘린더가 비어 있게 함
+                    failureCallback([]);
+                });
+            ;
+        },
+
+        // event 클릭 함수 정의 -> 일정 정보 (수정, 삭제 가능하도록)
+        eventClick: function (info) {
+            // 반복 일정 발생은 시리즈 상세만 보여줌 (발생 수정/취소는 반복 일정 API 사용)
+            const seriesId = info.event.extendedProps.seriesId;
+            if (seriesId) {
+                fetch(`/api/v1/calendar/series/${seriesId}`)
+                    .then(response => {
+                        if (!response.ok) throw new Error('네트워크 응답 실패');
+                        return response.json();
+                    })
+                    .then(data => {
+                        const date = info.event.extendedProps.occurrenceDate;
+                        document.getElementById('modalTitle').textContent = info.event.title;
+                        document.getElementById('modalStart').textContent = formatKoreanDateTime(date, data.startTime);
+                        document.getElementById('modalEnd').textContent = formatKoreanDateTime(date, data.endTime);
+                        document.getElementById('modalDescription').textContent =
+                            `${data.description || '설명 없음'} (반복: ${data.recurrenceRule})`;
+                        modalEditBtn.style.display = 'none';
+                        modalDeleteBtn.style.display = 'none';
+                        document.getElementById('modalHolidayLabel').style.display = 'none';
+                        document.getElementById('modalHolidayInfo').style.display = 'none';
+                        detailEventModal.show();
+                    })
+                    .catch(err => {
+                        console.error('반복 일정 상세 조회 중 오류:', err);
+                        showToast('이벤트 정보를 불러오는 데 실패했습니다.', 'error');
+                    });
+                return;
+            }
+
+            currentEventId = info.event.id;
+
+            // 서버에서 상세 정보 불러오기
+            fetch(`/api/v1/calendar/events/${currentEventId}`)
+                .then(response => {
+                    if (!response.ok) throw new Error('네트워크 응답 실패');
+                    return response.json();
+                })
+                .then(data => {
+                    // 모달 내부 요소에 데이터 채우기
+                    document.getElementById('modalTitle').textContent = data.title;
+                    document.getElementById('modalStart').textContent = formatKoreanDateTime(data.startDate, data.startTime);
+                    document.getElementById('modalEnd').textContent = formatKoreanDateTime(data.endDate, data.endTime);
+                    document.getElementById('modalDescription').textContent = data.description || '설명 없음';
+
+                    // 수정 버튼에 eventId 속성으로 넣기
+                    document.getElementById('modalEditBtn').setAttribute('data-event-id', currentEventId);
+
+                    // 2) 권한이 있을 때만 버튼 보이기 (백엔드에서 isOwner 혹은 canEdit 필드 제공)
+
+                    // 권한 체크: 관리자는 수정, 삭제 버튼 항시 노출 + 일반 일정은 작성자도 노출
+                    let canEdit =  window.isAdmin;
+
+                    if (!canEdit) {
+                        canEdit = data.isOwner;
+                    }
+
+                    if (canEdit) {
+                        modalEditBtn.style.display = '';
+                        modalDeleteBtn.style.display = '';
+                        modalEditBtn.setAttribute('data-event-id', currentEventId);
+                    } else {
+                        modalEditBtn.style.display = 'none';
+                        modalDeleteBtn.style.display = 'none';
+                    }
+
+
+                    // 휴일 라벨·정보 토글
+                    const isHoliday = data.isHoliday;
+                    document.getElementById('modalHolidayLabel').style.display = isHoliday ? '' : 'none';
+                    document.getElementById('modalHolidayInfo').style.display = isHoliday ? '' : 'none';
+
+                    if (isHoliday) {
+                        let text;
+                        if (data.isAllDay) {
+                            // DTO의 isAllDay 플래그 활용
+                            text = '종일';
+                        } else {
+                            // DTO의 startTime, endTime을 바로 포맷
+                            const fmt = t => t.padStart(5, '0'); // "9:0" → "09:00"
+                            text = `${fmt(data.startTime)} ~ ${fmt(data.endTime)}`;
+                        }
+                        document.getElementById('modalHolidayText').textContent = text;
+                    }
+
+                    // Bootstrap 모달 표시
+                    detailEventModal.show();
+                })
+                .catch(err => {
+                    console.error('이벤트 상세 조회 중 오류:', err);
+                    showToast('이벤트 정보를 불러오는 데 실패했습니다.', 'error');
+                });
+        },
+
+        // 날짜나 시간 클릭 시 발생 -> 일정 생성 폼 등록
+        dateClick: function (info) {
+            // ➊ 로그인하지 않은 경우
+            if (!window.isAuthenticated) {
+                showToast('일정 등록은 로그인 후 가능합니다.', 'warning');
+                return;
+            }
+
+            // const day = info.date.getDay();
+            // // 일요일(0) 또는 토요일(6) 이면
+            // if (day === 0 || day === 6) {
+            //     showToast('주말은 일정 등록할 수 없습니다.', 'warning');
+            //     return;
+            // }
+            // 등록 모드 진입 시 기존 ID 초기화
+            currentEventId = null;
+            // 전역 변수에 클릭한 날짜 저장
+            anchorDate = info.dateStr;
+            // 1) 모달 제목 설정 (등록 모드)
+            document.getElementById('formModalTitle').textContent = '일정 등록';
+            submitBtn.textContent = '등록하기';
+            cancelBtn.textContent = '등록취소';
+            // 2) 폼 리셋 & 일정 등록 버튼 활성화
+            document.getElementById('eventForm').reset();
+            resetValidation();
+            submitBtn.disabled = false
+            // 3) “종일” 체크 & 토글
+            const allDayCheck = document.getElementById('allDayCheck');
+            allDayCheck.checked = true;        // 종일 모드로 강제 전환
+
+            // 4) 날짜 입력값을 클릭한 날짜로 초기화
+            document.getElementById('inputStartDate').value = info.dateStr;
+            document.getElementById('inputEndDate').value = info.dateStr;
+
+            // ❗️ 수정 모드에서 꺼진 속성들 되돌리기
+            const fieldsToEnable = [
+                leaveTypeEl,
+                startDateEl,
+                endDateEl,
+                startTimeEl,
+                endTimeEl,
+                allDayCheck,
+                holidayIncludeCheck
+            ];
+            fieldsToEnable.forEach(el => {
+                if (!el) return;
+                el.disabled = false;
+                el.readOnly = false;
+                el.classList.remove('select‑readonly');
+
+            });
+
+            // ❗️ currentIsHoliday도 반드시 false로 초기화
+            currentIsHoliday = false;
+
+            // (휴일 UI 숨기기)
+            if (holidayIncludeGroup) {
+                holidayIncludeGroup.style.display = 'none';
+                holidayNotice.style.display = 'none';
+            }
+
+            // UI 토글 함수를 한 번 더 호출
+            onLeaveTypeChange();
+
+            formModal.show();
+        }
+
+    });
+    calendar.render();
+    window.calendar = calendar;
+
+    // 다른 사용자의 일정 변경 실시간 반영 (SSE)
+    subscribeCalendarChanges(calendar);
+
+    // 5) 페이지 로드 직후에도 선택값 반영
+    onLeaveTypeChange();
+
+
+    /**
+     * 서버의 일정 변경 알림(SSE)을 구독합니다.
+     * - 삭제 알림은 화면의 이벤트만 제거(패치)
+     * - 그 외에는 현재 보고 있는 달과 겹칠 때만 해당 월을 다시 조회
+     * - 연속 알림(휴일 등록 시 재계산 등)은 한 번의 재조회로 묶음
+     */
+    function subscribeCalendarChanges(calendar) {
+        if (!window.EventSource) return;
+
+        let refetchTimer = null;
+        const source = new EventSource('/api/v1/calendar/stream');
+
+        source.addEventListener('calendar-change', (e) => {
+            const change = JSON.parse(e.data);
+
+            if (change.type === 'DELETED' && change.eventId != null) {
+                const existing = calendar.getEventById(String(change.eventId));
+                if (existing) existing.remove();
+                return;
+            }
+
+            // 보고 있는 화면 기간 [activeStart, activeEnd) 와 변경 기간 [startDate, endDate] 겹침 여부
+            const view = calendar.view;
+            const changeStart = new Date(`${change.startDate}T00:00:00`);
+            const changeEnd = new Date(`${change.endDate}T23:59:59`);
+            if (changeStart >= view.activeEnd || changeEnd < view.activeStart) return;
+
+            clearTimeout(refetchTimer);
+            refetchTimer = setTimeout(() => calendar.refetchEvents(), 300);
+        });
+
+        source.onerror = () => {
+            // 네트워크 끊김 시 브라우저가 자동 재연결함
+            console.warn('일정 변경 알림 연결이 끊어져 재연결을 시도합니다.');
+        };
+    }
+
+    // 1) Bootstrap 5 모달 닫기
+    function closeEventFormModal() {
+        formModal.hide();
+    }
+
+    // 2) FullCalendar 이벤트 다시 불러오기
+    function refreshCalendarEvents() {
+        calendar.refetchEvents();
+    }
+
+    // 1) 날짜 필드 실시간 유효성
+    [startDateEl, endDateEl].forEach(el => {
+        el.addEventListener('input', () => {
+            if (startDateEl.value && endDateEl.value && startDateEl.value > endDateEl.value) {
+                startDateEl.setCustomValidity('invalid-date');
+                startDateEl.classList.add('is-invalid');
+            } else {
+                startDateEl.setCustomValidity('');
+                startDateEl.classList.remove('is-invalid');
+                endDateEl.setCustomValidity('');
+                endDateEl.classList.remove('is-invalid');
+            }
+        });
+    });
+
+    // 2) 시간 필드 실시간 유효성
+    [startTimeEl, endTimeEl].forEach(el => {
+        el.addEventListener('input', () => {
+            validateDateTime();  // 내부에서 오류 리셋까지 처리됨
+        });
+    });
+
+    // 3) 모달 열릴 때 남아있는 invalid 초기화
+    eventFormModalEl.addEventListener('shown.bs.modal', () => {
+        [startDateEl, endDateEl, startTimeEl, endTimeEl].forEach(el => {
+            el.setCustomValidity('');
+            el.classList.remove('is-invalid');
+        });
+    });
+
+    // 폼 제출 이벤트 잡기 - form 태그 안에 button 있으면 제출
+    eventForm.addEventListener('submit', function (e) {
+        e.preventDefault();
+
+        if (!validateDateTime()) {
+            // HTML5 기본 메시지 대신 invalid-feedback 이 보여짐
+            eventForm.reportValidity();        // 포커스 이동 + 빨간 테두리
+            return;                            // Fetch 보내지 않음
+        }
+
+        const url = currentEventId
+            ? `/api/v1/calendar/events/${currentEventId}`
+            : '/api/v1/calendar/events';
+        const method = currentEventId ? 'PATCH' : 'POST';
+
+        // ① disabled 풀고
+        const disabledEls = eventForm.querySelectorAll('[disabled]');
+        disabledEls.forEach(el => el.disabled = false);
+
+        // ② FormData 뽑기
+        const formData = new FormData(eventForm);
+        const dataObj = Object.fromEntries(formData.entries());
+
+        // ③ 다시 disabled 복귀
+        disabledEls.forEach(el => el.disabled = true);
+
+        // 2) allDay 키가 없으면 기본 false 주입 (문자열 → boolean 변환 포함)
+        dataObj.isAllDay = document.getElementById('allDayCheck').checked; // true / false
+
+        // holidayInclude도 boolean값 전달
+        if (typeof holidayIncludeCheck !== 'undefined' && holidayIncludeCheck !== null) {
+            dataObj.isHolidayInclude = holidayIncludeCheck.checked;
+        }
+
+        // 2) 등록 버튼 비활성화
+        submitBtn.disabled = true;
+
+        // 409: 본인 일정과 기간이 겹침 → 같은 종류면 합쳐서 등록할지 확인 후 merge=true 로 재요청 (또는 부재 인원 한도 초과)
+        const send = (requestUrl) => fetch(requestUrl, {
+            method: method,
+            headers: requestHeaders,
+            body: JSON.stringify(dataObj)
+        })
+            .then(async res => {
+                if (res.status === 409) {
+                    // 일정 겹침은 JSON, 하루 부재 인원 한도 초과는 문구만 옴
+                    const text = await res.text();
+                    let conflict;
+                    try {
+                        conflict = JSON.parse(text);
+                    } catch (e) {
+                        conflict = { message: text, mergeable: false, conflicts: [] };
+                    }
+                    if (!currentEventId && conflict.mergeable
+                        && confirm(`${conflict.message}\n겹치는 일정 ${conflict.conflicts.length}건과 합쳐서 등록할까요?`)) {
+                        return send(`${url}?merge=true`);
+                    }
+                    const error = new Error(conflict.message);
+                    error.userMessage = conflict.message;
+                    throw error;
+                }
+                if (!res.ok) throw new Error('서버 오류');
+                return res.json().catch(() => null);
+            });
+
+        send(url)
+            .then(() => {
+                showToast(currentEventId ? '수정에 성공했습니다.' : '등록에 성공했습니다.', 'success');
+                currentEventId = null;
+                closeEventFormModal();      // 모달 닫기
+                refreshCalendarEvents();    // 캘린더 갱신
+            })
+            .catch(err => {
+                console.error(err);
+                showToast(err.userMessage || '요청에 실패했습니다.', 'error');
+            })
+            .finally(() => {
+                submitBtn.disabled = false;
+            });
+    });
+
+    // 상세 모달의 “삭제” 버튼 클릭 → 삭제 확인 모달 띄우기
+    modalDeleteBtn.addEventListener('click', () => {
+        deleteConfirmModal.show();
+    });
+
+    // 삭제 확인 모달의 “삭제” 버튼 클릭 → API 호출, 모달 닫기, 캘린더 리프레시
+    confirmDeleteBtn.addEventListener('click', () => {
+        // 삭제 버튼 따닥 연속 클릭 안되게
+        confirmDeleteBtn.disabled = true;
+        const cancelDeleteBtn = document.querySelector('#deleteConfirmModal .btn-secondary');
+        cancelDeleteBtn.disabled = true;
+
+        fetch(`/api/v1/calendar/events/${currentEventId}`, {
+            method: 'DELETE',
+            headers: requestHeaders
+        })
+            .then(res => {
+                if (!res.ok) throw new Error('삭제 실패');
+                deleteConfirmModal.hide();
+                detailEventModal.hide();
+                refreshCalendarEvents();
+                showToast('일정 삭제 성공', 'success');
+            })
+            .catch(err => {
+                console.error(err);
+                showToast('삭제 요청에 실패했습니다.', 'error');
+            })
+            .finally(() => {
+                confirmDeleteBtn.disabled = false;
+                cancelDeleteBtn.disabled = false;
+            })
+    })
+});
@@ -3,7 +3,7 @@ package com.leavebridge;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "google.calendar.auth.enabled=false") // 구글 인증 없이 컨텍스트만 확인
 class LeaveBridgeApplicationTests {
 
 	@Test
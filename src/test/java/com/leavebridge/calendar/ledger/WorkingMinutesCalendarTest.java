@@ -0,0 +1,112 @@
+package com.leavebridge.calendar.ledger;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+
+/**
+ * 2025-07-07(월) ~ 2025-07-13(일) 기준 누적합 계산이 기존 일자별 규칙과 같은지 확인
+ */
+class WorkingMinutesCalendarTest {
+
+	private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+	private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+	private static final LocalDate MONDAY = LocalDate.of(2025, 7, 7);
+	private static final LocalTime NINE = LocalTime.of(9, 0);
+	private static final LocalTime EIGHTEEN = LocalTime.of(18, 0);
+
+	@Test
+	void fullWeekWithoutHolidays() {
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(FROM, TO, List.of(), false);
+
+		LeaveUsage usage = calendar.usage(MONDAY, NINE, MONDAY.plusDays(4), EIGHTEEN);
+
+		assertThat(usage.usedDays()).isEqualTo(5.0);
+		assertThat(usage.comment()).isEmpty();
+	}
+
+	@Test
+	void weekendIsExcludedWithReason() {
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(FROM, TO, List.of(), false);
+
+		LeaveUsage usage = calendar.usage(MONDAY.plusDays(4), NINE, MONDAY.plusDays(7), EIGHTEEN);
+
+		assertThat(usage.usedDays()).isEqualTo(2.0);
+		assertThat(usage.comment()).isEqualTo("[2025-07-12] 주말 제외\n[2025-07-13] 주말 제외");
+	}
+
+	@Test
+	void allDayAndPartialHolidaysAreDeducted() {
+		LeaveAndHoliday allDay = holiday(MONDAY.plusDays(2), MONDAY.plusDays(2), null, null, true,
+			LeaveType.PUBLIC_HOLIDAY);
+		LeaveAndHoliday partial = holiday(MONDAY.plusDays(3), MONDAY.plusDays(3), LocalTime.of(14, 0), EIGHTEEN, false,
+			LeaveType.PUBLIC_HOLIDAY);
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(FROM, TO, List.of(allDay, partial), false);
+
+		LeaveUsage usage = calendar.usage(MONDAY, NINE, MONDAY.plusDays(4), EIGHTEEN);
+
+		assertThat(usage.minutes()).isEqualTo(480 * 4 - 240);
+		assertThat(usage.comment())
+			.isEqualTo("[2025-07-09] 하루종일 휴일이 포함된 일정 제외\n[2025-07-10] 부분 휴일 240분 제외");
+	}
+
+	@Test
+	void dailyMinutesSumToUsage() {
+		LeaveAndHoliday allDay = holiday(MONDAY.plusDays(2), MONDAY.plusDays(2), null, null, true,
+			LeaveType.PUBLIC_HOLIDAY);
+		LeaveAndHoliday partial = holiday(MONDAY.plusDays(3), MONDAY.plusDays(3), LocalTime.of(14, 0), EIGHTEEN, false,
+			LeaveType.PUBLIC_HOLIDAY);
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(FROM, TO, List.of(allDay, partial), false);
+
+		int[] daily = calendar.dailyMinutes(MONDAY, LocalTime.of(14, 0), MONDAY.plusDays(6), EIGHTEEN);
+
+		assertThat(daily).containsExactly(240, 480, 0, 240, 480, 0, 0);
+		assertThat(Arrays.stream(daily).sum())
+			.isEqualTo(calendar.usage(MONDAY, LocalTime.of(14, 0), MONDAY.plusDays(6), EIGHTEEN).minutes());
+	}
+
+	@Test
+	void halfDayAndLunchOnlyOnSingleDay() {
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(FROM, TO, List.of(), false);
+
+		assertThat(calendar.usage(MONDAY, NINE, MONDAY, LocalTime.of(14, 0)).usedDays()).isEqualTo(0.5);
+
+		LeaveUsage lunchOnly = calendar.usage(MONDAY, LocalTime.NOON, MONDAY, LocalTime.of(13, 0));
+		assertThat(lunchOnly.minutes()).isZero();
+		assertThat(lunchOnly.comment()).isEqualTo("[2025-07-07] 점심시간(12:00~13:00) 만 포함된 일정 전부 제외");
+	}
+
+	@Test
+	void dispatchedScheduleIgnoresAnniversary() {
+		LeaveAndHoliday anniversary = holiday(MONDAY, MONDAY, null, null, true, LeaveType.ANNIVERSARY);
+
+		LeaveUsage regular = WorkingMinutesCalendar.build(FROM, TO, List.of(anniversary), false)
+			.usage(MONDAY, NINE, MONDAY, EIGHTEEN);
+		LeaveUsage dispatched = WorkingMinutesCalendar.build(FROM, TO, List.of(anniversary), true)
+			.usage(MONDAY, LocalTime.of(8, 0), MONDAY, LocalTime.of(17, 0));
+
+		assertThat(regular.minutes()).isZero();
+		assertThat(dispatched.usedDays()).isEqualTo(1.0);
+	}
+
+	private LeaveAndHoliday holiday(LocalDate start, LocalDate end, LocalTime startTime, LocalTime endTime,
+		boolean isAllDay, LeaveType leaveType) {
+		return LeaveAndHoliday.builder()
+			.startDate(start)
+			.starTime(startTime)
+			.endDate(end)
+			.endTime(endTime)
+			.isAllDay(isAllDay)
+			.isHoliday(true)
+			.leaveType(leaveType)
+			.build();
+	}
+}
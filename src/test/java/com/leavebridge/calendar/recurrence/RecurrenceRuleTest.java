@@ -0,0 +1,104 @@
+package com.leavebridge.calendar.recurrence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * RRULE 파싱과 기간 전개 (2025-07-07 은 월요일)
+ */
+class RecurrenceRuleTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 7, 7);
+	private static final LocalDate JULY_FIRST = LocalDate.of(2025, 7, 1);
+	private static final LocalDate JULY_LAST = LocalDate.of(2025, 7, 31);
+
+	@Test
+	void parsesAndNormalizes() {
+		RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;INTERVAL=2;BYDAY=WE,MO,WE;UNTIL=20250831T235959Z");
+
+		assertThat(rule.frequency()).isEqualTo(RecurrenceRule.Frequency.WEEKLY);
+		assertThat(rule.interval()).isEqualTo(2);
+		assertThat(rule.byDay()).containsExactly(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+		assertThat(rule.until()).isEqualTo(LocalDate.of(2025, 8, 31));
+		assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;UNTIL=20250831");
+		assertThat(RecurrenceRule.parse(rule.toString())).isEqualTo(rule);
+	}
+
+	@Test
+	void rejectsUnsupportedRules() {
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20250801"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=0")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=501"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYSETPOS=1"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void weeklyByDayWithIntervalStopsAtUntil() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;UNTIL=20250801");
+
+		assertThat(rule.occurrences(MONDAY, JULY_FIRST, JULY_LAST)).containsExactly(
+			MONDAY, MONDAY.plusDays(2), MONDAY.plusWeeks(2), MONDAY.plusWeeks(2).plusDays(2));
+		// 기간 중간부터 조회해도 격주 기준은 시작일
+		assertThat(rule.occurrences(MONDAY, LocalDate.of(2025, 7, 22), JULY_LAST))
+			.containsExactly(MONDAY.plusWeeks(2).plusDays(2));
+		assertThat(rule.occurrences(MONDAY, LocalDate.of(2025, 8, 2), LocalDate.of(2025, 8, 31))).isEmpty();
+		assertThat(rule.lastOccurrence(MONDAY)).isEqualTo(LocalDate.of(2025, 8, 1));
+	}
+
+	@Test
+	void countIsCountedFromStartEvenWhenQueryStartsLater() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=3");
+
+		assertThat(rule.occurrences(MONDAY, MONDAY.plusDays(1), JULY_LAST))
+			.containsExactly(MONDAY.plusDays(1), MONDAY.plusDays(2));
+		assertThat(rule.lastOccurrence(MONDAY)).isEqualTo(MONDAY.plusDays(2));
+	}
+
+	@Test
+	void byDayBeforeStartIsNotCounted() {
+		LocalDate wednesday = MONDAY.plusDays(2);
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=3");
+
+		assertThat(rule.occurrences(wednesday, JULY_FIRST, JULY_LAST))
+			.containsExactly(wednesday, MONDAY.plusWeeks(1), wednesday.plusWeeks(1));
+	}
+
+	@Test
+	void monthlySkipsMonthsWithoutTheDay() {
+		LocalDate start = LocalDate.of(2025, 1, 31);
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+
+		assertThat(rule.occurrences(start, start, LocalDate.of(2025, 5, 31))).containsExactly(
+			start, LocalDate.of(2025, 3, 31), LocalDate.of(2025, 5, 31));
+		assertThat(rule.lastOccurrence(start)).isNull();
+	}
+
+	@Test
+	void nothingBeforeStart() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+		assertThat(rule.occurrences(LocalDate.of(2025, 8, 1), JULY_FIRST, JULY_LAST)).isEmpty();
+		assertThat(rule.occurrences(MONDAY, JULY_FIRST, JULY_LAST)).hasSize(25).first().isEqualTo(MONDAY);
+		assertThat(rule.occurrences(MONDAY, JULY_FIRST, JULY_LAST)).last().isEqualTo(JULY_LAST);
+	}
+
+	@Test
+	void openEndedRuleHasNoLastOccurrence() {
+		assertThat(RecurrenceRule.parse("FREQ=WEEKLY").lastOccurrence(MONDAY)).isNull();
+		assertThat(RecurrenceRule.parse("FREQ=WEEKLY").occurrences(MONDAY, MONDAY, MONDAY.plusWeeks(3)))
+			.isEqualTo(List.of(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2), MONDAY.plusWeeks(3)));
+	}
+}
@@ -0,0 +1,146 @@
+package com.leavebridge.calendar.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.leavebridge.calendar.enums.CapacityPool;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 같은 날짜 카운터에 여러 요청이 동시에 몰려도 한도만큼만 증가하는지 (인메모리 H2, 요청마다 별도 트랜잭션)
+ */
+class LeaveDayCapacityRepositoryTest {
+
+	private static final LocalDate DAY = LocalDate.of(2025, 7, 14);
+	private static final List<CapacityPool> POOLS = CapacityPool.of(false);
+	private static final int LIMIT = 3;
+	private static final int REQUESTS = 20;
+
+	private String url;
+	private LeaveDayCapacityRepository repository;
+	private TransactionTemplate writeTx;
+
+	@BeforeEach
+	void setUp() {
+		url = "jdbc:h2:mem:capacity-" + System.nanoTime()
+			  + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;NON_KEYWORDS=DAY";
+		DataSource dataSource = new DriverManagerDataSource(url);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("""
+			CREATE TABLE LEAVE_DAY_CAPACITY (
+			    DAY DATE NOT NULL,
+			    POOL VARCHAR(20) NOT NULL,
+			    ABSENT_COUNT INT NOT NULL DEFAULT 0,
+			    PRIMARY KEY (DAY, POOL)
+			)
+			""");
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		repository = new LeaveDayCapacityRepository(jdbcTemplate);
+		writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void concurrentIncrementsNeverExceedLimit() throws Exception {
+		assertThat(race(REQUESTS)).isEqualTo(LIMIT);
+		assertThat(repository.count(DAY, CapacityPool.TOTAL)).isEqualTo(LIMIT);
+		assertThat(repository.count(DAY, CapacityPool.REGULAR)).isEqualTo(LIMIT);
+	}
+
+	@Test
+	void decrementFreesExactlyOneSlot() throws Exception {
+		race(REQUESTS);
+		writeTx.executeWithoutResult(status -> POOLS.forEach(pool -> repository.decrement(DAY, pool)));
+
+		assertThat(race(REQUESTS)).isEqualTo(1);
+		assertThat(repository.count(DAY, CapacityPool.TOTAL)).isEqualTo(LIMIT);
+	}
+
+	@Test
+	void rolledBackIncrementDoesNotConsumeSlot() {
+		writeTx.executeWithoutResult(status -> {
+			repository.ensureRows(List.of(DAY), POOLS);
+			assertThat(repository.tryIncrement(DAY, CapacityPool.TOTAL, LIMIT)).isTrue();
+			status.setRollbackOnly();
+		});
+
+		// 행 생성도 같은 트랜잭션이라 함께 롤백
+		assertThat(repository.count(DAY, CapacityPool.TOTAL)).isZero();
+	}
+
+	@Test
+	void ensureRowsNeedsNoSecondConnection() {
+		// 커넥션 1개짜리 풀 - 행 생성이 커넥션을 하나 더 빌리면 대기 시간 초과로 실패
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl(url);
+		config.setMaximumPoolSize(1);
+		config.setConnectionTimeout(250);
+		try (HikariDataSource singlePool = new HikariDataSource(config)) {
+			LeaveDayCapacityRepository pooled = new LeaveDayCapacityRepository(new JdbcTemplate(singlePool));
+			TransactionTemplate pooledTx = new TransactionTemplate(new DataSourceTransactionManager(singlePool));
+
+			pooledTx.executeWithoutResult(status -> {
+				pooled.ensureRows(List.of(DAY, DAY.plusDays(1)), POOLS);
+				assertThat(pooled.tryIncrement(DAY, CapacityPool.TOTAL, LIMIT)).isTrue();
+				// 이미 있는 행은 그대로
+				pooled.ensureRows(List.of(DAY), POOLS);
+			});
+		}
+
+		assertThat(repository.count(DAY, CapacityPool.TOTAL)).isEqualTo(1);
+		assertThat(repository.count(DAY.plusDays(1), CapacityPool.TOTAL)).isZero();
+	}
+
+	/**
+	 * 동시에 출발한 요청들이 (행 생성 -> 풀 순서대로 증가) 를 각자 트랜잭션으로 시도, 성공 건수 반환
+	 */
+	private int race(int requests) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(requests);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger succeeded = new AtomicInteger();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < requests; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					writeTx.executeWithoutResult(status -> {
+						repository.ensureRows(List.of(DAY), POOLS);
+						for (CapacityPool pool : POOLS) {
+							if (!repository.tryIncrement(DAY, pool, LIMIT)) {
+								status.setRollbackOnly();
+								return;
+							}
+						}
+						succeeded.incrementAndGet();
+					});
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return succeeded.get();
+	}
+}
@@ -0,0 +1,206 @@
+package com.leavebridge.calendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.leavebridge.calendar.cache.MonthKeyedCacheRegistry;
+import com.leavebridge.calendar.dto.CreateLeaveRequestDto;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.exception.LeaveConflictException;
+import com.leavebridge.calendar.ledger.LeaveUsage;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.repository.LeaveAndHolidayRepository;
+import com.leavebridge.member.entitiy.Member;
+import com.leavebridge.member.repository.MemberRepository;
+
+/**
+ * 겹치는 부재 일정 등록 - 거절, 합치기, 합친 뒤 실패 시 롤백, 같은 회원 동시 등록 (인메모리 H2, 요청마다 별도 트랜잭션)
+ * - 구글 삭제는 커밋된 뒤에만 반영되어야 하므로 deleteAfterCommit 이 등록한 afterCommit 실행 횟수로 확인
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:overlap;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;NON_KEYWORDS=DAY",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CalendarServiceOverlapTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 7, 14);
+
+	@Configuration
+	@EntityScan(basePackageClasses = {LeaveAndHoliday.class, Member.class})
+	@EnableJpaRepositories(basePackageClasses = {LeaveAndHolidayRepository.class, MemberRepository.class},
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+			classes = {LeaveAndHolidayRepository.class, MemberRepository.class}))
+	static class JpaConfig {
+	}
+
+	@Autowired
+	private LeaveAndHolidayRepository leaveAndHolidayRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final DtoAdjustService dtoAdjustService = mock(DtoAdjustService.class);
+	private final WorkingMinutesLedger workingMinutesLedger = mock(WorkingMinutesLedger.class);
+	private final LeaveCapacityService leaveCapacityService = mock(LeaveCapacityService.class);
+	private final GoogleCalendarSyncService googleCalendarSyncService = mock(GoogleCalendarSyncService.class);
+	private final AtomicInteger googleDeletesCommitted = new AtomicInteger();
+
+	private CalendarService calendarService;
+	private TransactionTemplate writeTx;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		leaveAndHolidayRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		member = memberRepository.save(Member.builder().name("홍길동").loginId("hong").build());
+
+		when(dtoAdjustService.processLeaveRequestDataForCreate(any(), anyBoolean()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		when(workingMinutesLedger.calculate(any(), any(), any(), any(), anyBoolean()))
+			.thenReturn(new LeaveUsage(480, ""));
+		doAnswer(invocation -> {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					googleDeletesCommitted.incrementAndGet();
+				}
+			});
+			return null;
+		}).when(googleCalendarSyncService).deleteAfterCommit(any(), any());
+
+		calendarService = new CalendarService(leaveAndHolidayRepository, mock(GoogleCalendarAPIService.class),
+			dtoAdjustService, mock(GoogleEventPatcher.class), mock(ApplicationEventPublisher.class),
+			workingMinutesLedger, mock(LeaveSeriesService.class), memberRepository,
+			mock(MonthKeyedCacheRegistry.class), leaveCapacityService, mock(LeaveDayService.class),
+			googleCalendarSyncService);
+		writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void rejectsOverlapWithoutMerge() {
+		LeaveAndHoliday existing = saveFullDayLeave(MONDAY, "google-1");
+
+		assertThatThrownBy(() -> create(fullDay(MONDAY, MONDAY.plusDays(1)), false))
+			.isInstanceOfSatisfying(LeaveConflictException.class,
+				e -> assertThat(e.getResponse().mergeable()).isTrue());
+
+		assertThat(leaveAndHolidayRepository.findAll()).extracting(LeaveAndHoliday::getId)
+			.containsExactly(existing.getId());
+		verifyNoInteractions(googleCalendarSyncService);
+	}
+
+	@Test
+	void mergesIntoOneLeaveAndDeletesGoogleEventAfterCommit() {
+		saveFullDayLeave(MONDAY, "google-1");
+
+		create(fullDay(MONDAY.plusDays(1), MONDAY.plusDays(2)), true);
+
+		assertThat(leaveAndHolidayRepository.findAll()).singleElement().satisfies(leave -> {
+			assertThat(leave.getStartDate()).isEqualTo(MONDAY);
+			assertThat(leave.getEndDate()).isEqualTo(MONDAY.plusDays(2));
+		});
+		verify(googleCalendarSyncService).deleteAfterCommit(any(), eq("google-1"));
+		verify(googleCalendarSyncService, never()).deleteOrDefer(any(), any());
+		assertThat(googleDeletesCommitted).hasValue(1);
+	}
+
+	@Test
+	void failedMergeKeepsExistingLeaveAndGoogleEvent() {
+		LeaveAndHoliday existing = saveFullDayLeave(MONDAY, "google-1");
+		doThrow(new ResponseStatusException(HttpStatus.CONFLICT, "부재 인원 한도 초과"))
+			.when(leaveCapacityService).onCreated(any());
+
+		assertThatThrownBy(() -> create(fullDay(MONDAY, MONDAY.plusDays(1)), true))
+			.isInstanceOf(ResponseStatusException.class);
+
+		assertThat(leaveAndHolidayRepository.findAll()).extracting(LeaveAndHoliday::getId)
+			.containsExactly(existing.getId());
+		verify(googleCalendarSyncService, never()).deleteOrDefer(any(), any());
+		assertThat(googleDeletesCommitted).hasValue(0);
+	}
+
+	@Test
+	void concurrentSameSubmissionsSaveOnce() throws Exception {
+		int requests = 2;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < requests; i++) {
+				results.add(executor.submit(() -> {
+					start.await(5, TimeUnit.SECONDS);
+					try {
+						create(fullDay(MONDAY, MONDAY), false);
+						return true;
+					} catch (LeaveConflictException e) {
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int saved = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(20, TimeUnit.SECONDS)) {
+					saved++;
+				}
+			}
+			assertThat(saved).isEqualTo(1);
+		}
+		assertThat(leaveAndHolidayRepository.count()).isEqualTo(1);
+	}
+
+	private void create(CreateLeaveRequestDto dto, boolean merge) {
+		writeTx.executeWithoutResult(status -> calendarService.createTimedEvent(dto, member, merge));
+	}
+
+	private LeaveAndHoliday saveFullDayLeave(LocalDate day, String googleEventId) {
+		LeaveAndHoliday leave = LeaveAndHoliday.of(fullDay(day, day), member, googleEventId);
+		leave.updateIsHoliday(false);
+		leave.updateUsedLeaveHours(1.0);
+		return leaveAndHolidayRepository.save(leave);
+	}
+
+	private static CreateLeaveRequestDto fullDay(LocalDate startDate, LocalDate endDate) {
+		return new CreateLeaveRequestDto("홍길동 연차", true, LeaveType.FULL_DAY_LEAVE, startDate, endDate, null, null,
+			null, false);
+	}
+}
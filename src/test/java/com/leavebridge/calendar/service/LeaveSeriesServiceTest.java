@@ -0,0 +1,93 @@
+package com.leavebridge.calendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.leavebridge.calendar.dto.CreateLeaveSeriesRequestDto;
+import com.leavebridge.calendar.dto.MonthlyEvent;
+import com.leavebridge.calendar.entity.LeaveAndHoliday;
+import com.leavebridge.calendar.entity.LeaveSeries;
+import com.leavebridge.calendar.entity.LeaveSeriesException;
+import com.leavebridge.calendar.enums.LeaveType;
+import com.leavebridge.calendar.ledger.WorkingMinutesCalendar;
+import com.leavebridge.calendar.ledger.WorkingMinutesLedger;
+import com.leavebridge.calendar.repository.LeaveSeriesExceptionRepository;
+import com.leavebridge.calendar.repository.LeaveSeriesRepository;
+import com.leavebridge.member.entitiy.Member;
+
+/**
+ * 매주 월요일 회의 시리즈를 7월 한 달 전개 - 휴일은 건너뛰고 취소/변경 예외를 반영하는지
+ */
+class LeaveSeriesServiceTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 7, 7);
+	private static final LocalDate JULY_FIRST = LocalDate.of(2025, 7, 1);
+	private static final LocalDate JULY_LAST = LocalDate.of(2025, 7, 31);
+
+	private final LeaveSeriesRepository leaveSeriesRepository = mock(LeaveSeriesRepository.class);
+	private final LeaveSeriesExceptionRepository leaveSeriesExceptionRepository =
+		mock(LeaveSeriesExceptionRepository.class);
+	private final WorkingMinutesLedger workingMinutesLedger = mock(WorkingMinutesLedger.class);
+	private final LeaveSeriesService leaveSeriesService = new LeaveSeriesService(leaveSeriesRepository,
+		leaveSeriesExceptionRepository, workingMinutesLedger, mock(ApplicationEventPublisher.class));
+
+	private final Member member = Member.builder().id(1L).build();
+	private final LeaveSeries series = LeaveSeries.builder()
+		.id(10L)
+		.title("주간 회의")
+		.member(member)
+		.leaveType(LeaveType.MEETING)
+		.startDate(MONDAY)
+		.startTime(LocalTime.of(10, 0))
+		.endTime(LocalTime.of(11, 0))
+		.recurrenceRule("FREQ=WEEKLY")
+		.build();
+
+	@Test
+	void expandsWithHolidaysAndExceptions() {
+		LeaveAndHoliday holiday = LeaveAndHoliday.builder()
+			.startDate(MONDAY.plusWeeks(1))
+			.endDate(MONDAY.plusWeeks(1))
+			.isAllDay(true)
+			.isHoliday(true)
+			.leaveType(LeaveType.PUBLIC_HOLIDAY)
+			.build();
+		WorkingMinutesCalendar calendar = WorkingMinutesCalendar.build(JULY_FIRST, JULY_LAST, List.of(holiday), false);
+		when(workingMinutesLedger.calendarFor(any(), eq(JULY_FIRST), eq(JULY_LAST), eq(false))).thenReturn(calendar);
+		when(leaveSeriesRepository.findAllOverlapping(JULY_FIRST, JULY_LAST)).thenReturn(List.of(series));
+
+		LeaveSeriesException cancelled = LeaveSeriesException.cancelled(series, MONDAY.plusWeeks(2));
+		LeaveSeriesException moved = LeaveSeriesException.builder().series(series).occurrenceDate(MONDAY.plusWeeks(3))
+			.build();
+		moved.override("회의 (오후)", LocalTime.of(14, 0), LocalTime.of(15, 0));
+		when(leaveSeriesExceptionRepository.findAllBySeriesIdInAndOccurrenceDateBetween(List.of(10L), JULY_FIRST,
+			JULY_LAST)).thenReturn(List.of(cancelled, moved));
+
+		List<MonthlyEvent> events = leaveSeriesService.listOccurrences(JULY_FIRST, JULY_LAST);
+
+		// 7/14 휴일, 7/21 취소 -> 7/7 원래 시간, 7/28 변경된 제목/시간
+		assertThat(events).extracting(MonthlyEvent::title, MonthlyEvent::start).containsExactly(
+			tuple("주간 회의", LocalDateTime.of(MONDAY, LocalTime.of(10, 0))),
+			tuple("회의 (오후)", LocalDateTime.of(MONDAY.plusWeeks(3), LocalTime.of(14, 0))));
+		assertThat(events).extracting(MonthlyEvent::seriesId).containsOnly(10L);
+	}
+
+	@Test
+	void rejectsConsumingSeries() {
+		CreateLeaveSeriesRequestDto dto = new CreateLeaveSeriesRequestDto("병원", LeaveType.OUTING, MONDAY,
+			LocalTime.of(10, 0), LocalTime.of(11, 0), "FREQ=WEEKLY", null);
+
+		assertThatThrownBy(() -> leaveSeriesService.createSeries(dto, member))
+			.isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(leaveSeriesRepository);
+	}
+}
@@ -0,0 +1,73 @@
+package com.leavebridge.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 호스트별 연결 한도가 요청이 실제로 쓰는 경로(DefaultRoutePlanner 결과)에 걸리는지
+ */
+class HttpClientConfigTest {
+
+	private static final int MAX_PER_HOST = 5;
+	private static final int GOOGLE_MAX_PER_HOST = 20;
+	private static final int HOLIDAY_API_MAX_PER_HOST = 7;
+
+	private final DefaultRoutePlanner routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	@BeforeEach
+	void setUp() {
+		HttpClientConfig config = new HttpClientConfig();
+		ReflectionTestUtils.setField(config, "maxTotal", 50);
+		ReflectionTestUtils.setField(config, "maxPerHost", MAX_PER_HOST);
+		ReflectionTestUtils.setField(config, "googleMaxPerHost", GOOGLE_MAX_PER_HOST);
+		ReflectionTestUtils.setField(config, "holidayApiMaxPerHost", HOLIDAY_API_MAX_PER_HOST);
+		ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(3));
+		ReflectionTestUtils.setField(config, "readTimeout", Duration.ofSeconds(20));
+		ReflectionTestUtils.setField(config, "timeToLive", Duration.ofMinutes(10));
+		connectionManager = config.httpClientConnectionManager(new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionManager.close();
+	}
+
+	@Test
+	void perHostLimitsApplyToPlannedRoutes() throws Exception {
+		assertThat(connectionManager.getMaxPerRoute(plannedRoute(HttpClientConfig.GOOGLE_API_HOST)))
+			.isEqualTo(GOOGLE_MAX_PER_HOST);
+		assertThat(connectionManager.getMaxPerRoute(plannedRoute(HttpClientConfig.HOLIDAY_API_HOST)))
+			.isEqualTo(HOLIDAY_API_MAX_PER_HOST);
+		// 포트를 생략한 주소로 요청해도 같은 경로
+		assertThat(connectionManager.getMaxPerRoute(plannedRoute(new HttpHost("https", "www.googleapis.com", -1))))
+			.isEqualTo(GOOGLE_MAX_PER_HOST);
+	}
+
+	@Test
+	void routeOfMatchesPlannerForHttpsAndHttp() throws Exception {
+		for (HttpHost host : new HttpHost[] {HttpClientConfig.GOOGLE_API_HOST, HttpClientConfig.GOOGLE_OAUTH_HOST,
+			HttpClientConfig.HOLIDAY_API_HOST}) {
+			assertThat(HttpClientConfig.routeOf(host)).isEqualTo(plannedRoute(host));
+		}
+		assertThat(plannedRoute(HttpClientConfig.GOOGLE_API_HOST).isSecure()).isTrue();
+	}
+
+	private HttpRoute plannedRoute(HttpHost host) throws Exception {
+		return routePlanner.determineRoute(host, HttpClientContext.create());
+	}
+}
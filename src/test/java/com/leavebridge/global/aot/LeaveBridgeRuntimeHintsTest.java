@@ -0,0 +1,33 @@
+package com.leavebridge.global.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.leavebridge.calendar.api.AnniversaryClient;
+import com.leavebridge.calendar.api.dto.ResponseWrapper;
+import com.leavebridge.calendar.dto.MonthlyEvent;
+import com.leavebridge.calendar.entity.QLeaveAndHoliday;
+
+/**
+ * 클래스패스 스캔으로 AOT 힌트가 등록되는지 확인 (Q 클래스, Feign 프록시/응답 타입, DTO)
+ */
+class LeaveBridgeRuntimeHintsTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@Test
+	void registersScannedTypes() {
+		new LeaveBridgeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(QLeaveAndHoliday.class)
+			.withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.proxies().forInterfaces(AnniversaryClient.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(ResponseWrapper.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(MonthlyEvent.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("credentials.json")).accepts(hints);
+	}
+}
@@ -0,0 +1,72 @@
+package com.leavebridge.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 키 동시 조회는 loader 한 번, 끝난 뒤 조회는 다시 실행
+ */
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+	@Test
+	void concurrentCallsShareOneLoad() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<Integer> leader = executor.submit(() -> singleFlight.execute("2025-07", () -> {
+				loading.countDown();
+				await(release);
+				return loads.incrementAndGet();
+			}));
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// 진행 중인 동안 들어온 같은 키는 loader 를 실행하지 않고 기다림
+			Future<Integer> follower = executor.submit(() -> singleFlight.execute("2025-07", loads::incrementAndGet));
+			while (meterRegistry.counter("leavebridge.singleflight.coalesced", "name", "test").count() < 1) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+
+			assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+		assertThat(loads).hasValue(1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+
+		// 끝난 키는 보관하지 않으므로 다시 실행
+		assertThat(singleFlight.execute("2025-07", loads::incrementAndGet)).isEqualTo(2);
+	}
+
+	@Test
+	void failureIsRethrownAndNotKept() {
+		assertThatThrownBy(() -> singleFlight.execute("2025-07", () -> {
+			throw new IllegalArgumentException("실패");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(singleFlight.inFlightCount()).isZero();
+		assertThat(singleFlight.execute("2025-07", () -> 1)).isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
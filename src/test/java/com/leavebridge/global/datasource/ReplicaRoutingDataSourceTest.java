@@ -0,0 +1,106 @@
+package com.leavebridge.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 인메모리 H2 두 개를 Primary/Replica 로 두고 라우팅 확인
+ * - 각 DB 의 MARKER 테이블 값으로 어느 쪽에서 읽었는지 구분
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private final AtomicReference<Long> currentMemberId = new AtomicReference<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnlyTx;
+	private TransactionTemplate writeTx;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = h2("primary");
+		DataSource replica = h2("replica");
+
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica,
+			new ReadYourWritesTracker(Duration.ofSeconds(5)), currentMemberId::get, meterRegistry);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+		writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void readOnlyTransactionGoesToReplica() {
+		assertThat(readOnlyTx.execute(status -> marker())).isEqualTo("replica");
+	}
+
+	@Test
+	void writeTransactionGoesToPrimary() {
+		assertThat(writeTx.execute(status -> marker())).isEqualTo("primary");
+	}
+
+	@Test
+	void readsAfterOwnWriteStayOnPrimary() {
+		currentMemberId.set(1L);
+		writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE MARKER SET NAME = NAME"));
+
+		assertThat(readOnlyTx.execute(status -> marker())).isEqualTo("primary");
+		assertThat(meterRegistry.counter("leavebridge.datasource.routing",
+			"target", "primary", "reason", "read-your-writes").count()).isEqualTo(1.0);
+
+		// 다른 회원의 읽기는 여전히 Replica
+		currentMemberId.set(2L);
+		assertThat(readOnlyTx.execute(status -> marker())).isEqualTo("replica");
+	}
+
+	@Test
+	void rolledBackWriteDoesNotPinReads() {
+		currentMemberId.set(1L);
+		writeTx.executeWithoutResult(status -> {
+			jdbcTemplate.update("UPDATE MARKER SET NAME = NAME");
+			status.setRollbackOnly();
+		});
+
+		assertThat(readOnlyTx.execute(status -> marker())).isEqualTo("replica");
+	}
+
+	@Test
+	void primaryReadsPinReadOnlyTransactions() {
+		assertThat(PrimaryReads.call(() -> readOnlyTx.execute(status -> marker()))).isEqualTo("primary");
+		assertThat(meterRegistry.counter("leavebridge.datasource.routing",
+			"target", "primary", "reason", "pinned").count()).isEqualTo(1.0);
+
+		// 벗어나면 다시 Replica
+		assertThat(readOnlyTx.execute(status -> marker())).isEqualTo("replica");
+	}
+
+	private String marker() {
+		return jdbcTemplate.queryForObject("SELECT NAME FROM MARKER", String.class);
+	}
+
+	private DataSource h2(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate template = new JdbcTemplate(dataSource);
+		template.execute("CREATE TABLE MARKER (NAME VARCHAR(20))");
+		template.update("INSERT INTO MARKER VALUES (?)", name);
+		return dataSource;
+	}
+}
@@ -0,0 +1,47 @@
+package com.leavebridge.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 시계를 직접 움직여 버킷 잔량/예약 대기 계산 확인 (초당 2개, 최대 2개)
+ */
+class TokenBucketTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final TokenBucket bucket = new TokenBucket(2, 2, now::get);
+
+	@Test
+	void burstThenWaitsForRefill() {
+		assertThat(bucket.reserve(Duration.ZERO)).isZero();
+		assertThat(bucket.reserve(Duration.ZERO)).isZero();
+
+		// 토큰이 없으면 0.5초 뒤 생길 토큰을 예약, 그 다음은 1초 뒤
+		assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+		assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	void failsWithoutReservingWhenWaitTooLong() {
+		bucket.reserve(Duration.ZERO);
+		bucket.reserve(Duration.ZERO);
+
+		assertThat(bucket.reserve(Duration.ofMillis(100))).isEqualTo(-1);
+		// 실패한 시도는 예약을 남기지 않음
+		assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+	}
+
+	@Test
+	void pauseBlocksUntilRetryAfter() {
+		bucket.pause(Duration.ofSeconds(3));
+
+		assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(-1);
+		now.addAndGet(TimeUnit.SECONDS.toNanos(3));
+		assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+	}
+}